@@ -0,0 +1,86 @@
+package com.shoekream.common.cache;
+
+import com.shoekream.domain.brand.dto.BrandInfo;
+import com.shoekream.domain.product.common.Currency;
+import com.shoekream.domain.product.common.SizeClassification;
+import com.shoekream.domain.product.common.SizeUnit;
+import com.shoekream.domain.product.dto.ProductInfo;
+import com.shoekream.domain.trade.dto.TradeBidInfos;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 캐시 값 직렬화 비교 - 기존 JSON vs Smile(+LZ4)
+ * 상품 상세 캐시(ProductInfo) 한 건의 직렬화 · 역직렬화 시간을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheSerializerBenchmark {
+
+    @Param({"JSON", "SMILE"})
+    private CacheValueFormat format;
+
+    // 사이즈별 입찰 수 - 220 ~ 300 (5 단위) 사이즈마다 판매 · 구매 입찰
+    @Param({"1", "10"})
+    private int bidsPerSize;
+
+    private RedisSerializer<Object> serializer;
+    private ProductInfo productInfo;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() {
+        serializer = CacheSerializers.of(format, 1024);
+        productInfo = productInfo(bidsPerSize);
+        serialized = serializer.serialize(productInfo);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(productInfo);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(serialized);
+    }
+
+    private static ProductInfo productInfo(int bidsPerSize) {
+        List<TradeBidInfos> salesBids = new ArrayList<>();
+        List<TradeBidInfos> purchaseBids = new ArrayList<>();
+        long tradeId = 1L;
+        for (double size = 220.0; size <= 300.0; size += 5.0) {
+            for (int i = 0; i < bidsPerSize; i++) {
+                salesBids.add(new TradeBidInfos(tradeId++, 1L, size, 250_000L + i * 1_000L));
+                purchaseBids.add(new TradeBidInfos(tradeId++, 1L, size, 200_000L - i * 1_000L));
+            }
+        }
+
+        return ProductInfo.builder()
+                .id(1L)
+                .name("Nike Dunk Low Retro Black")
+                .modelNumber("DD1391-100")
+                .color("WHITE/BLACK")
+                .releaseDate(LocalDate.of(2021, 1, 14))
+                .releasePrice(129_000L)
+                .currency(Currency.KRW)
+                .sizeClassification(SizeClassification.MEN)
+                .sizeUnit(SizeUnit.MM)
+                .minSize(220.0)
+                .maxSize(300.0)
+                .sizeGap(5.0)
+                .brandInfo(new BrandInfo(1L, "Nike", "https://shoekream.s3.amazonaws.com/brand/nike.png",
+                        "https://shoekream-resized.s3.amazonaws.com/brand/nike.png"))
+                .originImagePath("https://shoekream.s3.amazonaws.com/product/dd1391-100.png")
+                .resizedImagePath("https://shoekream-resized.s3.amazonaws.com/product/dd1391-100.png")
+                .salesBids(salesBids)
+                .purchaseBids(purchaseBids)
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.shoekream.common.filter;
+
+import com.shoekream.common.util.JwtClaims;
+import com.shoekream.common.util.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 Jwt 검증 비용 비교
+ * 기존 필터 (만료 · 이메일 · 권한마다 서명 검증) vs 한 번만 검증 vs 검증된 클레임 캐시 적중
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET_KEY = "benchmark-secret-key-benchmark-secret-key";
+
+    private String token;
+    private JwtClaimsCache jwtClaimsCache;
+
+    @Setup
+    public void setUp() {
+        token = JwtUtil.createToken("user@shoekream.com", "ROLE_USER", SECRET_KEY, TimeUnit.HOURS.toMillis(1L));
+        jwtClaimsCache = new JwtClaimsCache(SECRET_KEY, 10_000L);
+        jwtClaimsCache.verify(token);
+    }
+
+    @Benchmark
+    public void parseThreeTimes(Blackhole blackhole) {
+        blackhole.consume(JwtUtil.isExpired(token, SECRET_KEY));
+        blackhole.consume(JwtUtil.getUserEmail(token, SECRET_KEY));
+        blackhole.consume(JwtUtil.getRole(token, SECRET_KEY));
+    }
+
+    @Benchmark
+    public JwtClaims parseOnce() {
+        return JwtUtil.verify(token, SECRET_KEY);
+    }
+
+    @Benchmark
+    public JwtClaims cacheHit() {
+        return jwtClaimsCache.verify(token);
+    }
+}
@@ -0,0 +1,15 @@
+package com.shoekream.common.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Idempotency-Key 헤더가 있는 요청은 같은 키로 다시 들어와도 한 번만 처리하고,
+ * 이후 요청에는 처음 처리한 응답을 그대로 돌려준다.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Idempotent {
+}
@@ -0,0 +1,132 @@
+package com.shoekream.common.aop;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shoekream.common.exception.ErrorCode;
+import com.shoekream.common.exception.ShoeKreamException;
+import com.shoekream.dao.IdempotencyDao;
+import com.shoekream.dao.IdempotencyRecord;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.shoekream.common.util.constants.IdempotencyConstants.*;
+
+/**
+ * @Idempotent 가 붙은 API 의 재시도 요청 처리
+ * 회원 검증(UserCheck) 보다 먼저 실행되어, 이미 처리된 요청은 DB 를 거치지 않고 저장된 응답을 그대로 돌려준다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class IdempotencyCheck {
+
+    private final IdempotencyDao idempotencyDao;
+    private final ObjectMapper objectMapper;
+
+    @Around(value = "@annotation(com.shoekream.common.annotation.Idempotent)")
+    public Object idempotentAdviceHandler(ProceedingJoinPoint joinPoint) throws Throwable {
+        Optional<String> idempotencyKey = currentRequest()
+                .map(request -> request.getHeader(IDEMPOTENCY_KEY_HEADER))
+                .filter(StringUtils::hasText);
+        Optional<Authentication> authentication = Stream.of(joinPoint.getArgs())
+                .filter(arg -> arg instanceof Authentication)
+                .map(arg -> (Authentication) arg)
+                .findAny();
+
+        if (idempotencyKey.isEmpty() || authentication.isEmpty()) {
+            return joinPoint.proceed();
+        }
+        if (idempotencyKey.get().length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new ShoeKreamException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+
+        // 다른 회원이 같은 키를 보내도 서로의 응답을 받지 않도록 회원 단위로 구분
+        String key = authentication.get().getName() + ":" + idempotencyKey.get();
+        String requestHash = hash(joinPoint);
+
+        if (!idempotencyDao.start(key, requestHash)) {
+            return replay(key, requestHash);
+        }
+
+        Object result;
+        IdempotencyDao.Renewal renewal = idempotencyDao.keepAlive(key, requestHash);
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            idempotencyDao.release(key);
+            throw e;
+        } finally {
+            // 처리가 끝나면 응답 저장 전에 선점 연장 중단 (해제된 키는 연장 스크립트가 건드리지 않음)
+            renewal.close();
+        }
+
+        ResponseEntity<?> response = (ResponseEntity<?>) result;
+        idempotencyDao.complete(key, IdempotencyRecord.completed(requestHash,
+                response.getStatusCode().value(), objectMapper.writeValueAsString(response.getBody())));
+
+        return response;
+    }
+
+    private ResponseEntity<?> replay(String key, String requestHash) throws Exception {
+        IdempotencyRecord record = idempotencyDao.find(key)
+                .orElseThrow(() -> new ShoeKreamException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS));
+
+        if (!record.isSameRequest(requestHash)) {
+            throw new ShoeKreamException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        if (!record.isCompleted()) {
+            throw new ShoeKreamException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+
+        return ResponseEntity.status(record.getResponseStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(IDEMPOTENCY_REPLAYED_HEADER, "true")
+                .body(objectMapper.readTree(record.getResponseBody()));
+    }
+
+    // 호출한 API 와 요청 본문으로 해시 생성 - 같은 키로 다른 요청을 보냈는지 확인
+    private String hash(ProceedingJoinPoint joinPoint) throws Exception {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        digest.update(joinPoint.getSignature().toLongString().getBytes(StandardCharsets.UTF_8));
+        for (Object arg : joinPoint.getArgs()) {
+            if (arg instanceof Authentication || arg instanceof BindingResult) {
+                continue;
+            }
+            digest.update(objectMapper.writeValueAsBytes(arg));
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private Optional<HttpServletRequest> currentRequest() {
+        return Optional.ofNullable(RequestContextHolder.getRequestAttributes())
+                .filter(attributes -> attributes instanceof ServletRequestAttributes)
+                .map(attributes -> ((ServletRequestAttributes) attributes).getRequest());
+    }
+}
@@ -0,0 +1,102 @@
+package com.shoekream.common.aop;
+
+import com.shoekream.common.db.ReplicaRoutingContext;
+import com.shoekream.dao.RecentWriteDao;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 쓰기 직후 읽기는 master 에서 처리 (read-your-writes)
+ * 회원의 쓰기 요청(POST · PUT · PATCH · DELETE)은 시작 · 종료 시점에 기록하고,
+ * 기록 후 일정 시간 안에 들어온 같은 회원의 요청은 읽기 전용 트랜잭션도 master 로 보낸다.
+ * 기록을 확인할 수 없으면 master 로 보낸다.
+ */
+@Slf4j
+@Aspect
+@Component
+public class ReadYourWritesRouting {
+
+    private static final Set<String> WRITE_METHODS = Set.of(
+            HttpMethod.POST.name(), HttpMethod.PUT.name(), HttpMethod.PATCH.name(), HttpMethod.DELETE.name());
+
+    private final RecentWriteDao recentWriteDao;
+    private final Duration window;
+
+    public ReadYourWritesRouting(RecentWriteDao recentWriteDao,
+                                 @Value("${datasource.read-your-writes.window-millis:3000}") long windowMillis) {
+        this.recentWriteDao = recentWriteDao;
+        this.window = Duration.ofMillis(windowMillis);
+    }
+
+    @Around(value = "execution(* com.shoekream.controller..*.*(..))")
+    public Object routingAdviceHandler(ProceedingJoinPoint joinPoint) throws Throwable {
+        Optional<String> email = Stream.of(joinPoint.getArgs())
+                .filter(arg -> arg instanceof Authentication)
+                .map(arg -> ((Authentication) arg).getName())
+                .findAny();
+        Optional<HttpServletRequest> request = currentRequest();
+
+        if (email.isEmpty() || request.isEmpty()) {
+            return joinPoint.proceed();
+        }
+
+        if (WRITE_METHODS.contains(request.get().getMethod())) {
+            // 응답이 먼저 나가고 다음 조회가 들어올 수 있으므로 처리 전에도 기록
+            markWrite(email.get());
+            try {
+                return joinPoint.proceed();
+            } finally {
+                markWrite(email.get());
+            }
+        }
+
+        if (!hasRecentWrite(email.get())) {
+            return joinPoint.proceed();
+        }
+
+        ReplicaRoutingContext.pinToMaster();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReplicaRoutingContext.clear();
+        }
+    }
+
+    private void markWrite(String email) {
+        try {
+            recentWriteDao.markWrite(email, window);
+        } catch (DataAccessException e) {
+            log.warn("recent write mark failed - email : {}", email, e);
+        }
+    }
+
+    private boolean hasRecentWrite(String email) {
+        try {
+            return recentWriteDao.hasRecentWrite(email);
+        } catch (DataAccessException e) {
+            log.warn("recent write lookup failed - email : {}", email, e);
+            return true;
+        }
+    }
+
+    private Optional<HttpServletRequest> currentRequest() {
+        return Optional.ofNullable(RequestContextHolder.getRequestAttributes())
+                .filter(attributes -> attributes instanceof ServletRequestAttributes)
+                .map(attributes -> ((ServletRequestAttributes) attributes).getRequest());
+    }
+}
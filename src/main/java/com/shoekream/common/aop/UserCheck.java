@@ -1,8 +1,6 @@
 package com.shoekream.common.aop;
 
-import com.shoekream.common.exception.ErrorCode;
-import com.shoekream.common.exception.ShoeKreamException;
-import com.shoekream.domain.user.UserRepository;
+import com.shoekream.domain.user.UserPrincipalResolver;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -17,7 +15,7 @@ import java.util.stream.Stream;
 @RequiredArgsConstructor
 public class UserCheck {
 
-    private final UserRepository userRepository;
+    private final UserPrincipalResolver userPrincipalResolver;
 
     @Around(value = "execution(* com.shoekream.controller..*.*(..))")
     public Object validAdviceHandler(ProceedingJoinPoint joinPoint) throws Throwable {
@@ -26,10 +24,8 @@ public class UserCheck {
                 .filter(arg -> arg instanceof Authentication)
                 .map(arg -> (Authentication) arg)
                 .findAny()
-                .ifPresent((authentication) ->
-                        userRepository.findByEmail(authentication.getName())
-                                .orElseThrow(() -> new ShoeKreamException(ErrorCode.USER_NOT_FOUND))
-                );
+                // 가입된 회원인지 확인 - 확인한 회원 정보는 같은 요청의 서비스에서 다시 조회하지 않음
+                .ifPresent(authentication -> userPrincipalResolver.resolve(authentication.getName()));
 
         return joinPoint.proceed();
     }
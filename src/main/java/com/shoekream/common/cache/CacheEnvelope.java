@@ -0,0 +1,46 @@
+package com.shoekream.common.cache;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시 값 + 신선도 정보
+ * freshUntil 이전은 그대로 사용, staleUntil 이전은 기존 값을 쓰면서 한 요청만 새로 읽고, 이후는 캐시에 없는 것으로 본다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CacheEnvelope {
+
+    private Object value;
+    private long freshUntil;
+    private long staleUntil;
+
+    public static CacheEnvelope of(Object value, CachePolicy policy, long now) {
+        if (policy.getStaleWhileRevalidate().isZero()) {
+            return permanent(value);
+        }
+        long freshUntil = now + policy.jitter(policy.getTtl()).toMillis();
+        return new CacheEnvelope(value, freshUntil, freshUntil + policy.getStaleWhileRevalidate().toMillis());
+    }
+
+    // 신선도 정보 없이 저장된 값 - 만료는 Redis TTL 에 맡긴다
+    public static CacheEnvelope permanent(Object value) {
+        return new CacheEnvelope(value, Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    // 삭제 대신 지금부터 staleWhileRevalidate 동안만 기존 값을 쓰도록 변경
+    public CacheEnvelope stale(CachePolicy policy, long now) {
+        return new CacheEnvelope(value, now, now + policy.getStaleWhileRevalidate().toMillis());
+    }
+
+    public boolean isFreshAt(long now) {
+        return now < freshUntil;
+    }
+
+    public boolean isExpiredAt(long now) {
+        return now >= staleUntil;
+    }
+}
@@ -0,0 +1,27 @@
+package com.shoekream.common.cache;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 다른 노드의 로컬 캐시를 비우기 위한 메세지
+ * key 가 없으면 해당 캐시 전체를 비운다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CacheInvalidationMessage {
+
+    private String origin;
+    private String cacheName;
+    private String key;
+
+    // 메세지 필드로 직렬화되면 받는 쪽에서 알 수 없는 필드로 읽기에 실패하므로 제외
+    @JsonIgnore
+    public boolean isClear() {
+        return key == null;
+    }
+}
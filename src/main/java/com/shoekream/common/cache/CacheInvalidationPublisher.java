@@ -0,0 +1,44 @@
+package com.shoekream.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+import static com.shoekream.common.util.constants.CacheConstants.CACHE_INVALIDATION_CHANNEL;
+
+/**
+ * @CacheEvict 발생 시 Redis pub/sub 으로 다른 노드에 로컬 캐시 무효화 전파
+ * 메세지가 유실되더라도 로컬 캐시는 짧은 TTL 후 만료된다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationPublisher {
+
+    // 자신이 보낸 메세지는 무시하기 위한 노드 식별자
+    @Getter
+    private final String origin = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void evict(String cacheName, String key) {
+        publish(new CacheInvalidationMessage(origin, cacheName, key));
+    }
+
+    public void clear(String cacheName) {
+        publish(new CacheInvalidationMessage(origin, cacheName, null));
+    }
+
+    private void publish(CacheInvalidationMessage message) {
+        try {
+            stringRedisTemplate.convertAndSend(CACHE_INVALIDATION_CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("로컬 캐시 무효화 전파 실패 cache={} key={}", message.getCacheName(), message.getKey(), e);
+        }
+    }
+}
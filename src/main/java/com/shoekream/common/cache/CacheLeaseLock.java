@@ -0,0 +1,41 @@
+package com.shoekream.common.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.shoekream.common.util.constants.CacheConstants.CACHE_LEASE_KEY_PREFIX;
+
+/**
+ * 캐시 로딩 선점 (여러 노드 간 공유)
+ * 캐시가 비었을 때 선점한 노드만 DB 에서 읽고, 나머지 노드는 캐시가 채워지기를 기다린다.
+ */
+@RequiredArgsConstructor
+public class CacheLeaseLock {
+
+    // 본인이 선점한 토큰일 때만 삭제 (TTL 만료 후 다른 노드가 선점한 키를 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 선점 성공 시 해제할 때 필요한 토큰 반환
+    public Optional<String> tryAcquire(String key, Duration leaseTime) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = stringRedisTemplate.opsForValue()
+                .setIfAbsent(CACHE_LEASE_KEY_PREFIX + key, token, leaseTime);
+
+        return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+    }
+
+    public void release(String key, String token) {
+        stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(CACHE_LEASE_KEY_PREFIX + key), token);
+    }
+}
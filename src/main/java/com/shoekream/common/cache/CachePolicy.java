@@ -0,0 +1,85 @@
+package com.shoekream.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair.fromSerializer;
+
+/**
+ * 캐시 이름별 설정 - Redis(L2) TTL · 키 prefix · null 캐싱 · 압축 기준, 로컬(L1) 크기 · TTL, 캐시 갱신 방식
+ */
+@Getter
+@Builder(toBuilder = true)
+public class CachePolicy {
+
+    private final Duration ttl;
+
+    // 0.1 이면 ttl 의 최대 10% 만큼 짧게 저장 - 같이 저장된 키가 한 번에 만료되지 않도록
+    @Builder.Default
+    private final double ttlJitterRatio = 0.0;
+
+    // null 이면 기본 prefix (캐시이름::)
+    private final String keyPrefix;
+
+    @Builder.Default
+    private final boolean cacheNullValues = false;
+
+    // 이 크기(바이트) 이상인 값만 압축 (Smile 형식일 때만 적용)
+    @Builder.Default
+    private final int compressionThreshold = 1024;
+
+    // 0 보다 크면 ttl 이 지나거나 삭제된 뒤에도 이 시간 동안 기존 값을 반환하고, 한 요청만 새로 읽는다
+    @Builder.Default
+    private final Duration staleWhileRevalidate = Duration.ZERO;
+
+    // 캐시가 비었을 때 여러 노드 중 한 노드만 DB 에서 읽도록 Redis 로 선점
+    @Builder.Default
+    private final boolean leaseLock = false;
+
+    @Builder.Default
+    private final Duration leaseTimeout = Duration.ofSeconds(3);
+
+    @Builder.Default
+    private final long localMaximumSize = 10_000;
+
+    @Builder.Default
+    private final Duration localTtl = Duration.ofSeconds(30);
+
+    public RedisCacheConfiguration toRedisCacheConfiguration(CacheValueFormat valueFormat) {
+        RedisCacheConfiguration configuration = RedisCacheConfiguration
+                .defaultCacheConfig()
+                .serializeKeysWith(fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(fromSerializer(CacheSerializers.of(valueFormat, compressionThreshold)))
+                .entryTtl(ttl.plus(staleWhileRevalidate));
+
+        if (!cacheNullValues) {
+            configuration = configuration.disableCachingNullValues();
+        }
+        if (keyPrefix != null) {
+            configuration = configuration.computePrefixWith(cacheName -> keyPrefix + cacheName + "::");
+        }
+        return configuration;
+    }
+
+    public Cache<String, CacheEnvelope> buildLocalCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTtl)
+                .build();
+    }
+
+    public Duration jitter(Duration ttl) {
+        if (ttl == null || ttl.isZero() || ttl.isNegative() || ttlJitterRatio <= 0) {
+            return ttl;
+        }
+        long maxJitterMillis = (long) (ttl.toMillis() * ttlJitterRatio);
+        return ttl.minusMillis(ThreadLocalRandom.current().nextLong(maxJitterMillis + 1));
+    }
+}
@@ -0,0 +1,67 @@
+package com.shoekream.common.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Redis 캐시 값 직렬화 구현체 생성
+ */
+public class CacheSerializers {
+
+    private CacheSerializers() {
+    }
+
+    public static RedisSerializer<Object> of(CacheValueFormat format, int compressionThreshold) {
+        return switch (format) {
+            case JSON -> json();
+            case SMILE -> compact(compressionThreshold);
+        };
+    }
+
+    public static RedisSerializer<Object> json() {
+        return new GenericJackson2JsonRedisSerializer(objectMapper(new ObjectMapper()).enable(SerializationFeature.INDENT_OUTPUT));
+    }
+
+    public static RedisSerializer<Object> compact(int compressionThreshold) {
+        return new CompactCacheSerializer(objectMapper(new ObjectMapper(new SmileFactory())), json(), compressionThreshold);
+    }
+
+    // 캐시 값은 여러 타입이 섞여 있으므로 클래스 정보를 함께 저장해야 역직렬화 가능
+    private static ObjectMapper objectMapper(ObjectMapper objectMapper) {
+
+        PolymorphicTypeValidator typeValidator = BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType(Object.class)
+                .build();
+
+        return objectMapper
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .registerModule(new JavaTimeModule())
+                .activateDefaultTyping(typeValidator, ObjectMapper.DefaultTyping.NON_FINAL);
+    }
+
+//    public ObjectMapper objectMapper() {
+//        // jackson 2.10이상 3.0버전까지 적용 가능
+//        PolymorphicTypeValidator typeValidator = BasicPolymorphicTypeValidator.builder()
+//                .allowIfSubType(Object.class)
+//                .build();
+//
+//        return JsonMapper.builder()
+//                .polymorphicTypeValidator(typeValidator)
+//                .enable(SerializationFeature.INDENT_OUTPUT)
+//                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+//                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+//                .addModule(new JavaTimeModule())
+//                .activateDefaultTyping(typeValidator, ObjectMapper.DefaultTyping.NON_FINAL)
+//                .build();
+//    }
+
+}
@@ -0,0 +1,11 @@
+package com.shoekream.common.cache;
+
+/**
+ * Redis 캐시 값 저장 형식
+ */
+public enum CacheValueFormat {
+    // 기존 형식 - 타입 정보를 포함한 JSON
+    JSON,
+    // 타입 정보를 포함한 Smile(바이너리 JSON) + 일정 크기 이상이면 LZ4 압축
+    SMILE
+}
@@ -0,0 +1,85 @@
+package com.shoekream.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Redis 캐시 값 직렬화 - Smile 로 직렬화하고 compressionThreshold 바이트 이상이면 LZ4 로 압축
+ * 첫 바이트에 저장 형식을 기록하며, 형식 바이트가 없는 값은 기존 JSON 으로 저장된 값으로 보고 legacySerializer 로 읽는다.
+ */
+public class CompactCacheSerializer implements RedisSerializer<Object> {
+
+    static final byte FORMAT_SMILE = 1;
+    static final byte FORMAT_SMILE_LZ4 = 2;
+
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final ObjectMapper smileMapper;
+    private final RedisSerializer<Object> legacySerializer;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor = LZ4.fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4.fastDecompressor();
+
+    public CompactCacheSerializer(ObjectMapper smileMapper, RedisSerializer<Object> legacySerializer, int compressionThreshold) {
+        this.smileMapper = smileMapper;
+        this.legacySerializer = legacySerializer;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        byte[] smile;
+        try {
+            smile = smileMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write Smile: " + e.getMessage(), e);
+        }
+
+        if (smile.length < compressionThreshold) {
+            return ByteBuffer.allocate(1 + smile.length)
+                    .put(FORMAT_SMILE)
+                    .put(smile)
+                    .array();
+        }
+
+        byte[] compressed = new byte[compressor.maxCompressedLength(smile.length)];
+        int compressedLength = compressor.compress(smile, 0, smile.length, compressed, 0, compressed.length);
+        return ByteBuffer.allocate(1 + Integer.BYTES + compressedLength)
+                .put(FORMAT_SMILE_LZ4)
+                .putInt(smile.length)
+                .put(compressed, 0, compressedLength)
+                .array();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try {
+            return switch (bytes[0]) {
+                case FORMAT_SMILE -> smileMapper.readValue(bytes, 1, bytes.length - 1, Object.class);
+                case FORMAT_SMILE_LZ4 -> {
+                    int originalLength = ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt();
+                    byte[] smile = decompressor.decompress(bytes, 1 + Integer.BYTES, originalLength);
+                    yield smileMapper.readValue(smile, Object.class);
+                }
+                default -> legacySerializer.deserialize(bytes);
+            };
+        } catch (IOException e) {
+            throw new SerializationException("Could not read Smile: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.shoekream.common.cache;
+
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 저장 시 캐시 이름별 CachePolicy 의 ttlJitterRatio 만큼 TTL 을 흩뜨리는 RedisCacheWriter
+ * 같은 시점에 저장된 키가 같은 시점에 만료되어 DB 로 몰리는 것을 막는다.
+ */
+public class JitterRedisCacheWriter implements RedisCacheWriter {
+
+    private final RedisCacheWriter delegate;
+    private final Map<String, CachePolicy> policies;
+    private final CachePolicy defaultPolicy;
+
+    public JitterRedisCacheWriter(RedisCacheWriter delegate, Map<String, CachePolicy> policies, CachePolicy defaultPolicy) {
+        this.delegate = delegate;
+        this.policies = policies;
+        this.defaultPolicy = defaultPolicy;
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, Duration ttl) {
+        delegate.put(name, key, value, policy(name).jitter(ttl));
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key) {
+        return delegate.get(name, key);
+    }
+
+    @Override
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, Duration ttl) {
+        return delegate.putIfAbsent(name, key, value, policy(name).jitter(ttl));
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        delegate.remove(name, key);
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        delegate.clean(name, pattern);
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+        delegate.clearStatistics(name);
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        return new JitterRedisCacheWriter(delegate.withStatisticsCollector(cacheStatisticsCollector), policies, defaultPolicy);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return delegate.getCacheStatistics(cacheName);
+    }
+
+    private CachePolicy policy(String name) {
+        return policies.getOrDefault(name, defaultPolicy);
+    }
+}
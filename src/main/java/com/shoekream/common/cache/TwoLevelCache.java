@@ -0,0 +1,355 @@
+package com.shoekream.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.shoekream.common.util.constants.CacheConstants.CACHE_INVALIDATION_EPOCH_STRIPES;
+import static com.shoekream.common.util.constants.CacheConstants.CACHE_LEASE_POLL_MILLIS;
+
+/**
+ * 로컬(Caffeine) L1 + Redis L2 캐시
+ * 조회는 L1 → L2 순서로 하고, L2 에서 찾은 값은 L1 에 채워 둔다.
+ * 삭제는 L2 · 자기 노드 L1 을 비운 뒤 다른 노드의 L1 도 비우도록 전파한다.
+ *
+ * 캐시가 비었을 때(@Cacheable(sync = true)) 같은 키는 노드 내에서 한 요청만 로딩하고, leaseLock 설정 시 노드 간에도 한 노드만 로딩한다.
+ * staleWhileRevalidate 설정 시 삭제 · 만료 직후에는 기존 값을 반환하면서 한 요청만 새로 읽는다.
+ * L2 조회 · 로딩 도중 해당 키가 무효화되었으면 읽은 값을 L1 에 채우지 않는다. (무효화 이전 값이 L1 에 다시 남지 않도록)
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final CachePolicy policy;
+    private final com.github.benmanes.caffeine.cache.Cache<String, CacheEnvelope> localCache;
+    private final Cache remoteCache;
+    private final CacheInvalidationPublisher publisher;
+    // null 이면 노드 간 선점 없이 노드 내에서만 한 번 로딩
+    private final CacheLeaseLock leaseLock;
+
+    private final Map<String, CompletableFuture<CacheEnvelope>> loadings = new ConcurrentHashMap<>();
+    private final Set<String> refreshings = ConcurrentHashMap.newKeySet();
+
+    // 키 해시 구간별 · 전체 무효화 횟수 - L2 조회 전후로 비교해 도중에 무효화되었는지 확인
+    private final AtomicLongArray invalidationEpochs = new AtomicLongArray(CACHE_INVALIDATION_EPOCH_STRIPES);
+    private final AtomicLong clearEpoch = new AtomicLong();
+
+    public TwoLevelCache(String name,
+                         CachePolicy policy,
+                         com.github.benmanes.caffeine.cache.Cache<String, CacheEnvelope> localCache,
+                         Cache remoteCache,
+                         CacheInvalidationPublisher publisher,
+                         CacheLeaseLock leaseLock) {
+        this.name = name;
+        this.policy = policy;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.publisher = publisher;
+        this.leaseLock = leaseLock;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remoteCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        CacheEnvelope envelope = lookup(key);
+        if (envelope == null || envelope.isExpiredAt(now())) {
+            return null;
+        }
+        return new SimpleValueWrapper(envelope.getValue());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        long now = now();
+        CacheEnvelope envelope = lookup(key);
+
+        if (envelope != null && envelope.isFreshAt(now)) {
+            return (T) envelope.getValue();
+        }
+        if (envelope != null && !envelope.isExpiredAt(now)) {
+            // 갱신이 필요한 값 - 한 요청만 새로 읽고 나머지 요청은 기존 값 반환
+            return (T) refresh(key, valueLoader, envelope).getValue();
+        }
+        return (T) loadOnce(key, valueLoader).getValue();
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        checkNullValue(value);
+        CacheEnvelope envelope = CacheEnvelope.of(value, policy, now());
+        remoteCache.put(key, envelope);
+        localCache.put(localKey(key), envelope);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        checkNullValue(value);
+        CacheEnvelope envelope = CacheEnvelope.of(value, policy, now());
+        ValueWrapper existing = remoteCache.putIfAbsent(key, envelope);
+        if (existing == null) {
+            localCache.put(localKey(key), envelope);
+            return null;
+        }
+        return new SimpleValueWrapper(unwrap(existing).getValue());
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictIfPresent(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = policy.getStaleWhileRevalidate().isZero()
+                ? remoteCache.evictIfPresent(key)
+                : markStale(key);
+        evictLocal(localKey(key));
+        publisher.evict(name, localKey(key));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        clearLocal();
+        publisher.clear(name);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remoteCache.invalidate();
+        clearLocal();
+        publisher.clear(name);
+        return invalidated;
+    }
+
+    // 다른 노드에서 전파된 무효화 - L1 만 비운다
+    void evictLocal(String key) {
+        invalidationEpochs.incrementAndGet(stripe(key));
+        localCache.invalidate(key);
+    }
+
+    void clearLocal() {
+        clearEpoch.incrementAndGet();
+        localCache.invalidateAll();
+    }
+
+    private CacheEnvelope lookup(Object key) {
+        CacheEnvelope envelope = localCache.getIfPresent(localKey(key));
+        if (envelope != null && !envelope.isExpiredAt(now())) {
+            return envelope;
+        }
+        return lookupRemote(key);
+    }
+
+    private CacheEnvelope lookupRemote(Object key) {
+        long epoch = invalidationEpoch(localKey(key));
+        ValueWrapper wrapper = remoteCache.get(key);
+        if (wrapper == null) {
+            return null;
+        }
+
+        CacheEnvelope envelope = unwrap(wrapper);
+        if (!envelope.isExpiredAt(now())) {
+            putLocal(localKey(key), envelope, epoch);
+        }
+        return envelope;
+    }
+
+    // 캐시가 비었을 때 - 같은 키를 동시에 요청하면 먼저 들어온 요청의 로딩 결과를 함께 사용
+    private CacheEnvelope loadOnce(Object key, Callable<?> valueLoader) {
+        CompletableFuture<CacheEnvelope> loading = new CompletableFuture<>();
+        CompletableFuture<CacheEnvelope> inFlight = loadings.putIfAbsent(localKey(key), loading);
+        if (inFlight != null) {
+            return join(key, valueLoader, inFlight);
+        }
+
+        try {
+            CacheEnvelope envelope = loadWithLease(key, valueLoader);
+            loading.complete(envelope);
+            return envelope;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadings.remove(localKey(key), loading);
+        }
+    }
+
+    private CacheEnvelope loadWithLease(Object key, Callable<?> valueLoader) {
+        if (leaseLock == null) {
+            return load(key, valueLoader);
+        }
+
+        Optional<String> token = leaseLock.tryAcquire(leaseKey(key), policy.getLeaseTimeout());
+        if (token.isEmpty()) {
+            // 다른 노드가 로딩 중 - 캐시가 채워지기를 기다리고, 선점 시간이 지나도 비어 있으면 직접 로딩
+            CacheEnvelope loaded = awaitRemote(key);
+            return loaded != null ? loaded : load(key, valueLoader);
+        }
+
+        try {
+            // 선점하는 사이 다른 노드가 채웠을 수 있음
+            CacheEnvelope envelope = lookupRemote(key);
+            return envelope != null && envelope.isFreshAt(now()) ? envelope : load(key, valueLoader);
+        } finally {
+            leaseLock.release(leaseKey(key), token.get());
+        }
+    }
+
+    private CacheEnvelope refresh(Object key, Callable<?> valueLoader, CacheEnvelope stale) {
+        if (!refreshings.add(localKey(key))) {
+            return stale;
+        }
+
+        Optional<String> token = Optional.empty();
+        try {
+            if (leaseLock != null) {
+                token = leaseLock.tryAcquire(leaseKey(key), policy.getLeaseTimeout());
+                if (token.isEmpty()) {
+                    return stale;
+                }
+            }
+            return load(key, valueLoader);
+        } finally {
+            token.ifPresent(value -> leaseLock.release(leaseKey(key), value));
+            refreshings.remove(localKey(key));
+        }
+    }
+
+    private CacheEnvelope load(Object key, Callable<?> valueLoader) {
+        long epoch = invalidationEpoch(localKey(key));
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        CacheEnvelope envelope = CacheEnvelope.of(value, policy, now());
+        if (value != null || policy.isCacheNullValues()) {
+            remoteCache.put(key, envelope);
+            putLocal(localKey(key), envelope, epoch);
+        }
+        return envelope;
+    }
+
+    // 읽기 시작한 이후 무효화되었으면 L1 에 채우지 않음 - 채운 직후 무효화된 경우에도 무효화 쪽에서 비우거나 여기서 다시 비움
+    private void putLocal(String key, CacheEnvelope envelope, long epoch) {
+        if (invalidationEpoch(key) != epoch) {
+            return;
+        }
+        localCache.put(key, envelope);
+        if (invalidationEpoch(key) != epoch) {
+            localCache.invalidate(key);
+        }
+    }
+
+    // 구간별 횟수와 전체 무효화 횟수 모두 증가만 하므로 합이 같으면 그 사이 무효화가 없었음
+    private long invalidationEpoch(String key) {
+        return invalidationEpochs.get(stripe(key)) + clearEpoch.get();
+    }
+
+    private int stripe(String key) {
+        return Math.floorMod(key.hashCode(), CACHE_INVALIDATION_EPOCH_STRIPES);
+    }
+
+    private CacheEnvelope awaitRemote(Object key) {
+        long deadline = now() + policy.getLeaseTimeout().toMillis();
+        while (now() < deadline) {
+            try {
+                Thread.sleep(CACHE_LEASE_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+
+            CacheEnvelope envelope = lookupRemote(key);
+            if (envelope != null && envelope.isFreshAt(now())) {
+                return envelope;
+            }
+        }
+        return null;
+    }
+
+    // 삭제 대신 잠시 기존 값을 쓰도록 표시 - 바로 다음 요청들이 한꺼번에 DB 로 몰리지 않도록
+    private boolean markStale(Object key) {
+        ValueWrapper wrapper = remoteCache.get(key);
+        if (wrapper == null) {
+            return false;
+        }
+
+        CacheEnvelope envelope = unwrap(wrapper);
+        if (envelope.isExpiredAt(now())) {
+            return remoteCache.evictIfPresent(key);
+        }
+        remoteCache.put(key, envelope.stale(policy, now()));
+        return true;
+    }
+
+    private CacheEnvelope join(Object key, Callable<?> valueLoader, CompletableFuture<CacheEnvelope> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    private void checkNullValue(Object value) {
+        if (value == null && !policy.isCacheNullValues()) {
+            throw new IllegalArgumentException(String.format(
+                    "Cache '%s' does not allow 'null' values; Avoid storing null via '@Cacheable(unless=\"#result == null\")'", name));
+        }
+    }
+
+    // 신선도 정보 없이 저장된 이전 값도 읽을 수 있도록 함
+    private CacheEnvelope unwrap(ValueWrapper wrapper) {
+        Object value = wrapper.get();
+        return value instanceof CacheEnvelope envelope ? envelope : CacheEnvelope.permanent(value);
+    }
+
+    // Redis 키와 마찬가지로 문자열로 변환해서 노드 간에 같은 키로 무효화할 수 있도록 함
+    private String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private String leaseKey(Object key) {
+        return name + "::" + localKey(key);
+    }
+
+    private long now() {
+        return System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,88 @@
+package com.shoekream.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 캐시 매니저 앞에 캐시 이름별 로컬 캐시를 두는 캐시 매니저 (로컬 캐시 크기 · TTL 은 캐시 이름별 CachePolicy 적용)
+ * 다른 노드에서 전파된 무효화 메세지를 받아 자기 노드의 로컬 캐시를 비운다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private final CacheManager remoteCacheManager;
+    private final Map<String, CachePolicy> policies;
+    private final CachePolicy defaultPolicy;
+    private final CacheInvalidationPublisher publisher;
+    private final CacheLeaseLock leaseLock;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                Map<String, CachePolicy> policies,
+                                CachePolicy defaultPolicy,
+                                CacheInvalidationPublisher publisher,
+                                CacheLeaseLock leaseLock,
+                                ObjectMapper objectMapper) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.policies = policies;
+        this.defaultPolicy = defaultPolicy;
+        this.publisher = publisher;
+        this.leaseLock = leaseLock;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache remoteCache = remoteCacheManager.getCache(cacheName);
+            if (remoteCache == null) {
+                return null;
+            }
+
+            CachePolicy policy = policies.getOrDefault(cacheName, defaultPolicy);
+            return new TwoLevelCache(cacheName, policy, policy.buildLocalCache(), remoteCache, publisher,
+                    policy.isLeaseLock() ? leaseLock : null);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationMessage invalidation;
+        try {
+            invalidation = objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+        } catch (IOException e) {
+            log.warn("로컬 캐시 무효화 메세지를 읽을 수 없습니다.", e);
+            return;
+        }
+
+        if (publisher.getOrigin().equals(invalidation.getOrigin())) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(invalidation.getCacheName());
+        if (cache == null) {
+            return;
+        }
+        if (invalidation.isClear()) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(invalidation.getKey());
+        }
+    }
+}
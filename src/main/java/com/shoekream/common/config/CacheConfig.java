@@ -1,27 +1,32 @@
 package com.shoekream.common.config;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
-import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.shoekream.common.cache.CacheInvalidationPublisher;
+import com.shoekream.common.cache.CacheLeaseLock;
+import com.shoekream.common.cache.CachePolicy;
+import com.shoekream.common.cache.CacheValueFormat;
+import com.shoekream.common.cache.JitterRedisCacheWriter;
+import com.shoekream.common.cache.TwoLevelCacheManager;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
-import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
-import static org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair.fromSerializer;
+import static com.shoekream.common.util.constants.CacheConstants.*;
 
 @Configuration
 public class CacheConfig {
@@ -30,6 +35,14 @@ public class CacheConfig {
     private String host;
     @Value("${spring.data.redis.cache.port}")
     private int port;
+    @Value("${cache.redis.value-format:SMILE}")
+    private CacheValueFormat valueFormat;
+    @Value("${cache.redis.compression-threshold-bytes:1024}")
+    private int compressionThreshold;
+    @Value("${cache.local.maximum-size:10000}")
+    private long localMaximumSize;
+    @Value("${cache.local.expire-after-write-seconds:30}")
+    private long localExpireAfterWriteSeconds;
 
     // redis 연결 정보를 통해 캐싱 기능을 연결시킬 Bean
    @Bean(name = "redisCacheConnectionFactory")
@@ -41,55 +54,94 @@ public class CacheConfig {
         return new LettuceConnectionFactory(redisStandaloneConfiguration);
     }
 
-    // 설정 객체 default 설정 -- key/value를 어떻게 직렬화해서 redis에 저장할지를 정의함
-    private RedisCacheConfiguration defaultCacheConfiguration() {
-        return RedisCacheConfiguration
-                .defaultCacheConfig()
-                .disableCachingNullValues()
-                .serializeKeysWith(fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(fromSerializer(new GenericJackson2JsonRedisSerializer(objectMapper())))
-                .entryTtl(Duration.ofDays(1L));
+    // 설정 객체 default 설정 -- 정책이 등록되지 않은 캐시에 적용
+    private CachePolicy defaultCachePolicy() {
+        return CachePolicy.builder()
+                .ttl(Duration.ofDays(1L))
+                .ttlJitterRatio(0.1)
+                .compressionThreshold(compressionThreshold)
+                .localMaximumSize(localMaximumSize)
+                .localTtl(Duration.ofSeconds(localExpireAfterWriteSeconds))
+                .build();
+    }
+
+    // 캐시 이름별 설정
+    private Map<String, CachePolicy> cachePolicies() {
+        CachePolicy defaultPolicy = defaultCachePolicy();
+
+        return Map.of(
+                // 상품 수정 · 삭제 시에만 삭제되는 데이터 - 인기 상품은 캐시가 비었을 때 요청이 몰리므로 노드 간 한 번만 로딩
+                // 삭제 직후에도 요청이 몰리므로 삭제 후 3초간 기존 값을 반환하면서 한 요청만 다시 로딩
+                PRODUCT_STATICS_CACHE, defaultPolicy.toBuilder()
+                        .ttl(Duration.ofDays(1L))
+                        .ttlJitterRatio(0.2)
+                        .staleWhileRevalidate(Duration.ofSeconds(3L))
+                        .leaseLock(true)
+                        .leaseTimeout(Duration.ofSeconds(2L))
+                        .localTtl(Duration.ofMinutes(5L))
+                        .build(),
+                // 거의 변경되지 않는 데이터
+                BRANDS_CACHE, defaultPolicy.toBuilder()
+                        .ttl(Duration.ofDays(7L))
+                        .localMaximumSize(100L)
+                        .localTtl(Duration.ofMinutes(5L))
+                        .build(),
+                // 인증된 요청마다 확인하는 회원 정보 - 탈퇴 · 권한 변경 시 삭제되며, 삭제가 누락되어도 짧게만 유지
+                USER_PRINCIPALS_CACHE, defaultPolicy.toBuilder()
+                        .ttl(Duration.ofMinutes(5L))
+                        .localTtl(Duration.ofSeconds(30L))
+                        .build()
+        );
     }
 
     // 캐시에서 redis 사용하기 위한 Bean
     @Bean
-    public CacheManager redisCacheManager(@Qualifier("redisCacheConnectionFactory") RedisConnectionFactory connectionFactory) {
+    public RedisCacheManager redisCacheManager(@Qualifier("redisCacheConnectionFactory") RedisConnectionFactory connectionFactory) {
+        CachePolicy defaultPolicy = defaultCachePolicy();
+        Map<String, CachePolicy> policies = cachePolicies();
+
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+        policies.forEach((cacheName, policy) -> cacheConfigurations.put(cacheName, policy.toRedisCacheConfiguration(valueFormat)));
+
+        // 저장 시 캐시 이름별로 TTL 분산
+        RedisCacheWriter cacheWriter = new JitterRedisCacheWriter(
+                RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory), policies, defaultPolicy);
+
         return RedisCacheManager
                 .RedisCacheManagerBuilder
-                .fromConnectionFactory(connectionFactory)    // connection 적용
-                .cacheDefaults(defaultCacheConfiguration())  //  캐시 설정 적용
+                .fromCacheWriter(cacheWriter)                                          // connection 적용
+                .cacheDefaults(defaultPolicy.toRedisCacheConfiguration(valueFormat))   //  캐시 설정 적용
+                .withInitialCacheConfigurations(cacheConfigurations)                   //  캐시 이름별 설정 적용
                 .build();
     }
 
-    private ObjectMapper objectMapper() {
+    // 로컬 캐시 무효화 메세지 발행 - 캐시용 redis 의 pub/sub 사용
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(@Qualifier("redisCacheConnectionFactory") RedisConnectionFactory connectionFactory) {
+        return new CacheInvalidationPublisher(new StringRedisTemplate(connectionFactory), new ObjectMapper());
+    }
 
-        PolymorphicTypeValidator typeValidator = BasicPolymorphicTypeValidator.builder()
-                .allowIfSubType(Object.class)
-                .build();
+    // @Cacheable · @CacheEvict 가 사용하는 캐시 매니저 - 로컬 캐시(L1)를 먼저 조회하고 없으면 redis(L2) 조회
+    // 로컬 캐시는 크기 제한(W-TinyLFU) · 짧은 TTL 적용 (캐시 이름별 CachePolicy)
+    @Bean
+    @Primary
+    public TwoLevelCacheManager cacheManager(RedisCacheManager redisCacheManager,
+                                             CacheInvalidationPublisher cacheInvalidationPublisher,
+                                             @Qualifier("redisCacheConnectionFactory") RedisConnectionFactory connectionFactory) {
+        CacheLeaseLock leaseLock = new CacheLeaseLock(new StringRedisTemplate(connectionFactory));
 
-        return new ObjectMapper()
-                .findAndRegisterModules()
-                .enable(SerializationFeature.INDENT_OUTPUT)
-                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
-                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-                .registerModule(new JavaTimeModule())
-                .activateDefaultTyping(typeValidator, ObjectMapper.DefaultTyping.NON_FINAL);
+        return new TwoLevelCacheManager(redisCacheManager, cachePolicies(), defaultCachePolicy(),
+                cacheInvalidationPublisher, leaseLock, new ObjectMapper());
     }
 
-//    public ObjectMapper objectMapper() {
-//        // jackson 2.10이상 3.0버전까지 적용 가능
-//        PolymorphicTypeValidator typeValidator = BasicPolymorphicTypeValidator.builder()
-//                .allowIfSubType(Object.class)
-//                .build();
-//
-//        return JsonMapper.builder()
-//                .polymorphicTypeValidator(typeValidator)
-//                .enable(SerializationFeature.INDENT_OUTPUT)
-//                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
-//                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-//                .addModule(new JavaTimeModule())
-//                .activateDefaultTyping(typeValidator, ObjectMapper.DefaultTyping.NON_FINAL)
-//                .build();
-//    }
+    // 다른 노드에서 발생한 @CacheEvict 를 받아 로컬 캐시 비우기
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(@Qualifier("redisCacheConnectionFactory") RedisConnectionFactory connectionFactory,
+                                                                            TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(CACHE_INVALIDATION_CHANNEL));
+        return container;
+    }
 
 }
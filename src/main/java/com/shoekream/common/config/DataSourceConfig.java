@@ -1,6 +1,7 @@
 package com.shoekream.common.config;
 
 import com.shoekream.common.db.DynamicRoutingDataSource;
+import com.shoekream.common.db.ReplicaLagMonitor;
 import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.jpa.boot.spi.EntityManagerFactoryBuilder;
@@ -15,6 +16,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
 import org.springframework.context.annotation.Primary;
 import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
@@ -54,8 +56,9 @@ public class DataSourceConfig {
     @Bean
     public DataSource routingDataSource(
             @Qualifier("masterDataSource") DataSource master,
-            @Qualifier("slaveDataSource") DataSource slave) {
-        DynamicRoutingDataSource routingDataSource = new DynamicRoutingDataSource();
+            @Qualifier("slaveDataSource") DataSource slave,
+            ReplicaLagMonitor replicaLagMonitor) {
+        DynamicRoutingDataSource routingDataSource = new DynamicRoutingDataSource(replicaLagMonitor);
 
         Map<Object, Object> dataSourceMap = new HashMap<>();
 
@@ -75,6 +78,12 @@ public class DataSourceConfig {
     }
 
 
+    // JPA 트랜잭션에 참여하는 JDBC 배치 작업용 (같은 dataSource 사용)
+    @Bean
+    public JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        return new JdbcTemplate(dataSource);
+    }
+
     @Bean
     public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
         LocalContainerEntityManagerFactoryBean em = new LocalContainerEntityManagerFactoryBean();
@@ -0,0 +1,29 @@
+package com.shoekream.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import static com.shoekream.common.util.constants.ExportConstants.EXPORT_EXECUTOR_THREAD_PREFIX;
+
+@Configuration
+public class ExportConfig {
+
+    // 내보내기 한 건이 slave 커넥션 하나를 끝까지 점유하므로 동시 실행 수 제한
+    @Value("${export.max-concurrency:4}")
+    private int exportMaxConcurrency;
+
+    // 내보내기 전용 executor - 다른 비동기 요청(기본 MVC executor · 타임아웃)과 분리
+    @Bean(name = "exportExecutor")
+    public AsyncTaskExecutor exportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(exportMaxConcurrency);
+        executor.setMaxPoolSize(exportMaxConcurrency);
+        executor.setQueueCapacity(exportMaxConcurrency * 2);
+        executor.setThreadNamePrefix(EXPORT_EXECUTOR_THREAD_PREFIX);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,25 @@
+package com.shoekream.common.config;
+
+import com.shoekream.domain.trade.orderbook.OrderBookManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import static com.shoekream.common.util.constants.TradeConstants.ORDER_BOOK_CHANNEL;
+
+@Configuration
+public class OrderBookConfig {
+
+    // 다른 노드에서 커밋된 입찰 등록 · 제거를 받아 자기 노드의 호가창에 반영
+    @Bean
+    public RedisMessageListenerContainer orderBookListenerContainer(@Qualifier("redisAuthConnectionFactory") RedisConnectionFactory connectionFactory,
+                                                                    OrderBookManager orderBookManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(orderBookManager, new ChannelTopic(ORDER_BOOK_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,24 @@
+package com.shoekream.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // @Scheduled 작업 (slave 복제 지연 heartbeat · 미발송 거래 취소 · 포인트 스냅샷 · 호가창 재구성) 이 사용하는 스케줄러
+    // 기본 스케줄러는 스레드가 1개라 오래 걸리는 배치 작업이 heartbeat 를 밀어내므로 작업 수만큼 스레드를 둔다.
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+
+        // 스레드 이름 지정 (Scheduler-{스레드넘버})
+        scheduler.setThreadNamePrefix("Scheduler-");
+        return scheduler;
+    }
+}
@@ -1,6 +1,8 @@
 package com.shoekream.common.config;
 
 import com.shoekream.common.filter.JwtAuthenticationFilter;
+import com.shoekream.common.filter.JwtClaimsCache;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -19,6 +21,8 @@ public class SecurityConfig {
 
     @Value("${jwt.secret}")
     private String secretKey;
+    @Value("${jwt.claims-cache.maximum-size:100000}")
+    private long claimsCacheMaximumSize;
 
 
     @Bean
@@ -32,6 +36,8 @@ public class SecurityConfig {
 
                 .and()
                 .authorizeHttpRequests()
+                // 내보내기 비동기 응답(WebAsyncTask) 완료 후 async dispatch 는 최초 요청에서 이미 인가됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers(HttpMethod.GET,"/api/v1/brands/**").permitAll()
                 .requestMatchers(HttpMethod.GET,"/api/v1/products/**").permitAll()
 
@@ -44,6 +50,7 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.GET,"/api/v1/users/addresses").authenticated()
                 .requestMatchers(HttpMethod.DELETE,"/api/v1/users/addresses/**").authenticated()
                 .requestMatchers(HttpMethod.PATCH,"/api/v1/users/addresses/**").authenticated()
+                .requestMatchers(HttpMethod.GET,"/api/v1/users/points/audit/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.POST,"/api/v1/users/points/**").authenticated()
                 .requestMatchers(HttpMethod.GET,"/api/v1/users/points/**").authenticated()
 
@@ -54,14 +61,23 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.PUT,"/api/v1/products/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.DELETE,"/api/v1/products/**").hasRole("ADMIN")
 
+                .requestMatchers(HttpMethod.GET,"/api/v1/trades/**").authenticated()
+                .requestMatchers(HttpMethod.PATCH,"/api/v1/trades/wareHousing", "/api/v1/trades/inspection").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.PATCH,"/api/v1/trades/*/wareHousing", "/api/v1/trades/*/inspection").hasRole("ADMIN")
+
                 .requestMatchers(HttpMethod.GET,"/api/v1/carts/**").authenticated()
                 .requestMatchers(HttpMethod.POST,"/api/v1/carts/**").authenticated()
                 .requestMatchers(HttpMethod.DELETE,"/api/v1/carts/**").authenticated()
                 .anyRequest().permitAll()
 
                 .and()
-                .addFilterBefore(new JwtAuthenticationFilter(secretKey), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtClaimsCache()), UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
 
+    // 검증된 Jwt 클레임 캐시 - 같은 토큰의 반복 요청은 서명 검증 생략
+    @Bean
+    public JwtClaimsCache jwtClaimsCache() {
+        return new JwtClaimsCache(secretKey, claimsCacheMaximumSize);
+    }
 }
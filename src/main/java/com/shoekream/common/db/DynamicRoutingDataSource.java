@@ -1,15 +1,29 @@
 package com.shoekream.common.db;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
 
 import static com.shoekream.common.util.constants.DataSourceConstants.MASTER;
 import static com.shoekream.common.util.constants.DataSourceConstants.SLAVE;
 import static org.springframework.transaction.support.TransactionSynchronizationManager.isCurrentTransactionReadOnly;
 
+/**
+ * 읽기 전용 트랜잭션은 slave, 그 외는 master
+ * 단, 최근 쓰기가 있었던 회원의 요청이거나 slave 복제 지연이 허용치를 넘으면 읽기도 master 로 보낸다.
+ */
+@RequiredArgsConstructor
 public class DynamicRoutingDataSource extends AbstractRoutingDataSource {
 
+    private final ReplicaLagMonitor replicaLagMonitor;
+
     @Override
     protected Object determineCurrentLookupKey() {
-        return isCurrentTransactionReadOnly() ? SLAVE : MASTER;
+        if (!isCurrentTransactionReadOnly()) {
+            return MASTER;
+        }
+        if (ReplicaRoutingContext.isPinnedToMaster() || replicaLagMonitor.isLagging()) {
+            return MASTER;
+        }
+        return SLAVE;
     }
-}
\ No newline at end of file
+}
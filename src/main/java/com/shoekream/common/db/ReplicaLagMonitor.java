@@ -0,0 +1,113 @@
+package com.shoekream.common.db;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+
+import static com.shoekream.common.util.constants.DataSourceConstants.REPLICA_HEARTBEAT_ID;
+import static com.shoekream.common.util.constants.DataSourceConstants.REPLICA_LAG_STALE_INTERVALS;
+
+/**
+ * slave 복제 지연 측정 (heartbeat 테이블)
+ * master 에 heartbeat 를 기록하고, slave 에 복제된 heartbeat 가 얼마나 뒤처져 있는지 주기적으로 확인한다.
+ * 지연이 허용치를 넘거나 slave 를 조회할 수 없으면 읽기 전용 트랜잭션도 master 로 보낸다.
+ * 측정 단위는 heartbeat 주기이며, 스케줄러가 밀려 측정이 오래 멈춰 있어도 지연으로 간주한다.
+ */
+@Slf4j
+@Component
+public class ReplicaLagMonitor {
+
+    private static final String UPDATE_HEARTBEAT = "update replica_heartbeat set beat_at = current_timestamp(3) where id = ?";
+    private static final String INSERT_HEARTBEAT = "insert into replica_heartbeat (id, beat_at) values (?, current_timestamp(3))";
+    private static final String SELECT_HEARTBEAT = "select beat_at, current_timestamp(3) from replica_heartbeat where id = ?";
+
+    private final JdbcTemplate masterJdbcTemplate;
+    private final JdbcTemplate slaveJdbcTemplate;
+    private final long maxLagMillis;
+    private final long staleAfterMillis;
+    private final Clock clock;
+
+    // 측정 전에는 0 (slave 사용), slave 조회 실패 시 Long.MAX_VALUE (master 사용)
+    private volatile long lagMillis = 0L;
+
+    // 마지막으로 측정에 성공한 시각 (기동 직후 측정 전까지는 생성 시각)
+    private volatile long lastMeasuredAt;
+
+    @Autowired
+    public ReplicaLagMonitor(@Qualifier("masterDataSource") DataSource masterDataSource,
+                             @Qualifier("slaveDataSource") DataSource slaveDataSource,
+                             @Value("${datasource.replica.max-lag-millis:3000}") long maxLagMillis,
+                             @Value("${datasource.replica.heartbeat-interval-millis:1000}") long heartbeatIntervalMillis) {
+        this(new JdbcTemplate(masterDataSource), new JdbcTemplate(slaveDataSource), maxLagMillis, heartbeatIntervalMillis, Clock.systemUTC());
+    }
+
+    ReplicaLagMonitor(JdbcTemplate masterJdbcTemplate, JdbcTemplate slaveJdbcTemplate,
+                      long maxLagMillis, long heartbeatIntervalMillis, Clock clock) {
+        this.masterJdbcTemplate = masterJdbcTemplate;
+        this.slaveJdbcTemplate = slaveJdbcTemplate;
+        this.maxLagMillis = maxLagMillis;
+        this.staleAfterMillis = heartbeatIntervalMillis * REPLICA_LAG_STALE_INTERVALS;
+        this.clock = clock;
+        this.lastMeasuredAt = clock.millis();
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.heartbeat-interval-millis:1000}")
+    public void heartbeat() {
+        try {
+            beat();
+        } catch (DataAccessException e) {
+            log.warn("replica heartbeat write failed", e);
+        }
+
+        try {
+            lagMillis = measure();
+            lastMeasuredAt = clock.millis();
+        } catch (DataAccessException e) {
+            lagMillis = Long.MAX_VALUE;
+            log.warn("replica lag measurement failed", e);
+        }
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    // 측정값이 허용치를 넘었거나, 마지막 측정이 오래되어 현재 지연을 알 수 없으면 지연
+    public boolean isLagging() {
+        return lagMillis > maxLagMillis || clock.millis() - lastMeasuredAt > staleAfterMillis;
+    }
+
+    private void beat() {
+        if (masterJdbcTemplate.update(UPDATE_HEARTBEAT, REPLICA_HEARTBEAT_ID) > 0) {
+            return;
+        }
+        try {
+            masterJdbcTemplate.update(INSERT_HEARTBEAT, REPLICA_HEARTBEAT_ID);
+        } catch (DuplicateKeyException e) {
+            // 다른 노드가 먼저 생성함
+        }
+    }
+
+    // slave 에 아직 heartbeat 가 없으면 (최초 복제 전) 지연으로 간주
+    long measure() {
+        return slaveJdbcTemplate.query(SELECT_HEARTBEAT, rs -> {
+            if (!rs.next()) {
+                return Long.MAX_VALUE;
+            }
+            Timestamp beatAt = rs.getTimestamp(1);
+            Timestamp now = rs.getTimestamp(2);
+            return Math.max(0L, Duration.between(beatAt.toInstant(), now.toInstant()).toMillis());
+        }, REPLICA_HEARTBEAT_ID);
+    }
+}
@@ -0,0 +1,25 @@
+package com.shoekream.common.db;
+
+/**
+ * 현재 스레드의 읽기 전용 트랜잭션을 master 로 보낼지 여부
+ * 쓰기 직후 같은 회원의 조회가 아직 반영되지 않은 slave 로 가지 않도록 요청 단위로 설정한다.
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_MASTER = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    public static void pinToMaster() {
+        PINNED_TO_MASTER.set(Boolean.TRUE);
+    }
+
+    public static boolean isPinnedToMaster() {
+        return Boolean.TRUE.equals(PINNED_TO_MASTER.get());
+    }
+
+    public static void clear() {
+        PINNED_TO_MASTER.remove();
+    }
+}
@@ -18,6 +18,10 @@ public enum ErrorCode {
     BRAND_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 브랜드를 찾을 수 없습니다."),
     DUPLICATED_BRAND(HttpStatus.CONFLICT, "이미 등록되어 있는 브랜드입니다."),
     DUPLICATED_WISH_PRODUCT(HttpStatus.CONFLICT, "이미 장바구니에 등록되어 있는 상품입니다."),
+    BID_MATCHING_CONFLICT(HttpStatus.CONFLICT, "다른 거래와 동시에 체결되었습니다. 다시 시도해주세요."),
+    TRADE_ALREADY_CLAIMED(HttpStatus.CONFLICT, "이미 다른 사용자가 진행 중이거나 체결된 거래입니다."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "이미 다른 요청에 사용된 Idempotency-Key 입니다."),
     PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 상품을 찾을 수 없습니다."),
     CART_PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND, "장바구니에서 해당 상품을 찾을 수 없습니다."),
     TRADE_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 입찰 내역을 찾을 수 없습니다."),
@@ -34,12 +38,16 @@ public enum ErrorCode {
     NOT_ALLOWED_PRODUCT_SIZE(HttpStatus.BAD_REQUEST, "해당 상품에 존재하는 사이즈가 아닙니다."),
     NOT_ALLOWED_SALE_BID_PRICE(HttpStatus.BAD_REQUEST, "판매 입찰가는 구매 입찰의 최고가보다 낮을 수 없습니다."),
     NOT_ALLOWED_PURCHASE_BID_PRICE(HttpStatus.BAD_REQUEST, "구매 입찰가는 판매 입찰의 최저가보다 낮을 수 없습니다."),
+    SELF_TRADE_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "본인의 입찰과는 거래할 수 없습니다."),
+    NOT_ALLOWED_TRADE_STATUS(HttpStatus.BAD_REQUEST, "현재 거래 상태에서는 변경할 수 없습니다."),
     IS_NOT_PRE_WAREHOUSING(HttpStatus.BAD_REQUEST, "입고 대기 상태의 상품이 아닙니다."),
     IS_NOT_PRE_INSPECTION(HttpStatus.BAD_REQUEST, "검수 대기 상태의 상품이 아닙니다."),
     IS_NOT_PRE_SHIPMENT(HttpStatus.BAD_REQUEST, "구매자 발송 대기의 상품이 아닙니다."),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "Idempotency-Key 는 100자 이하로 입력해주세요."),
 
     WRONG_FILE_FORMAT(HttpStatus.BAD_REQUEST, "잘못된 형식의 파일입니다"),
-    FILE_UPLOAD_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다.");
+    FILE_UPLOAD_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다."),
+    MATCHING_ENGINE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "입찰 요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
 
     private HttpStatus httpStatus;
     private String message;
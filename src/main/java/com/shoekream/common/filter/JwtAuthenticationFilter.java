@@ -1,6 +1,6 @@
 package com.shoekream.common.filter;
 
-import com.shoekream.common.util.JwtUtil;
+import com.shoekream.common.util.JwtClaims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,7 +21,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final String secretKey;
+    private final JwtClaimsCache jwtClaimsCache;
 
     /**
      * request 에서 전달받은 Jwt 토큰을 확인하는 과정
@@ -41,15 +41,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        if (JwtUtil.isExpired(token, secretKey)) {
+        // 서명 검증 · 클레임 파싱은 한 번만 (같은 토큰은 만료 전까지 캐시된 클레임 사용)
+        JwtClaims claims = jwtClaimsCache.verify(token);
+
+        if (claims.isExpiredAt(System.currentTimeMillis())) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        String email = JwtUtil.getUserEmail(token, secretKey);
-        String userRole = JwtUtil.getRole(token, secretKey);
-
-        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(email, null, List.of(new SimpleGrantedAuthority(userRole)));
+        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(claims.getEmail(), null, List.of(new SimpleGrantedAuthority(claims.getRole())));
 
         authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
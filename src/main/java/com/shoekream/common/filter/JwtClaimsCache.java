@@ -0,0 +1,80 @@
+package com.shoekream.common.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.shoekream.common.util.JwtClaims;
+import com.shoekream.common.util.JwtUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증된 Jwt 클레임 캐시
+ * 토큰 해시를 키로 토큰 만료 시각까지만 보관하여, 같은 토큰으로 들어오는 요청은 서명 검증을 다시 하지 않는다.
+ * 원문 토큰은 메모리에 남기지 않는다.
+ */
+public class JwtClaimsCache {
+
+    private final String secretKey;
+    private final Clock clock;
+    private final Cache<String, JwtClaims> cache;
+
+    public JwtClaimsCache(String secretKey, long maximumSize) {
+        this(secretKey, maximumSize, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    // clock 은 토큰 만료 판단, ticker 는 캐시 항목 만료에 사용
+    public JwtClaimsCache(String secretKey, long maximumSize, Clock clock, Ticker ticker) {
+        this.secretKey = secretKey;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .ticker(ticker)
+                .expireAfter(new Expiry<String, JwtClaims>() {
+                    @Override
+                    public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, claims.getExpirationMillis() - clock.millis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, claims, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    // 검증 실패 (서명 불일치 · 만료 등) 시 JwtUtil 과 같은 예외 발생
+    public JwtClaims verify(String token) {
+        String key = hash(token);
+
+        JwtClaims claims = cache.getIfPresent(key);
+        if (claims != null && !claims.isExpiredAt(clock.millis())) {
+            return claims;
+        }
+
+        claims = JwtUtil.verify(token, secretKey, clock);
+        cache.put(key, claims);
+        return claims;
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.shoekream.common.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 서명 검증을 마친 Jwt 토큰의 클레임 (이메일 · 권한 · 만료 시각)
+ */
+@Getter
+@AllArgsConstructor
+public class JwtClaims {
+
+    private final String email;
+    private final String role;
+    private final long expirationMillis;
+
+    public boolean isExpiredAt(long nowMillis) {
+        return expirationMillis <= nowMillis;
+    }
+}
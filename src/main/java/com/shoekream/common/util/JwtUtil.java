@@ -5,6 +5,7 @@ import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 
+import java.time.Clock;
 import java.util.Date;
 
 import static com.shoekream.common.util.constants.JwtConstants.USER_ROLE_KEY_JWT;
@@ -48,6 +49,22 @@ public class JwtUtil {
                 .before(new Date());
     }
 
+    // 서명 검증 · 클레임 파싱을 한 번만 수행
+    public static JwtClaims verify(String token, String secretKey) {
+        return verify(token, secretKey, Clock.systemUTC());
+    }
+
+    // 만료 여부는 clock 의 현재 시각 기준으로 판단
+    public static JwtClaims verify(String token, String secretKey, Clock clock) {
+        Claims claims = Jwts.parser()
+                .setClock(() -> new Date(clock.millis()))
+                .setSigningKey(secretKey)
+                .parseClaimsJws(token)
+                .getBody();
+
+        return new JwtClaims(claims.getSubject(), claims.get(USER_ROLE_KEY_JWT, String.class), claims.getExpiration().getTime());
+    }
+
     public static Claims extractClaims(String token, String secretKey) {
         return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
     }
@@ -0,0 +1,22 @@
+package com.shoekream.common.util.constants;
+
+public class CacheConstants {
+
+    public static final String PRODUCT_STATICS_CACHE = "productStatics";
+
+    public static final String BRANDS_CACHE = "brands";
+
+    public static final String USER_PRINCIPALS_CACHE = "userPrincipals";
+
+    // 노드 간 로컬 캐시 무효화 메세지 채널
+    public static final String CACHE_INVALIDATION_CHANNEL = "cache:invalidation";
+
+    public static final String CACHE_LEASE_KEY_PREFIX = "cache:lease:";
+
+    // 다른 노드가 캐시를 채우는 동안 다시 확인하는 간격 (밀리초)
+    public static final long CACHE_LEASE_POLL_MILLIS = 50L;
+
+    // 로컬 캐시 무효화 횟수를 기록하는 키 해시 구간 수 (키마다 기록하지 않고 구간별로 묶어 메모리 사용량 고정)
+    public static final int CACHE_INVALIDATION_EPOCH_STRIPES = 1024;
+
+}
@@ -4,4 +4,12 @@ public class DataSourceConstants {
 
     public static final String MASTER = "master";
     public static final String SLAVE = "slave";
+
+    // 회원별 마지막 쓰기 요청 (키가 남아 있는 동안 해당 회원의 읽기는 master 로)
+    public static final String RECENT_WRITE_KEY_PREFIX = "recent-write:";
+
+    public static final long REPLICA_HEARTBEAT_ID = 1L;
+
+    // 마지막 측정 이후 heartbeat 주기의 이 배수만큼 지나도 측정되지 않으면 지연으로 간주
+    public static final int REPLICA_LAG_STALE_INTERVALS = 3;
 }
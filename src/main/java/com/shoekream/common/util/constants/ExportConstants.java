@@ -0,0 +1,9 @@
+package com.shoekream.common.util.constants;
+
+public class ExportConstants {
+
+    // MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때만 결과를 한 행씩 스트리밍 (그 외엔 전체 결과를 메모리에 적재)
+    public static final String STREAMING_FETCH_SIZE = "" + Integer.MIN_VALUE;
+
+    public static final String EXPORT_EXECUTOR_THREAD_PREFIX = "ExportExecutor-";
+}
@@ -0,0 +1,22 @@
+package com.shoekream.common.util.constants;
+
+public class IdempotencyConstants {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    public static final String IDEMPOTENCY_REPLAYED_HEADER = "Idempotent-Replayed";
+
+    public static final String IDEMPOTENCY_KEY_PREFIX = "idempotency:";
+
+    public static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+
+    // 첫 요청이 처리 중일 때 선점 유지 시간 (초) - 처리 도중 서버가 죽어도 이후 재시도가 가능하도록
+    public static final int LIMIT_TIME_IDEMPOTENCY_LOCK = 30;
+
+    // 처리 중인 동안 선점 유지 시간을 연장하는 주기 (초) - 처리가 선점 유지 시간보다 길어져도 선점이 풀리지 않도록
+    public static final int RENEW_INTERVAL_IDEMPOTENCY_LOCK = 10;
+
+    // 처리 완료된 응답 보관 시간 (초)
+    public static final int LIMIT_TIME_IDEMPOTENCY_RESPONSE = 60 * 60 * 24;
+
+}
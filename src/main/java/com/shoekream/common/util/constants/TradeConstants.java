@@ -0,0 +1,12 @@
+package com.shoekream.common.util.constants;
+
+public class TradeConstants {
+
+    public static final String TRADE_CLAIM_KEY_PREFIX = "trade:claim:";
+
+    public static final int LIMIT_TIME_TRADE_CLAIM = 5;
+
+    // 노드 간 호가창 변경 메세지 채널
+    public static final String ORDER_BOOK_CHANNEL = "trade:order-book";
+
+}
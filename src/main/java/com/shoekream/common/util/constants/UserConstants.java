@@ -0,0 +1,8 @@
+package com.shoekream.common.util.constants;
+
+public class UserConstants {
+
+    // 요청 속성에 보관하는 확인된 회원 정보 (요청 속성 이름 = prefix + 이메일)
+    public static final String RESOLVED_USER_ATTRIBUTE_PREFIX = "resolvedUser:";
+
+}
@@ -0,0 +1,41 @@
+package com.shoekream.common.util.export;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 내보내기 응답을 전용 executor · 타임아웃의 비동기 작업으로 생성
+ * StreamingResponseBody 를 그대로 반환하면 전역 MVC executor · 타임아웃을 쓰게 되므로,
+ * 내보내기 핸들러만 WebAsyncTask 로 export executor 에서 응답 스트림에 직접 쓴다.
+ */
+@Component
+public class ExportTaskFactory {
+
+    private final AsyncTaskExecutor exportExecutor;
+    private final long timeoutMillis;
+
+    // 1년치 내역도 끊기지 않도록 기본 비동기 요청 타임아웃보다 길게
+    public ExportTaskFactory(@Qualifier("exportExecutor") AsyncTaskExecutor exportExecutor,
+                             @Value("${export.timeout-millis:600000}") long timeoutMillis) {
+        this.exportExecutor = exportExecutor;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    // 응답 헤더는 요청 스레드에서 지정하고, 본문은 export executor 에서 작성
+    public WebAsyncTask<Void> attachment(HttpServletResponse response, ExportFormat format, String fileName, StreamingResponseBody body) {
+        response.setContentType(format.getMediaType().toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "." + format.getExtension() + "\"");
+
+        return new WebAsyncTask<>(timeoutMillis, exportExecutor, () -> {
+            body.writeTo(response.getOutputStream());
+            response.flushBuffer();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,94 @@
+package com.shoekream.common.util.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 내보내기 파일 행 단위 작성
+ * 행을 받는 즉시 버퍼를 거쳐 출력 스트림에 쓰므로, 전체 행 수와 관계없이 메모리 사용량이 일정하다.
+ * CSV - 첫 행은 컬럼명, NDJSON - 한 줄에 컬럼명을 key 로 하는 JSON 객체 하나
+ */
+public class ExportWriter implements Closeable {
+
+    private static final char UTF8_BOM = '\uFEFF';
+    // 스프레드시트에서 수식으로 해석되는 시작 문자
+    private static final String FORMULA_PREFIXES = "=+-@";
+
+    private final ExportFormat format;
+    private final List<String> columns;
+    private final Writer writer;
+    private final JsonGenerator generator;
+
+    private ExportWriter(ExportFormat format, List<String> columns, Writer writer, JsonGenerator generator) {
+        this.format = format;
+        this.columns = columns;
+        this.writer = writer;
+        this.generator = generator;
+    }
+
+    public static ExportWriter open(ExportFormat format, OutputStream out, ObjectMapper objectMapper, List<String> columns) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        if (format == ExportFormat.NDJSON) {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            return new ExportWriter(format, columns, writer, generator);
+        }
+
+        // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+        writer.write(UTF8_BOM);
+        writer.write(String.join(",", columns));
+        writer.write("\r\n");
+        return new ExportWriter(format, columns, writer, null);
+    }
+
+    // columns 순서대로 값 전달
+    public void write(Object... values) throws IOException {
+        if (format == ExportFormat.NDJSON) {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.size(); i++) {
+                generator.writeFieldName(columns.get(i));
+                generator.writeObject(values[i]);
+            }
+            generator.writeEndObject();
+            return;
+        }
+
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(toCsvValue(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private String toCsvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+
+        String text = value.toString();
+        if (value instanceof CharSequence && !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            text = "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
+    // 응답 스트림은 컨테이너가 닫으므로 남은 버퍼만 비운다
+    @Override
+    public void close() throws IOException {
+        if (generator != null) {
+            generator.flush();
+        }
+        writer.flush();
+    }
+}
@@ -2,6 +2,7 @@ package com.shoekream.controller;
 
 import com.shoekream.common.Response;
 import com.shoekream.domain.product.dto.*;
+import com.shoekream.domain.trade.orderbook.BidSide;
 import com.shoekream.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -49,15 +50,15 @@ public class ProductApiController {
     }
 
     @Tag(name = "Product", description = "상품 정보 관련 API")
-    @Operation(summary = "상품 정보 및 해당 상품 구매 입찰 · 판매 입찰 내역 조회", description = "가입된 회원이 존재하지 않을 시 · 등록된 상품이 존재하지 않을 시 에러 발생")
+    @Operation(summary = "상품 정보 및 사이즈별 최저 판매 입찰 · 최고 구매 입찰 조회", description = "가입된 회원이 존재하지 않을 시 · 등록된 상품이 존재하지 않을 시 에러 발생")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "SUCCESS", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     examples = {@ExampleObject(value = "{\"message\":\"SUCCESS\",\"result\":{\"id\":1,\"name\":\"name\",\"modelNumber\":\"modelNumber\",\"color\":\"color\",\"releaseDate\":\"releaseDate\",\"releasePrice\":\"releasePrice\",\"currency\":\"currency\"," +
                             "\"sizeClassification\":\"sizeClassification\",\"sizeUnit\":\"sizeUnit\",\"minSize\":200,\"maxSize\":300,\"sizeGap\":5," +
                             "\"brandInfo\":{\"id\":1,\"name\":\"name\",\"originImagePath\":\"originImagePath\",\"resizedImagePath\":\"resizedImagePath\"}," +
                             "\"originImagePath\":\"originImagePath\",\"resizedImagePath\":\"resizedImagePath\"," +
-                            "\"salesBids\":[{\"tradeId\":1,\"productId\":1,\"productSize\":260,\"price\":200000}]," +
-                            "\"purchaseBids\":[{\"tradeId\":2,\"productId\":1,\"productSize\":260,\"price\":250000}]}}")}, schema = @Schema(implementation = Response.class))),
+                            "\"salesBids\":[{\"tradeId\":1,\"productId\":1,\"productSize\":260,\"price\":250000}]," +
+                            "\"purchaseBids\":[{\"tradeId\":2,\"productId\":1,\"productSize\":260,\"price\":200000}]}}")}, schema = @Schema(implementation = Response.class))),
             @ApiResponse(responseCode = "404", description = "ERROR (가입된 회원이 존재하지 않을 시 · 등록된 상품이 존재하지 않을 시)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"에러 메세지\"}")}, schema = @Schema(implementation = Response.class)))
 
@@ -67,6 +68,45 @@ public class ProductApiController {
         return ResponseEntity.status(HttpStatus.OK).body(Response.success(productService.getProductInfo(id)));
     }
 
+    @Tag(name = "Product", description = "상품 정보 관련 API")
+    @Operation(summary = "상품 사이즈별 호가 조회", description = "가격 레벨별 입찰 수 조회 (side - PURCHASE : 높은 가격 순, SALE : 낮은 가격 순) | 다음 페이지는 응답의 nextCursor를 cursor로 전달 | 등록된 상품이 존재하지 않을 시 · 상품에 없는 사이즈 조회 시 에러 발생")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "SUCCESS", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"SUCCESS\",\"result\":{\"productId\":1,\"productSize\":260,\"side\":\"SALE\"," +
+                            "\"levels\":[{\"price\":200000,\"quantity\":3},{\"price\":210000,\"quantity\":1}],\"nextCursor\":210000}}")}, schema = @Schema(implementation = Response.class))),
+            @ApiResponse(responseCode = "400", description = "ERROR (상품에 없는 사이즈 조회 시)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"에러 메세지\"}")}, schema = @Schema(implementation = Response.class))),
+            @ApiResponse(responseCode = "404", description = "ERROR (등록된 상품이 존재하지 않을 시)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"에러 메세지\"}")}, schema = @Schema(implementation = Response.class)))
+    })
+    @GetMapping("/{id}/bids")
+    public ResponseEntity<Response<BidLadderResponse>> getBidLadder(@PathVariable Long id,
+                                                                    @RequestParam Double size,
+                                                                    @RequestParam BidSide side,
+                                                                    @RequestParam(required = false) Long cursor,
+                                                                    @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.status(HttpStatus.OK).body(Response.success(productService.getBidLadder(id, size, side, cursor, limit)));
+    }
+
+    @Tag(name = "Product", description = "상품 정보 관련 API")
+    @Operation(summary = "상품 사이즈별 뎁스 차트 조회", description = "최우선 호가부터 가격 레벨별 입찰 수 · 누적 입찰 수 조회 (각 방향 최대 levels 개) | 등록된 상품이 존재하지 않을 시 · 상품에 없는 사이즈 조회 시 에러 발생")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "SUCCESS", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"SUCCESS\",\"result\":{\"productId\":1,\"productSize\":260," +
+                            "\"purchaseLevels\":[{\"price\":200000,\"quantity\":2,\"cumulativeQuantity\":2},{\"price\":190000,\"quantity\":1,\"cumulativeQuantity\":3}]," +
+                            "\"saleLevels\":[{\"price\":210000,\"quantity\":3,\"cumulativeQuantity\":3}],\"totalPurchaseQuantity\":3,\"totalSaleQuantity\":3}}")}, schema = @Schema(implementation = Response.class))),
+            @ApiResponse(responseCode = "400", description = "ERROR (상품에 없는 사이즈 조회 시)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"에러 메세지\"}")}, schema = @Schema(implementation = Response.class))),
+            @ApiResponse(responseCode = "404", description = "ERROR (등록된 상품이 존재하지 않을 시)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"에러 메세지\"}")}, schema = @Schema(implementation = Response.class)))
+    })
+    @GetMapping("/{id}/depth")
+    public ResponseEntity<Response<DepthChartResponse>> getDepthChart(@PathVariable Long id,
+                                                                      @RequestParam Double size,
+                                                                      @RequestParam(defaultValue = "20") int levels) {
+        return ResponseEntity.status(HttpStatus.OK).body(Response.success(productService.getDepthChart(id, size, levels)));
+    }
+
     @Tag(name = "Product", description = "상품 정보 관련 API")
     @Operation(summary = "상품 정보 삭제", description = "JWT 토큰 필요(Authorization Header에 추가) | ADMIN 등급 계정만 가능 | 가입된 회원이 존재하지 않을 시 · 등록된 상품이 존재하지 않을 시 에러 발생")
     @ApiResponses(value = {
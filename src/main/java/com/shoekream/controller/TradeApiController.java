@@ -1,7 +1,13 @@
 package com.shoekream.controller;
 
 import com.shoekream.common.Response;
+import com.shoekream.common.annotation.Idempotent;
+import com.shoekream.common.util.export.ExportFormat;
+import com.shoekream.common.util.export.ExportTaskFactory;
 import com.shoekream.domain.trade.dto.*;
+import com.shoekream.service.BidService;
+import com.shoekream.service.HistoryExportService;
+import com.shoekream.service.TradeBatchService;
 import com.shoekream.service.TradeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,14 +16,20 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/api/v1/trades")
@@ -26,13 +38,62 @@ import org.springframework.web.bind.annotation.*;
 public class TradeApiController {
 
     private final TradeService tradeService;
+    private final BidService bidService;
+    private final TradeBatchService tradeBatchService;
+    private final HistoryExportService historyExportService;
+    private final ExportTaskFactory exportTaskFactory;
+
+    /**
+     * 입찰 화면 정보 조회
+     * @param productId         상품 id
+     * @param size              상품 사이즈
+     * @param authentication    입찰자 이메일
+     */
+    @Tag(name = "Trade", description = "입찰 정보 관련 API")
+    @Operation(summary = "입찰 화면 정보 조회", description = "JWT 토큰 필요(Authorization Header에 추가) | 상품 정보와 해당 사이즈의 즉시 판매가 · 즉시 구매가, 사용자 계좌 · 주소록 조회 | 가입된 회원이 존재하지 않을 시 · 등록된 상품이 존재하지 않을 시 · 상품에 없는 사이즈 조회 시 에러 발생")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "SUCCESS", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"SUCCESS\",\"result\":{\"productInfoFromTrade\":{\"id\":1,\"name\":\"name\",\"modelNumber\":\"modelNumber\",\"color\":\"color\",\"brandName\":\"brandName\"," +
+                            "\"immediateSale\":{\"tradeId\":2,\"productId\":1,\"productSize\":260,\"price\":200000},\"immediatePurchase\":{\"tradeId\":1,\"productId\":1,\"productSize\":260,\"price\":250000}}," +
+                            "\"userInfoForTrade\":{\"account\":{\"bankName\":\"bankName\",\"accountNumber\":\"accountNumber\",\"depositor\":\"depositor\"},\"addressList\":[{\"addressId\":1,\"address\":\"address\",\"addressName\":\"addressName\"}]}}}")}, schema = @Schema(implementation = Response.class))),
+            @ApiResponse(responseCode = "400", description = "ERROR (상품에 없는 사이즈 조회 시)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"에러 메세지\"}")}, schema = @Schema(implementation = Response.class))),
+            @ApiResponse(responseCode = "404", description = "ERROR (가입된 회원이 존재하지 않을 시 · 등록된 상품이 존재하지 않을 시)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"에러 메세지\"}")}, schema = @Schema(implementation = Response.class)))
+    })
+    @GetMapping("/{productId}")
+    public ResponseEntity<Response<TradeInfos>> getTradeForBid(@PathVariable Long productId,
+                                                               @RequestParam Double size,
+                                                               Authentication authentication) {
+        return ResponseEntity.ok(Response.success(tradeService.getTradeInfosForBid(productId, authentication.getName(), size)));
+    }
 
-//    @GetMapping("/{productId}")
-//    public ResponseEntity<Response<TradeInfos>> getTradeForBid(@PathVariable Long productId,
-//                                                               @RequestParam Double size,
-//                                                               Authentication authentication) {
-//        return ResponseEntity.ok(Response.success(tradeService.getTradeInfosForBid(productId, authentication.getName(), size)));
-//    }
+    /**
+     * 거래 내역 내보내기
+     * @param from              조회 시작일
+     * @param to                조회 종료일
+     * @param format            파일 형식
+     * @param authentication    회원 이메일
+     * @param response          파일 응답 (export executor 에서 작성)
+     */
+    @Tag(name = "Trade", description = "입찰 정보 관련 API")
+    @Operation(summary = "거래 내역 내보내기", description = "JWT 토큰 필요(Authorization Header에 추가) | 기간(from · to, yyyy-MM-dd) 내 판매 · 구매 거래를 파일로 내려받기 (format - CSV, NDJSON) | 가입된 회원이 존재하지 않을 시 에러 발생")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "SUCCESS", content = @Content(mediaType = "text/csv",
+                    examples = {@ExampleObject(value = "id,tradeType,productName,modelNumber,productSize,price,status,createdDate,lastModifiedDate\r\n" +
+                            "1,SALE,name,modelNumber,260.0,200000,TRADE_COMPLETE,2023-05-01T12:00,2023-05-03T09:00\r\n")})),
+            @ApiResponse(responseCode = "404", description = "ERROR (가입된 회원이 존재하지 않을 시)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"에러 메세지\"}")}, schema = @Schema(implementation = Response.class)))
+    })
+    @GetMapping("/export")
+    public WebAsyncTask<Void> exportTrades(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                           @RequestParam(defaultValue = "CSV") ExportFormat format,
+                                           Authentication authentication,
+                                           HttpServletResponse response) {
+        StreamingResponseBody body = historyExportService.exportTrades(authentication.getName(), from, to, format);
+        return exportTaskFactory.attachment(response, format, "trades", body);
+    }
 
     /**
      * 판매 입찰 생성
@@ -55,7 +116,7 @@ public class TradeApiController {
     public ResponseEntity<Response<String>> makeSaleBid(@Validated @RequestBody BidCreateRequest requestDto,
                                                         Authentication authentication,
                                                         BindingResult br) {
-        tradeService.createSaleBid(authentication.getName(), requestDto);
+        bidService.createSaleBid(authentication.getName(), requestDto);
         return ResponseEntity.ok(Response.success("ok"));
     }
 
@@ -66,7 +127,7 @@ public class TradeApiController {
      * @param br                바인딩 체크
      */
     @Tag(name = "Trade", description = "입찰 정보 관련 API")
-    @Operation(summary = "구매 입찰 등록", description = "JWT 토큰 필요(Authorization Header에 추가) | 등록하는 판매 입찰가가 구매 입찰의 최고가 보다 낮을 시 · 해당 상품에 존재하는 사이즈가 아닐 시 · 보유한 포인트보다 비싼 상품 구매 입찰 등록시 · 가입된 회원이 존재하지 않을 시 · 등록된 상품이 존재하지 않을 시 · 등록된 주소가 존재하지 않을 시 에러 발생")
+    @Operation(summary = "구매 입찰 등록", description = "JWT 토큰 필요(Authorization Header에 추가) | 등록하는 판매 입찰가가 구매 입찰의 최고가 보다 낮을 시 · 해당 상품에 존재하는 사이즈가 아닐 시 · 보유한 포인트보다 비싼 상품 구매 입찰 등록시 · 가입된 회원이 존재하지 않을 시 · 등록된 상품이 존재하지 않을 시 · 등록된 주소가 존재하지 않을 시 에러 발생 | Idempotency-Key 헤더 지정 시 같은 키로 재요청하면 처음 처리한 응답을 그대로 반환")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "SUCCESS", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     examples = {@ExampleObject(value = "{\"message\":\"SUCCESS\",\"result\":\"ok\"}")}, schema = @Schema(implementation = Response.class))),
@@ -76,11 +137,12 @@ public class TradeApiController {
                     examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"에러 메세지\"}")}, schema = @Schema(implementation = Response.class)))
 
     })
+    @Idempotent
     @PostMapping("/purchaseBid")
     public ResponseEntity<Response<String>> makePurchaseBid(@Validated @RequestBody BidCreateRequest requestDto,
                                                             Authentication authentication,
                                                             BindingResult br) {
-        tradeService.createPurchaseBid(authentication.getName(), requestDto);
+        bidService.createPurchaseBid(authentication.getName(), requestDto);
         return ResponseEntity.ok(Response.success("ok"));
     }
 
@@ -91,7 +153,7 @@ public class TradeApiController {
      * @param br                바인딩 체크
      */
     @Tag(name = "Trade", description = "입찰 정보 관련 API")
-    @Operation(summary = "즉시 구매", description = "JWT 토큰 필요(Authorization Header에 추가) | 보유한 포인트보다 비싼 상품 즉시 구매 요청 시 · 가입된 회원이 존재하지 않을 시 · 등록된 상품이 존재하지 않을 시 · 등록된 주소가 존재하지 않을 시 에러 발생")
+    @Operation(summary = "즉시 구매", description = "JWT 토큰 필요(Authorization Header에 추가) | 보유한 포인트보다 비싼 상품 즉시 구매 요청 시 · 가입된 회원이 존재하지 않을 시 · 등록된 상품이 존재하지 않을 시 · 등록된 주소가 존재하지 않을 시 에러 발생 | Idempotency-Key 헤더 지정 시 같은 키로 재요청하면 처음 처리한 응답을 그대로 반환")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "SUCCESS", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     examples = {@ExampleObject(value = "{\"message\":\"SUCCESS\",\"result\":\"ok\"}")}, schema = @Schema(implementation = Response.class))),
@@ -101,6 +163,7 @@ public class TradeApiController {
                     examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"에러 메세지\"}")}, schema = @Schema(implementation = Response.class)))
 
     })
+    @Idempotent
     @PostMapping("/purchase")
     public ResponseEntity<Response<String>> purchase(@Validated @RequestBody ImmediatePurchaseRequest requestDto,
                                                      Authentication authentication,
@@ -226,6 +289,50 @@ public class TradeApiController {
         return ResponseEntity.ok(Response.success("Inspection Successfully done"));
     }
 
+    /**
+     * 입고 확인 일괄 요청
+     * @param requestDto        일괄 요청 DTO - tradeIds (최대 100건)
+     * @param authentication    관리자 이메일
+     * @param br                바인딩 체크
+     */
+    @Tag(name = "Trade", description = "입찰 정보 관련 API")
+    @Operation(summary = "입고 확인 일괄 요청", description = "JWT 토큰 필요(Authorization Header에 추가) | 최대 100건의 입고 대기 상품을 한 번에 검수 대기로 변경, 거래별 처리 결과 반환 | 요청 id가 없거나 100건 초과 시 에러 발생")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "SUCCESS", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"SUCCESS\",\"result\":{\"status\":\"PRE_INSPECTION\",\"requestCount\":2,\"successCount\":1," +
+                            "\"results\":[{\"tradeId\":1,\"success\":true,\"status\":\"PRE_INSPECTION\",\"failReason\":null},{\"tradeId\":2,\"success\":false,\"status\":\"SHIPPING\",\"failReason\":\"현재 거래 상태에서는 변경할 수 없습니다.\"}]}}")}, schema = @Schema(implementation = Response.class))),
+            @ApiResponse(responseCode = "400", description = "ERROR (요청 id가 없거나 100건 초과 시)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"에러 메세지\"}")}, schema = @Schema(implementation = Response.class)))
+    })
+    @PatchMapping("/wareHousing")
+    public ResponseEntity<Response<TradeBatchResponse>> confirmWarehousings(@Validated @RequestBody TradeBatchRequest requestDto,
+                                                                            BindingResult br,
+                                                                            Authentication authentication) {
+        return ResponseEntity.ok(Response.success(tradeBatchService.confirmWarehousings(requestDto.getTradeIds())));
+    }
+
+    /**
+     * 검수 확인 일괄 요청
+     * @param requestDto        일괄 요청 DTO - tradeIds (최대 100건)
+     * @param authentication    관리자 이메일
+     * @param br                바인딩 체크
+     */
+    @Tag(name = "Trade", description = "입찰 정보 관련 API")
+    @Operation(summary = "검수 확인 일괄 요청", description = "JWT 토큰 필요(Authorization Header에 추가) | 최대 100건의 검수 대기 상품을 한 번에 구매자 발송 대기로 변경, 거래별 처리 결과 반환 | 요청 id가 없거나 100건 초과 시 에러 발생")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "SUCCESS", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"SUCCESS\",\"result\":{\"status\":\"PRE_SHIPMENT\",\"requestCount\":2,\"successCount\":1," +
+                            "\"results\":[{\"tradeId\":1,\"success\":true,\"status\":\"PRE_SHIPMENT\",\"failReason\":null},{\"tradeId\":2,\"success\":false,\"status\":null,\"failReason\":\"해당 입찰 내역을 찾을 수 없습니다.\"}]}}")}, schema = @Schema(implementation = Response.class))),
+            @ApiResponse(responseCode = "400", description = "ERROR (요청 id가 없거나 100건 초과 시)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"에러 메세지\"}")}, schema = @Schema(implementation = Response.class)))
+    })
+    @PatchMapping("/inspection")
+    public ResponseEntity<Response<TradeBatchResponse>> confirmInspections(@Validated @RequestBody TradeBatchRequest requestDto,
+                                                                           BindingResult br,
+                                                                           Authentication authentication) {
+        return ResponseEntity.ok(Response.success(tradeBatchService.confirmInspections(requestDto.getTradeIds())));
+    }
+
     /**
      * 검수 실패 요청
      * @param tradeId           입찰 id
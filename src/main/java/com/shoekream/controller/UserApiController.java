@@ -1,15 +1,22 @@
 package com.shoekream.controller;
 
 import com.shoekream.common.Response;
+import com.shoekream.common.annotation.Idempotent;
+import com.shoekream.common.util.export.ExportFormat;
+import com.shoekream.common.util.export.ExportTaskFactory;
 import com.shoekream.domain.address.dto.AddressRequest;
 import com.shoekream.domain.address.dto.AddressResponse;
+import com.shoekream.domain.point.PointDivision;
+import com.shoekream.domain.point.dto.PointAuditResponse;
 import com.shoekream.domain.point.dto.PointChargeRequest;
-import com.shoekream.domain.point.dto.PointHistoryResponse;
+import com.shoekream.domain.point.dto.PointHistoryPageResponse;
+import com.shoekream.domain.point.dto.PointHistoryRequest;
 import com.shoekream.domain.point.dto.PointResponse;
 import com.shoekream.domain.point.dto.PointWithdrawalRequest;
 import com.shoekream.domain.user.Account;
 import com.shoekream.domain.user.dto.*;
 import com.shoekream.service.AddressService;
+import com.shoekream.service.HistoryExportService;
 import com.shoekream.service.PointService;
 import com.shoekream.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,7 +27,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.mail.MessagingException;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -28,8 +37,11 @@ import org.springframework.security.core.Authentication;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
 import java.util.List;
 
 import static com.shoekream.domain.point.PointDivision.*;
@@ -41,6 +53,8 @@ public class UserApiController {
     private final UserService userService;
     private final AddressService addressService;
     private final PointService pointService;
+    private final HistoryExportService historyExportService;
+    private final ExportTaskFactory exportTaskFactory;
 
     @Tag(name = "User", description = "회원 정보 관련 API")
     @Operation(summary = "회원 가입", description = "이메일 중복 · 닉네임 중복 시 에러 발생")
@@ -259,13 +273,14 @@ public class UserApiController {
     }
 
     @Tag(name = "Point", description = "회원 포인트 정보 관련 API")
-    @Operation(summary = "회원 포인트 충전", description = "JWT 토큰 필요(Authorization Header에 추가) | 가입된 회원이 존재하지 않을 시 에러 발생")
+    @Operation(summary = "회원 포인트 충전", description = "JWT 토큰 필요(Authorization Header에 추가) | 가입된 회원이 존재하지 않을 시 에러 발생 | Idempotency-Key 헤더 지정 시 같은 키로 재요청하면 처음 처리한 응답을 그대로 반환")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "SUCCESS", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     examples = {@ExampleObject(value = "{\"message\":\"SUCCESS\",\"result\":{\"remainingPoint\":1000}}")}, schema = @Schema(implementation = Response.class))),
             @ApiResponse(responseCode = "404", description = "ERROR (가입된 회원이 존재하지 않을 시)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"에러 메세지\"}")}, schema = @Schema(implementation = Response.class)))
     })
+    @Idempotent
     @PostMapping("/points/charge")
     public ResponseEntity<Response<PointResponse>> charge(Authentication authentication, @Validated @RequestBody PointChargeRequest requestDto, BindingResult br) {
         PointResponse response = pointService.chargePoint(authentication.getName(), requestDto);
@@ -291,30 +306,77 @@ public class UserApiController {
     }
 
     @Tag(name = "Point", description = "회원 포인트 정보 관련 API")
-    @Operation(summary = "회원 포인트 충전 내역 조회", description = "JWT 토큰 필요(Authorization Header에 추가) | 가입된 회원이 존재하지 않을 시 에러 발생 ")
+    @Operation(summary = "회원 포인트 충전 내역 조회", description = "JWT 토큰 필요(Authorization Header에 추가) | 기간(from · to, yyyy-MM-dd) 지정 가능 | 최신순 size 건씩 조회, 다음 페이지는 응답의 nextCursorDate · nextCursorId를 cursorDate · cursorId로 전달 | 가입된 회원이 존재하지 않을 시 에러 발생 ")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "SUCCESS", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
-                    examples = {@ExampleObject(value = "{\"message\":\"SUCCESS\",\"result\":{\"time\":\"출금일자\",\"amount\":1000}}")}, schema = @Schema(implementation = Response.class))),
+                    examples = {@ExampleObject(value = "{\"message\":\"SUCCESS\",\"result\":{\"histories\":[{\"id\":12,\"division\":\"POINT_CHARGE\",\"time\":\"충전일자\",\"amount\":1000,\"balance\":5000}],\"nextCursorDate\":\"2023-05-01T12:00:00\",\"nextCursorId\":12}}")}, schema = @Schema(implementation = Response.class))),
             @ApiResponse(responseCode = "404", description = "ERROR (가입된 회원이 존재하지 않을 시)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"에러 메세지\"}")}, schema = @Schema(implementation = Response.class)))
     })
     @GetMapping("/points/charge-history")
-    public ResponseEntity<Response<List<PointHistoryResponse>>> getChargeHistory(Authentication authentication) {
-        List<PointHistoryResponse> response = pointService.getHistoryPointByDivision(authentication.getName(), POINT_CHARGE);
+    public ResponseEntity<Response<PointHistoryPageResponse>> getChargeHistory(Authentication authentication, PointHistoryRequest requestDto) {
+        PointHistoryPageResponse response = pointService.getHistoryPoint(authentication.getName(), POINT_CHARGE, requestDto);
         return ResponseEntity.ok(Response.success(response));
     }
 
     @Tag(name = "Point", description = "회원 포인트 정보 관련 API")
-    @Operation(summary = "회원 포인트 출금 내역 조회", description = "JWT 토큰 필요(Authorization Header에 추가) | 가입된 회원이 존재하지 않을 시 에러 발생 ")
+    @Operation(summary = "회원 포인트 출금 내역 조회", description = "JWT 토큰 필요(Authorization Header에 추가) | 기간(from · to, yyyy-MM-dd) 지정 가능 | 최신순 size 건씩 조회, 다음 페이지는 응답의 nextCursorDate · nextCursorId를 cursorDate · cursorId로 전달 | 가입된 회원이 존재하지 않을 시 에러 발생 ")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "SUCCESS", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
-                    examples = {@ExampleObject(value = "{\"message\":\"SUCCESS\",\"result\":[{\"time\":\"출금일자\",\"amount\":1000},{\"time\":\"출금일자\",\"amount\":1000}]}")}, schema = @Schema(implementation = Response.class))),
+                    examples = {@ExampleObject(value = "{\"message\":\"SUCCESS\",\"result\":{\"histories\":[{\"id\":12,\"division\":\"POINT_WITHDRAW\",\"time\":\"출금일자\",\"amount\":1000,\"balance\":5000}],\"nextCursorDate\":\"2023-05-01T12:00:00\",\"nextCursorId\":12}}")}, schema = @Schema(implementation = Response.class))),
             @ApiResponse(responseCode = "404", description = "ERROR (가입된 회원이 존재하지 않을 시)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"에러 메세지\"}")}, schema = @Schema(implementation = Response.class)))
     })
     @GetMapping("/points/withdrawal-history")
-    public ResponseEntity<Response<List<PointHistoryResponse>>> getWithdrawalHistory(Authentication authentication) {
-        List<PointHistoryResponse> response = pointService.getHistoryPointByDivision(authentication.getName(), POINT_WITHDRAW);
+    public ResponseEntity<Response<PointHistoryPageResponse>> getWithdrawalHistory(Authentication authentication, PointHistoryRequest requestDto) {
+        PointHistoryPageResponse response = pointService.getHistoryPoint(authentication.getName(), POINT_WITHDRAW, requestDto);
+        return ResponseEntity.ok(Response.success(response));
+    }
+
+    @Tag(name = "Point", description = "회원 포인트 정보 관련 API")
+    @Operation(summary = "회원 포인트 내역 조회", description = "JWT 토큰 필요(Authorization Header에 추가) | division 미지정 시 전체 구분 조회 | 기간(from · to, yyyy-MM-dd) 지정 가능 | 최신순 size 건씩 조회, 다음 페이지는 응답의 nextCursorDate · nextCursorId를 cursorDate · cursorId로 전달 | 가입된 회원이 존재하지 않을 시 에러 발생 ")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "SUCCESS", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"SUCCESS\",\"result\":{\"histories\":[{\"id\":12,\"division\":\"POINT_REVENUE\",\"time\":\"거래일자\",\"amount\":1000,\"balance\":5000}],\"nextCursorDate\":\"2023-05-01T12:00:00\",\"nextCursorId\":12}}")}, schema = @Schema(implementation = Response.class))),
+            @ApiResponse(responseCode = "404", description = "ERROR (가입된 회원이 존재하지 않을 시)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"에러 메세지\"}")}, schema = @Schema(implementation = Response.class)))
+    })
+    @GetMapping("/points/history")
+    public ResponseEntity<Response<PointHistoryPageResponse>> getHistory(Authentication authentication, @RequestParam(required = false) PointDivision division, PointHistoryRequest requestDto) {
+        PointHistoryPageResponse response = pointService.getHistoryPoint(authentication.getName(), division, requestDto);
+        return ResponseEntity.ok(Response.success(response));
+    }
+
+    @Tag(name = "Point", description = "회원 포인트 정보 관련 API")
+    @Operation(summary = "회원 포인트 내역 내보내기", description = "JWT 토큰 필요(Authorization Header에 추가) | 기간(from · to, yyyy-MM-dd) 내 포인트 내역을 파일로 내려받기 (format - CSV, NDJSON) | division 미지정 시 전체 구분 | 가입된 회원이 존재하지 않을 시 에러 발생 ")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "SUCCESS", content = @Content(mediaType = "text/csv",
+                    examples = {@ExampleObject(value = "id,division,amount,balance,createdDate\r\n12,POINT_CHARGE,1000,5000,2023-05-01T12:00\r\n")})),
+            @ApiResponse(responseCode = "404", description = "ERROR (가입된 회원이 존재하지 않을 시)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"에러 메세지\"}")}, schema = @Schema(implementation = Response.class)))
+    })
+    @GetMapping("/points/export")
+    public WebAsyncTask<Void> exportHistory(Authentication authentication,
+                                            @RequestParam(required = false) PointDivision division,
+                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                            @RequestParam(defaultValue = "CSV") ExportFormat format,
+                                            HttpServletResponse response) {
+        StreamingResponseBody body = historyExportService.exportPoints(authentication.getName(), division, from, to, format);
+        return exportTaskFactory.attachment(response, format, "points", body);
+    }
+
+    @Tag(name = "Point", description = "회원 포인트 정보 관련 API")
+    @Operation(summary = "회원 포인트 잔액 검증", description = "ADMIN 회원만 접근 가능 | 회원 보유 포인트와 원장(최신 스냅샷 + 이후 원장) 잔액 대조 | 가입된 회원이 존재하지 않을 시 에러 발생 ")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "SUCCESS", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"SUCCESS\",\"result\":{\"userId\":1,\"userPoint\":1000,\"ledgerBalance\":1000,\"lastRecordedBalance\":1000,\"consistent\":true}}")}, schema = @Schema(implementation = Response.class))),
+            @ApiResponse(responseCode = "404", description = "ERROR (가입된 회원이 존재하지 않을 시)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"에러 메세지\"}")}, schema = @Schema(implementation = Response.class)))
+    })
+    @GetMapping("/points/audit/{userId}")
+    public ResponseEntity<Response<PointAuditResponse>> auditPoint(@PathVariable(name = "userId") Long userId) {
+        PointAuditResponse response = pointService.auditPoint(userId);
         return ResponseEntity.ok(Response.success(response));
     }
 
@@ -0,0 +1,106 @@
+package com.shoekream.dao;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.shoekream.common.util.constants.IdempotencyConstants.*;
+
+/**
+ * Idempotency-Key 처리 결과 저장소 (여러 노드 간 공유)
+ * 처음 들어온 요청만 선점(SET NX)에 성공해 실제로 처리하고, 처리 결과를 TTL 동안 보관한다.
+ * 처리 중에는 선점 유지 시간을 주기적으로 연장하므로, 처리가 길어져도 같은 키의 재시도가 중복 처리되지 않는다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class IdempotencyDao implements DisposableBean {
+
+    // 아직 처리 중 상태로 남아 있을 때만 연장 (완료 · 해제된 키나 다른 요청이 다시 선점한 키는 건드리지 않도록)
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('expire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final ScheduledExecutorService renewalScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "IdempotencyLockRenewal");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 선점 성공 시 true - 이미 처리 중이거나 처리된 키이면 false
+    public boolean start(String key, String requestHash) {
+        Boolean started = stringRedisTemplate.opsForValue()
+                .setIfAbsent(IDEMPOTENCY_KEY_PREFIX + key, write(IdempotencyRecord.inProgress(requestHash)),
+                        Duration.ofSeconds(LIMIT_TIME_IDEMPOTENCY_LOCK));
+
+        return Boolean.TRUE.equals(started);
+    }
+
+    // 처리가 끝날 때까지 선점 유지 시간 연장 - 반환한 Renewal 을 닫으면 연장 중단
+    public Renewal keepAlive(String key, String requestHash) {
+        String inProgress = write(IdempotencyRecord.inProgress(requestHash));
+        ScheduledFuture<?> renewal = renewalScheduler.scheduleWithFixedDelay(
+                () -> stringRedisTemplate.execute(RENEW_SCRIPT, List.of(IDEMPOTENCY_KEY_PREFIX + key),
+                        inProgress, String.valueOf(LIMIT_TIME_IDEMPOTENCY_LOCK)),
+                RENEW_INTERVAL_IDEMPOTENCY_LOCK, RENEW_INTERVAL_IDEMPOTENCY_LOCK, TimeUnit.SECONDS);
+
+        return () -> renewal.cancel(false);
+    }
+
+    public Optional<IdempotencyRecord> find(String key) {
+        return Optional.ofNullable(stringRedisTemplate.opsForValue().get(IDEMPOTENCY_KEY_PREFIX + key))
+                .map(this::read);
+    }
+
+    public void complete(String key, IdempotencyRecord record) {
+        stringRedisTemplate.opsForValue()
+                .set(IDEMPOTENCY_KEY_PREFIX + key, write(record), Duration.ofSeconds(LIMIT_TIME_IDEMPOTENCY_RESPONSE));
+    }
+
+    // 처리 중 예외 발생 시 선점 해제 - 같은 키로 다시 시도할 수 있도록
+    public void release(String key) {
+        stringRedisTemplate.delete(IDEMPOTENCY_KEY_PREFIX + key);
+    }
+
+    @Override
+    public void destroy() {
+        renewalScheduler.shutdownNow();
+    }
+
+    private String write(IdempotencyRecord record) {
+        try {
+            return objectMapper.writeValueAsString(record);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private IdempotencyRecord read(String value) {
+        try {
+            return objectMapper.readValue(value, IdempotencyRecord.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Renewal extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
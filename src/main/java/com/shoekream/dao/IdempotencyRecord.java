@@ -0,0 +1,32 @@
+package com.shoekream.dao;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Idempotency-Key 별 처리 상태 · 요청 해시 · 처리 결과
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class IdempotencyRecord {
+
+    private boolean completed;
+    private String requestHash;
+    private Integer responseStatus;
+    private String responseBody;
+
+    public static IdempotencyRecord inProgress(String requestHash) {
+        return new IdempotencyRecord(false, requestHash, null, null);
+    }
+
+    public static IdempotencyRecord completed(String requestHash, int responseStatus, String responseBody) {
+        return new IdempotencyRecord(true, requestHash, responseStatus, responseBody);
+    }
+
+    public boolean isSameRequest(String requestHash) {
+        return this.requestHash.equals(requestHash);
+    }
+}
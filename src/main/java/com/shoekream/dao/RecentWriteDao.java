@@ -0,0 +1,29 @@
+package com.shoekream.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+
+import static com.shoekream.common.util.constants.DataSourceConstants.RECENT_WRITE_KEY_PREFIX;
+
+/**
+ * 회원별 마지막 쓰기 요청 시각 (여러 노드 간 공유)
+ * 쓰기 요청 후 일정 시간 동안만 키가 남으며, 키가 있으면 해당 회원의 읽기는 master 에서 처리한다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class RecentWriteDao {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void markWrite(String email, Duration window) {
+        stringRedisTemplate.opsForValue()
+                .set(RECENT_WRITE_KEY_PREFIX + email, String.valueOf(System.currentTimeMillis()), window);
+    }
+
+    public boolean hasRecentWrite(String email) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(RECENT_WRITE_KEY_PREFIX + email));
+    }
+}
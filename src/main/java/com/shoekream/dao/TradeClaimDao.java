@@ -0,0 +1,44 @@
+package com.shoekream.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.shoekream.common.util.constants.TradeConstants.LIMIT_TIME_TRADE_CLAIM;
+import static com.shoekream.common.util.constants.TradeConstants.TRADE_CLAIM_KEY_PREFIX;
+
+/**
+ * 즉시 구매 · 즉시 판매 시 거래 선점 (여러 노드 간 공유)
+ * 선점한 요청만 DB 트랜잭션을 시작하고, 나머지 요청은 Redis 에서 바로 실패한다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class TradeClaimDao {
+
+    // 본인이 선점한 토큰일 때만 삭제 (TTL 만료 후 다른 요청이 선점한 키를 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 선점 성공 시 해제할 때 필요한 토큰 반환
+    public Optional<String> claim(Long tradeId) {
+        String token = UUID.randomUUID().toString();
+        Boolean claimed = stringRedisTemplate.opsForValue()
+                .setIfAbsent(TRADE_CLAIM_KEY_PREFIX + tradeId, token, Duration.ofSeconds(LIMIT_TIME_TRADE_CLAIM));
+
+        return Boolean.TRUE.equals(claimed) ? Optional.of(token) : Optional.empty();
+    }
+
+    public void release(Long tradeId, String token) {
+        stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(TRADE_CLAIM_KEY_PREFIX + tradeId), token);
+    }
+}
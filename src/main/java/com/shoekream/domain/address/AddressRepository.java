@@ -4,8 +4,12 @@ import com.shoekream.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface AddressRepository extends JpaRepository<Address, Long> {
     List<Address> findAllByUser(User user);
 
+    // 주소 소유 확인 - 주소록 전체 대신 PK 로 한 건만 조회 (다른 회원의 주소면 빈 값)
+    Optional<Address> findByIdAndUserId(Long id, Long userId);
+
 }
@@ -20,9 +20,4 @@ public class Cart extends BaseTimeEntity {
     @OneToMany(mappedBy = "cart", orphanRemoval = true)
     private Set<CartProduct> wishList = new HashSet<>();
 
-    public void addCartProducts(CartProduct cartItem) {
-        this.wishList.add(cartItem);
-    }
-
-
 }
\ No newline at end of file
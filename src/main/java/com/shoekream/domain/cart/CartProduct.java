@@ -41,10 +41,4 @@ public class CartProduct extends BaseTimeEntity {
         this.product = product;
     }
 
-    public static CartProduct createCartProduct(Cart cart, Product product) {
-        CartProduct cartProduct = new CartProduct(cart, product);
-        cart.addCartProducts(cartProduct);
-        return cartProduct;
-    }
-
 }
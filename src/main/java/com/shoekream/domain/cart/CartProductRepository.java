@@ -2,9 +2,18 @@ package com.shoekream.domain.cart;
 
 import com.shoekream.domain.product.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CartProductRepository extends JpaRepository<CartProduct, Long> {
     Optional<CartProduct> findByProduct(Product product);
+
+    // 장바구니 상품 목록 - 응답에 필요한 상품 · 브랜드를 함께 조회
+    @Query("select cp from CartProduct cp join fetch cp.product p join fetch p.brand where cp.cart.id = :cartId")
+    List<CartProduct> findAllWithProductByCartId(@Param("cartId") Long cartId);
+
+    boolean existsByCartIdAndProductId(Long cartId, Long productId);
 }
@@ -0,0 +1,29 @@
+package com.shoekream.domain.heartbeat;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * slave 복제 지연 측정용 heartbeat
+ * master 에서 주기적으로 beat_at 을 현재 시각으로 갱신하고, slave 에서 읽은 beat_at 과 slave 현재 시각의 차이를 지연으로 본다.
+ * 조회 · 갱신은 ReplicaLagMonitor 가 JDBC 로 master · slave 에 직접 한다.
+ */
+@Getter
+@Entity
+@Table(name = "replica_heartbeat")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReplicaHeartbeat {
+
+    @Id
+    private Long id;
+
+    @Column(name = "beat_at", columnDefinition = "datetime(3)")
+    private LocalDateTime beatAt;
+}
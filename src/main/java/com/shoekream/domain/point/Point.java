@@ -6,7 +6,15 @@ import com.shoekream.domain.user.User;
 import jakarta.persistence.*;
 import lombok.*;
 
+/**
+ * 포인트 원장 (append-only)
+ * 모든 포인트 이동을 한 행으로 기록하고, 기록 시점의 잔액(balance)을 함께 남긴다. 저장된 행은 수정하거나 삭제하지 않는다.
+ */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_point_user_division_created", columnList = "USER_ID, division, createdDate, id"),
+        @Index(name = "idx_point_user_created", columnList = "USER_ID, createdDate, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Builder
@@ -26,34 +34,25 @@ public class Point extends BaseTimeEntity {
 
     private Long amount;
 
-    public static Point returnPurchasePoint(User buyer, Long price) {
-        return Point.builder()
-            .user(buyer)
-            .division(PointDivision.PURCHASE_RETURN)
-            .amount(price)
-            .build();
-    }
+    // 이 이동이 반영된 직후의 잔액
+    private Long balance;
 
-    public static Point receivePurchasePoint(User seller, Long price) {
+    public static Point record(User user, PointDivision division, Long amount, Long balance) {
         return Point.builder()
-                .user(seller)
-                .division(PointDivision.POINT_REVENUE)
-                .amount(price)
+                .user(user)
+                .division(division)
+                .amount(amount)
+                .balance(balance)
                 .build();
     }
 
     public PointHistoryResponse toPointHistoryResponse() {
         return PointHistoryResponse.builder()
+                .id(this.id)
+                .division(this.division)
                 .time(this.getCreatedDate())
                 .amount(this.amount)
-                .build();
-    }
-
-    public static Point registerPointDeductionHistory(User user, Long price) {
-        return Point.builder()
-                .user(user)
-                .amount(price)
-                .division(PointDivision.PURCHASE_DEDUCTION)
+                .balance(this.balance)
                 .build();
     }
 }
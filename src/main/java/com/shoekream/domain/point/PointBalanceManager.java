@@ -0,0 +1,46 @@
+package com.shoekream.domain.point;
+
+import com.shoekream.common.exception.ErrorCode;
+import com.shoekream.common.exception.ShoeKreamException;
+import com.shoekream.domain.user.User;
+import com.shoekream.domain.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포인트 잔액 변경 및 원장 기록 담당
+ * 엔티티 값을 읽고 쓰는 대신 UPDATE 문 하나로 잔액을 증감하고, 갱신된 행 수로 잔액 충분 여부를 판단한다.
+ * 잔액 변경에 성공한 경우에만 같은 트랜잭션에서 변경 후 잔액과 함께 원장(Point)을 남긴다.
+ * 회원 행은 커밋까지 잠겨 있으므로 같은 회원의 원장 잔액은 기록 순서대로 이어진다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PointBalanceManager {
+
+    private final UserRepository userRepository;
+    private final PointRepository pointRepository;
+    private final PointSnapshotRepository pointSnapshotRepository;
+
+    // 구분에 따라 잔액 증감 후 원장 기록, 변경 후 잔액 반환 - 잔액이 부족하면 예외
+    public Long record(User user, PointDivision division, Long amount) {
+        if (userRepository.addPoint(user.getId(), division.signed(amount)) == 0) {
+            throw new ShoeKreamException(ErrorCode.NOT_ALLOWED_WITHDRAWAL_POINT);
+        }
+        Long balance = userRepository.findPointById(user.getId());
+
+        pointRepository.save(Point.record(user, division, amount, balance));
+
+        return balance;
+    }
+
+    // 최신 스냅샷 잔액 + 스냅샷 이후 원장 합
+    public Long getBalance(Long userId) {
+        return pointSnapshotRepository.findTopByUserIdOrderByLastPointIdDesc(userId)
+                .map(snapshot -> snapshot.getBalance() + sumAfter(userId, snapshot.getLastPointId()))
+                .orElseGet(() -> sumAfter(userId, 0L));
+    }
+
+    private Long sumAfter(Long userId, Long lastPointId) {
+        return pointRepository.sumSignedAmountAfter(userId, lastPointId, PointDivision.debits());
+    }
+}
@@ -1,6 +1,9 @@
 package com.shoekream.domain.point;
 
 
+import java.util.Arrays;
+import java.util.List;
+
 /*
  * @ 포인트 구분
  * POINT_CHARGE: 충전(+)
@@ -11,5 +14,23 @@ package com.shoekream.domain.point;
  */
 
 public enum PointDivision {
-    POINT_CHARGE, POINT_WITHDRAW, PURCHASE_DEDUCTION, PURCHASE_RETURN, POINT_REVENUE;
+    POINT_CHARGE(1), POINT_WITHDRAW(-1), PURCHASE_DEDUCTION(-1), PURCHASE_RETURN(1), POINT_REVENUE(1);
+
+    private final int sign;
+
+    PointDivision(int sign) {
+        this.sign = sign;
+    }
+
+    // 잔액에 반영되는 부호 적용 금액
+    public long signed(Long amount) {
+        return sign * amount;
+    }
+
+    // 잔액을 줄이는 구분 (SQL 합산 시 음수로 계산)
+    public static List<PointDivision> debits() {
+        return Arrays.stream(values())
+                .filter(division -> division.sign < 0)
+                .toList();
+    }
 }
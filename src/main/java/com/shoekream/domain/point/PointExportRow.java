@@ -0,0 +1,19 @@
+package com.shoekream.domain.point;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 내역 내보내기용 projection (영속성 컨텍스트에 엔티티를 쌓지 않음)
+ */
+public interface PointExportRow {
+
+    Long getId();
+
+    PointDivision getDivision();
+
+    Long getAmount();
+
+    Long getBalance();
+
+    LocalDateTime getCreatedDate();
+}
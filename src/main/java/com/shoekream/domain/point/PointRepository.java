@@ -1,13 +1,72 @@
 package com.shoekream.domain.point;
 
 import com.shoekream.domain.user.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.shoekream.common.util.constants.ExportConstants.STREAMING_FETCH_SIZE;
 
 @Repository
 public interface PointRepository extends JpaRepository<Point, Long> {
 
-    List<Point> findAllByUserAndDivisionOrderByCreatedDateDesc(User user, PointDivision division);
+    // 구분별 내역 - (createdDate, id) 커서 이전 내역을 최신순으로 (idx_point_user_division_created 범위 조회)
+    @Query("select p from Point p " +
+            "where p.user = :user and p.division = :division and p.createdDate >= :from " +
+            "and (p.createdDate < :cursorDate or (p.createdDate = :cursorDate and p.id < :cursorId)) " +
+            "order by p.createdDate desc, p.id desc")
+    List<Point> findHistoryByDivision(@Param("user") User user,
+                                      @Param("division") PointDivision division,
+                                      @Param("from") LocalDateTime from,
+                                      @Param("cursorDate") LocalDateTime cursorDate,
+                                      @Param("cursorId") Long cursorId,
+                                      Pageable pageable);
+
+    // 전체 구분 내역 - (createdDate, id) 커서 이전 내역을 최신순으로 (idx_point_user_created 범위 조회)
+    @Query("select p from Point p " +
+            "where p.user = :user and p.createdDate >= :from " +
+            "and (p.createdDate < :cursorDate or (p.createdDate = :cursorDate and p.id < :cursorId)) " +
+            "order by p.createdDate desc, p.id desc")
+    List<Point> findHistory(@Param("user") User user,
+                            @Param("from") LocalDateTime from,
+                            @Param("cursorDate") LocalDateTime cursorDate,
+                            @Param("cursorId") Long cursorId,
+                            Pageable pageable);
+
+    // 내보내기용 - 한 행씩 스트리밍 (division 이 null 이면 전체 구분)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p.id as id, p.division as division, p.amount as amount, p.balance as balance, p.createdDate as createdDate " +
+            "from Point p where p.user.id = :userId and (:division is null or p.division = :division) " +
+            "and p.createdDate >= :from and p.createdDate < :to " +
+            "order by p.createdDate, p.id")
+    Stream<PointExportRow> streamHistory(@Param("userId") Long userId,
+                                         @Param("division") PointDivision division,
+                                         @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to);
+
+    Optional<Point> findTopByUserIdOrderByIdDesc(Long userId);
+
+    // 스냅샷 이후 원장(tail) 합계 - 차감 구분은 음수로 합산
+    @Query("select coalesce(sum(case when p.division in :debits then -p.amount else p.amount end), 0) " +
+            "from Point p where p.user.id = :userId and p.id > :afterId")
+    Long sumSignedAmountAfter(@Param("userId") Long userId,
+                              @Param("afterId") Long afterId,
+                              @Param("debits") List<PointDivision> debits);
+
+    // 스냅샷 대상 상한 - 기록된 지 일정 시간이 지나 커밋이 끝났다고 볼 수 있는 마지막 원장 id
+    @Query("select coalesce(max(p.id), :fromId) from Point p where p.id > :fromId and p.createdDate < :before")
+    Long findLastPointIdBefore(@Param("fromId") Long fromId, @Param("before") LocalDateTime before);
 }
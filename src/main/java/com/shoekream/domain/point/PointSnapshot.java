@@ -0,0 +1,36 @@
+package com.shoekream.domain.point;
+
+import com.shoekream.domain.BaseTimeEntity;
+import com.shoekream.domain.user.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 포인트 잔액 스냅샷
+ * lastPointId 까지의 원장을 모두 반영한 잔액. 잔액은 최신 스냅샷 + 이후 원장(tail) 합으로 계산한다.
+ */
+@Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_point_snapshot_user_last_point", columnNames = {"USER_ID", "lastPointId"})
+}, indexes = {
+        @Index(name = "idx_point_snapshot_last_point", columnList = "lastPointId")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Builder
+@AllArgsConstructor
+public class PointSnapshot extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "USER_ID")
+    private User user;
+
+    private Long balance;
+
+    // 스냅샷에 반영된 마지막 원장 id
+    private Long lastPointId;
+}
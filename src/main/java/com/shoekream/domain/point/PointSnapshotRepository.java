@@ -0,0 +1,54 @@
+package com.shoekream.domain.point;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PointSnapshotRepository extends JpaRepository<PointSnapshot, Long> {
+
+    Optional<PointSnapshot> findTopByUserIdOrderByLastPointIdDesc(Long userId);
+
+    // 스냅샷 작업 진행 위치 - 가장 마지막으로 스냅샷에 반영된 원장 id
+    @Query("select coalesce(max(s.lastPointId), 0) from PointSnapshot s")
+    Long findLastSnapshotPointId();
+
+    // 스냅샷이 없는 회원의 시작 잔액 스냅샷 (최대 limit 명)
+    // 회원 포인트에는 원장 도입 이전 잔액까지 반영되어 있으므로, lastPointId 이후 원장을 빼서 lastPointId 시점 잔액을 구한다.
+    @Modifying
+    @Query(value = "insert into PointSnapshot (USER_ID, balance, lastPointId, createdDate, lastModifiedDate) " +
+            "select u.USER_ID, " +
+            "u.point - coalesce((select sum(case when p.division in (:debits) then -p.amount else p.amount end) " +
+            "from Point p where p.USER_ID = u.USER_ID and p.id > :lastPointId), 0), " +
+            ":lastPointId, :now, :now " +
+            "from User u where not exists (select 1 from PointSnapshot s where s.USER_ID = u.USER_ID) " +
+            "order by u.USER_ID limit :limit", nativeQuery = true)
+    int insertOpeningSnapshots(@Param("lastPointId") Long lastPointId,
+                               @Param("debits") List<String> debits,
+                               @Param("now") LocalDateTime now,
+                               @Param("limit") int limit);
+
+    // (fromId, toId] 구간 원장을 회원별로 합산해 직전 스냅샷 잔액에 더한 새 스냅샷 저장
+    // 직전 스냅샷이 없는 회원은 시작 잔액 스냅샷과 같은 방식으로 fromId 시점 잔액을 구해 더한다.
+    @Modifying
+    @Query(value = "insert into PointSnapshot (USER_ID, balance, lastPointId, createdDate, lastModifiedDate) " +
+            "select p.USER_ID, " +
+            "coalesce((select s.balance from PointSnapshot s where s.USER_ID = p.USER_ID order by s.lastPointId desc limit 1), " +
+            "coalesce((select u.point from User u where u.USER_ID = p.USER_ID), 0) " +
+            "- coalesce((select sum(case when t.division in (:debits) then -t.amount else t.amount end) " +
+            "from Point t where t.USER_ID = p.USER_ID and t.id > :fromId), 0)) " +
+            "+ sum(case when p.division in (:debits) then -p.amount else p.amount end), " +
+            "max(p.id), :now, :now " +
+            "from Point p where p.id > :fromId and p.id <= :toId " +
+            "group by p.USER_ID", nativeQuery = true)
+    int insertSnapshots(@Param("fromId") Long fromId,
+                        @Param("toId") Long toId,
+                        @Param("debits") List<String> debits,
+                        @Param("now") LocalDateTime now);
+}
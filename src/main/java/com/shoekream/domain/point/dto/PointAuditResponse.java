@@ -0,0 +1,21 @@
+package com.shoekream.domain.point.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+public class PointAuditResponse {
+    private Long userId;
+    // 회원 보유 포인트
+    private Long userPoint;
+    // 스냅샷 + 이후 원장 합으로 계산한 잔액
+    private Long ledgerBalance;
+    // 마지막 원장에 기록된 잔액
+    private Long lastRecordedBalance;
+    private boolean consistent;
+}
@@ -0,0 +1,19 @@
+package com.shoekream.domain.point.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+public class PointHistoryPageResponse {
+    private List<PointHistoryResponse> histories;
+    private LocalDateTime nextCursorDate;   // 다음 페이지 조회 시 cursorDate (마지막 페이지면 null)
+    private Long nextCursorId;              // 다음 페이지 조회 시 cursorId (마지막 페이지면 null)
+}
@@ -0,0 +1,35 @@
+package com.shoekream.domain.point.dto;
+
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 내역 조회 조건
+ * from ~ to 기간(일 단위, 양 끝 포함)의 내역을 최신순으로 size 건씩 조회한다.
+ * 다음 페이지는 이전 응답의 nextCursorDate · nextCursorId 를 cursorDate · cursorId 로 전달한다.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@EqualsAndHashCode
+public class PointHistoryRequest {
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime cursorDate;
+
+    private Long cursorId;
+
+    @Builder.Default
+    private int size = 20;
+}
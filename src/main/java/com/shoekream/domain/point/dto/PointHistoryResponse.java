@@ -1,5 +1,6 @@
 package com.shoekream.domain.point.dto;
 
+import com.shoekream.domain.point.PointDivision;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,6 +13,9 @@ import java.time.LocalDateTime;
 @Getter
 @Builder
 public class PointHistoryResponse {
+    private Long id;
+    private PointDivision division;
     private LocalDateTime time;
     private Long amount;
+    private Long balance;
 }
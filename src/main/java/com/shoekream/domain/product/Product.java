@@ -7,7 +7,6 @@ import com.shoekream.domain.product.common.SizeClassification;
 import com.shoekream.domain.product.common.SizeUnit;
 import com.shoekream.domain.product.dto.*;
 import com.shoekream.domain.trade.Trade;
-import com.shoekream.domain.trade.TradeStatus;
 import com.shoekream.domain.trade.dto.TradeBidInfos;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -17,9 +16,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @Builder
@@ -100,8 +97,9 @@ public class Product extends BaseTimeEntity {
                 .build();
     }
 
-    public ProductInfo toProductInfo() {
-        return ProductInfo.builder()
+    // 사이즈별 최우선 호가만 포함 (전체 입찰 목록은 호가 조회 API 사용)
+    public ProductStaticInfo toProductStaticInfo() {
+        return ProductStaticInfo.builder()
                 .id(this.id)
                 .name(this.name)
                 .modelNumber(this.modelNumber)
@@ -117,27 +115,33 @@ public class Product extends BaseTimeEntity {
                 .brandInfo(this.brand.toBrandInfo())
                 .originImagePath(this.originImagePath)
                 .resizedImagePath(this.resizedImagePath)
-                .salesBids(getSalesBids())
-                .purchaseBids(getPurchaseBids())
+                .sizeOptions(getSizeOptions())
                 .build();
     }
 
-    private List<TradeBidInfos> getSalesBids() {
-        return trades.stream()
-                .filter(trade -> trade.getStatus().equals(TradeStatus.PRE_OFFER))
-                .filter(trade -> trade.getBuyer() == null)
-                .sorted(Comparator.comparing(Trade::getPrice).reversed())
-                .map(Trade::toTradeBidInfos)
-                .toList();
+    // 등록 가능한 사이즈 목록 (minSize ~ maxSize, sizeGap 간격)
+    public List<Double> getSizeOptions() {
+        if (this.minSize == null || this.maxSize == null || this.sizeGap == null) {
+            return List.of();
+        }
+
+        // 부동소수점 누적 오차 없이 0.1 단위 정수로 계산
+        long min = Math.round(this.minSize * 10);
+        long max = Math.round(this.maxSize * 10);
+        long gap = Math.round(this.sizeGap * 10);
+        if (gap <= 0) {
+            return List.of();
+        }
+
+        List<Double> sizes = new ArrayList<>();
+        for (long size = min; size <= max; size += gap) {
+            sizes.add(size / 10.0);
+        }
+        return sizes;
     }
 
-    private List<TradeBidInfos> getPurchaseBids() {
-        return trades.stream()
-                .filter(trade -> trade.getStatus().equals(TradeStatus.PRE_OFFER))
-                .filter(trade -> trade.getSeller() == null)
-                .sorted(Comparator.comparing(Trade::getPrice))
-                .map(Trade::toTradeBidInfos)
-                .toList();
+    public boolean isAvailableSize(Double size) {
+        return size >= this.minSize && size <= this.maxSize;
     }
 
     public ProductDeleteResponse toProductDeleteResponse() {
@@ -176,43 +180,16 @@ public class Product extends BaseTimeEntity {
                 .build();
     }
 
-    // 입찰에 포함된 상품 정보
-    public ProductInfoFromTrade getProductInfoFromTrade(Double size) {
+    // 입찰에 포함된 상품 정보 (즉시 판매가 · 즉시 구매가는 호가창의 최우선 호가)
+    public ProductInfoFromTrade getProductInfoFromTrade(TradeBidInfos immediateSale, TradeBidInfos immediatePurchase) {
         return ProductInfoFromTrade.builder()
                 .id(this.id)
                 .name(this.name)
                 .modelNumber(this.modelNumber)
                 .color(this.color)
                 .brandName(this.brand.getName())
-                .immediateSale(toImmdiateSale(size))
-                .immediatePurchase(toImmdiatePurchase(size))
+                .immediateSale(immediateSale)
+                .immediatePurchase(immediatePurchase)
                 .build();
     }
-
-    // 즉시 판매가(구매 입찰 등록된 것)로 변환
-    private TradeBidInfos toImmdiateSale(Double productSize) {
-        return trades.stream()  // 입찰 신청 상태 + 판매자 없음 + 사이즈 일치 + 가장 높은 가격
-                .filter(trade -> trade.getStatus() == TradeStatus.PRE_OFFER)
-                .filter(trade -> trade.getSeller() == null)
-                .filter(trade -> trade.getProductSize() == productSize)
-                .sorted(Comparator.comparing(Trade::getPrice).reversed())
-                .map(Trade::toTradeBidInfos)
-                .findFirst()
-                .orElseGet(null);
-    }
-
-
-    // 즉시 구매가(판매 입찰 등록된 것)로 변환
-    private TradeBidInfos toImmdiatePurchase(Double productSize) {
-        return trades.stream()  // 입찰 신청 상태 + 구매자 없음 + 사이즈 일치 + 가장 낮은 가격
-                .filter(trade -> trade.getStatus() == TradeStatus.PRE_OFFER)
-                .filter(trade -> trade.getBuyer() == null)
-                .filter(trade -> trade.getProductSize() == productSize)
-                .sorted(Comparator.comparing(Trade::getPrice))
-                .map(Trade::toTradeBidInfos)
-                .findFirst()
-                .orElseGet(null);
-    }
-
-
 }
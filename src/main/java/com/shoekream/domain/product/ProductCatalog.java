@@ -0,0 +1,28 @@
+package com.shoekream.domain.product;
+
+import com.shoekream.common.exception.ErrorCode;
+import com.shoekream.common.exception.ShoeKreamException;
+import com.shoekream.domain.product.dto.ProductStaticInfo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 상품 정적 정보 조회 (productStatics 캐시)
+ * 상품 수정 · 삭제 시에만 캐시를 비우며, 입찰 · 체결로 바뀌는 시세는 호가창에서 따로 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductCatalog {
+
+    private final ProductRepository productRepository;
+
+    @Transactional(readOnly = true)
+    @Cacheable(value = "productStatics", key = "#productId", sync = true)
+    public ProductStaticInfo getStaticInfo(Long productId) {
+        return productRepository.findById(productId)
+                .orElseThrow(() -> new ShoeKreamException(ErrorCode.PRODUCT_NOT_FOUND))
+                .toProductStaticInfo();
+    }
+}
@@ -0,0 +1,20 @@
+package com.shoekream.domain.product.dto;
+
+import com.shoekream.domain.trade.orderbook.BidSide;
+import com.shoekream.domain.trade.orderbook.PriceLevel;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+public class BidLadderResponse {
+
+    private Long productId;
+    private Double productSize;
+    private BidSide side;
+    private List<PriceLevel> levels;
+    private Long nextCursor;    // 다음 페이지 조회 시 cursor (마지막 페이지면 null)
+}
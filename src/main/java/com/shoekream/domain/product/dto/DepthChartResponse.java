@@ -0,0 +1,23 @@
+package com.shoekream.domain.product.dto;
+
+import com.shoekream.domain.trade.orderbook.DepthLevel;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+public class DepthChartResponse {
+
+    private Long productId;
+    private Double productSize;
+    @Builder.Default
+    private List<DepthLevel> purchaseLevels = new ArrayList<>();   // 구매 입찰 (높은 가격 순)
+    @Builder.Default
+    private List<DepthLevel> saleLevels = new ArrayList<>();       // 판매 입찰 (낮은 가격 순)
+    private Integer totalPurchaseQuantity;
+    private Integer totalSaleQuantity;
+}
@@ -0,0 +1,63 @@
+package com.shoekream.domain.product.dto;
+
+import com.shoekream.domain.brand.dto.BrandInfo;
+import com.shoekream.domain.product.common.Currency;
+import com.shoekream.domain.product.common.SizeClassification;
+import com.shoekream.domain.product.common.SizeUnit;
+import com.shoekream.domain.trade.dto.TradeBidInfos;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 정보 중 입찰 · 체결과 무관하게 상품 수정 전까지 변하지 않는 부분 (오래 캐싱)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+public class ProductStaticInfo {
+
+    private Long id;
+    private String name;
+    private String modelNumber;
+    private String color;
+    private LocalDate releaseDate;
+    private Long releasePrice;
+    private Currency currency;
+    private SizeClassification sizeClassification;
+    private SizeUnit sizeUnit;
+    private Double minSize;
+    private Double maxSize;
+    private Double sizeGap;
+    private BrandInfo brandInfo;
+    private String originImagePath;
+    private String resizedImagePath;
+    @Builder.Default
+    private List<Double> sizeOptions = new ArrayList<>();
+
+    // 호가창에서 조회한 사이즈별 입찰과 합쳐 응답 생성
+    public ProductInfo toProductInfo(List<TradeBidInfos> salesBids, List<TradeBidInfos> purchaseBids) {
+        return ProductInfo.builder()
+                .id(this.id)
+                .name(this.name)
+                .modelNumber(this.modelNumber)
+                .color(this.color)
+                .releaseDate(this.releaseDate)
+                .releasePrice(this.releasePrice)
+                .currency(this.currency)
+                .sizeClassification(this.sizeClassification)
+                .sizeUnit(this.sizeUnit)
+                .minSize(this.minSize)
+                .maxSize(this.maxSize)
+                .sizeGap(this.sizeGap)
+                .brandInfo(this.brandInfo)
+                .originImagePath(this.originImagePath)
+                .resizedImagePath(this.resizedImagePath)
+                .salesBids(salesBids)
+                .purchaseBids(purchaseBids)
+                .build();
+    }
+}
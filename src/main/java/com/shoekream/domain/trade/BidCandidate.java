@@ -0,0 +1,11 @@
+package com.shoekream.domain.trade;
+
+/**
+ * 체결 대상 입찰 id · 입찰 등록 회원 id만 조회 (본인 입찰 체결 방지 확인용)
+ */
+public interface BidCandidate {
+
+    Long getId();
+
+    Long getUserId();
+}
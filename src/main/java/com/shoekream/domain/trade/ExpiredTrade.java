@@ -0,0 +1,19 @@
+package com.shoekream.domain.trade;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 판매자 발송 기한이 지난 거래 (취소 · 포인트 환불 대상)
+ */
+@Getter
+@AllArgsConstructor
+public class ExpiredTrade {
+
+    private final Long id;
+    private final Long buyerId;
+    private final Long price;
+    private final LocalDateTime lastModifiedDate;
+}
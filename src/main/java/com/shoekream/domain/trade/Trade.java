@@ -7,8 +7,14 @@ import com.shoekream.domain.trade.dto.*;
 import com.shoekream.domain.user.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_trade_purchase_bid_price", columnList = "PRODUCT_ID, productSize, status, SELLER_ID, price"),
+        @Index(name = "idx_trade_sale_bid_price", columnList = "PRODUCT_ID, productSize, status, BUYER_ID, price"),
+        @Index(name = "idx_trade_status_modified", columnList = "status, lastModifiedDate")
+})
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
@@ -53,6 +59,11 @@ public class Trade extends BaseTimeEntity {
 
     private String cancelReason;
 
+    // 낙관적 락 버전 (입찰 체결 · 취소 시 동시 변경 감지)
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
     public TradeBidInfos toTradeBidInfos() {
         return TradeBidInfos.builder()
                 .tradeId(this.id)
@@ -82,11 +93,6 @@ public class Trade extends BaseTimeEntity {
         return this.seller != null;
     }
 
-    public void undoTrade(Long price) {
-        buyer.returnPoint(price);
-
-    }
-
     public TradeDeleteResponse toTradeDeleteResponse() {
         return TradeDeleteResponse.builder()
                 .productId(this.product.getId())
@@ -114,7 +120,6 @@ public class Trade extends BaseTimeEntity {
 
     public void cancelCausedByInspectionFailed(String cancelReason) {
         this.cancelReason = cancelReason;
-        this.buyer.returnPoint(this.price);
     }
 
     public ReasonResponse toReasonResponse() {
@@ -149,7 +154,6 @@ public class Trade extends BaseTimeEntity {
 
     public void finishTrade() {
         this.status = TradeStatus.TRADE_COMPLETE;
-        this.seller.returnPoint(this.price);
     }
 }
 
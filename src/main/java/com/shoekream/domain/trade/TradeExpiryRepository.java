@@ -0,0 +1,120 @@
+package com.shoekream.domain.trade;
+
+import com.shoekream.domain.point.PointDivision;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 판매자 미발송 거래 일괄 취소 · 환불 (JDBC 배치)
+ * 기한 초과 거래는 (status, lastModifiedDate) 인덱스를 (lastModifiedDate, id) 커서로 순서대로 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TradeExpiryRepository {
+
+    private static final String FIND_OVERDUE_SQL =
+            "select id, BUYER_ID, price, lastModifiedDate from Trade " +
+            "where status = ? and lastModifiedDate < ? " +
+            "and (lastModifiedDate > ? or (lastModifiedDate = ? and id > ?)) " +
+            "order by lastModifiedDate, id limit ? " +
+            "for update skip locked";
+
+    private static final String CANCEL_SQL =
+            "update Trade set status = ?, cancelReason = ?, lastModifiedDate = ?, version = version + 1 " +
+            "where id = ? and status = ?";
+
+    private static final String INSERT_REFUND_HISTORY_SQL =
+            "insert into Point (USER_ID, division, amount, balance, createdDate, lastModifiedDate) values (?, ?, ?, ?, ?, ?)";
+
+    private static final String REFUND_POINT_SQL =
+            "update User set point = point + ? where USER_ID = ?";
+
+    private static final String FIND_POINTS_SQL =
+            "select USER_ID, point from User where USER_ID in (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 다른 노드가 처리 중인 거래는 건너뛰고 잠금 (skip locked)
+    public List<ExpiredTrade> findOverdueForUpdate(LocalDateTime deadline, LocalDateTime cursorDate, Long cursorId, int limit) {
+        Timestamp cursor = Timestamp.valueOf(cursorDate);
+        return jdbcTemplate.query(FIND_OVERDUE_SQL,
+                (rs, rowNum) -> new ExpiredTrade(
+                        rs.getLong("id"),
+                        rs.getObject("BUYER_ID", Long.class),
+                        rs.getLong("price"),
+                        rs.getTimestamp("lastModifiedDate").toLocalDateTime()),
+                TradeStatus.PRE_SELLER_SHIPMENT.name(), Timestamp.valueOf(deadline), cursor, cursor, cursorId, limit);
+    }
+
+    public void cancel(List<ExpiredTrade> trades, String cancelReason, LocalDateTime now) {
+        jdbcTemplate.batchUpdate(CANCEL_SQL, trades, trades.size(), (ps, trade) -> {
+            ps.setString(1, TradeStatus.CANCEL.name());
+            ps.setString(2, cancelReason);
+            ps.setTimestamp(3, Timestamp.valueOf(now));
+            ps.setLong(4, trade.getId());
+            ps.setString(5, TradeStatus.PRE_SELLER_SHIPMENT.name());
+        });
+    }
+
+    // 구매자 보유 포인트 증가 후, 반환 이력을 거래별 변경 후 잔액과 함께 원장에 저장
+    public void refund(List<ExpiredTrade> trades, LocalDateTime now) {
+        if (trades.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> refundByBuyer = new LinkedHashMap<>();
+        trades.forEach(trade -> refundByBuyer.merge(trade.getBuyerId(), trade.getPrice(), Long::sum));
+
+        List<Map.Entry<Long, Long>> refunds = new ArrayList<>(refundByBuyer.entrySet());
+        jdbcTemplate.batchUpdate(REFUND_POINT_SQL, refunds, refunds.size(), (ps, refund) -> {
+            ps.setLong(1, refund.getValue());
+            ps.setLong(2, refund.getKey());
+        });
+
+        // 회원 행은 커밋까지 잠겨 있으므로, 최종 잔액에서 거꾸로 빼며 거래별 잔액 계산
+        Map<Long, Long> balanceByBuyer = findPoints(refundByBuyer.keySet());
+        Long[] balances = new Long[trades.size()];
+        for (int i = trades.size() - 1; i >= 0; i--) {
+            ExpiredTrade trade = trades.get(i);
+            balances[i] = balanceByBuyer.get(trade.getBuyerId());
+            balanceByBuyer.put(trade.getBuyerId(), balances[i] - trade.getPrice());
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(INSERT_REFUND_HISTORY_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ExpiredTrade trade = trades.get(i);
+                ps.setLong(1, trade.getBuyerId());
+                ps.setString(2, PointDivision.PURCHASE_RETURN.name());
+                ps.setLong(3, trade.getPrice());
+                ps.setLong(4, balances[i]);
+                ps.setTimestamp(5, timestamp);
+                ps.setTimestamp(6, timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return trades.size();
+            }
+        });
+    }
+
+    private Map<Long, Long> findPoints(Collection<Long> userIds) {
+        String placeholders = String.join(", ", Collections.nCopies(userIds.size(), "?"));
+        Map<Long, Long> points = new HashMap<>();
+        jdbcTemplate.query(String.format(FIND_POINTS_SQL, placeholders),
+                (RowCallbackHandler) rs -> points.put(rs.getLong("USER_ID"), rs.getLong("point")),
+                userIds.toArray());
+        return points;
+    }
+}
@@ -0,0 +1,28 @@
+package com.shoekream.domain.trade;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거래 내역 내보내기용 projection (영속성 컨텍스트에 엔티티를 쌓지 않음)
+ */
+public interface TradeExportRow {
+
+    Long getId();
+
+    // SALE - 판매 거래, PURCHASE - 구매 거래
+    String getTradeType();
+
+    String getProductName();
+
+    String getModelNumber();
+
+    Double getProductSize();
+
+    Long getPrice();
+
+    TradeStatus getStatus();
+
+    LocalDateTime getCreatedDate();
+
+    LocalDateTime getLastModifiedDate();
+}
@@ -1,23 +1,124 @@
 package com.shoekream.domain.trade;
 
-import com.shoekream.domain.product.Product;
-import jakarta.persistence.LockModeType;
+import com.shoekream.domain.address.Address;
+import com.shoekream.domain.trade.orderbook.OpenBid;
+import com.shoekream.domain.user.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.shoekream.common.util.constants.ExportConstants.STREAMING_FETCH_SIZE;
 
 @Repository
 public interface TradeRepository extends JpaRepository<Trade, Long> {
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    Optional<Trade> findPessimisticLockById(@Param("id") Long id);
-
     List<Trade> findTradeById(Long tradeId);
 
-    List<Trade> findByProductAndProductSizeAndStatusAndSellerIsNull(Product product, Double productSize, TradeStatus status);
-    List<Trade> findByProductAndProductSizeAndStatusAndBuyerIsNull(Product product, Double productSize, TradeStatus status);
-}
\ No newline at end of file
+    // 구매 입찰 최고가 (판매자 없음) - idx_trade_purchase_bid_price 인덱스 범위에서 조회
+    @Query("select max(t.price) from Trade t " +
+            "where t.product.id = :productId and t.productSize = :productSize and t.status = :status and t.seller is null")
+    Optional<Long> findHighestPurchaseBidPrice(@Param("productId") Long productId,
+                                               @Param("productSize") Double productSize,
+                                               @Param("status") TradeStatus status);
+
+    // 판매 입찰 최저가 (구매자 없음) - idx_trade_sale_bid_price 인덱스 범위에서 조회
+    @Query("select min(t.price) from Trade t " +
+            "where t.product.id = :productId and t.productSize = :productSize and t.status = :status and t.buyer is null")
+    Optional<Long> findLowestSaleBidPrice(@Param("productId") Long productId,
+                                          @Param("productSize") Double productSize,
+                                          @Param("status") TradeStatus status);
+
+    // 해당 가격의 구매 입찰 중 먼저 등록된 순서 (가격-시간 우선 체결)
+    // afterId 이후만 조회 - 같은 트랜잭션(스냅샷)에서 재시도할 때 이미 시도한 입찰을 다시 읽지 않도록
+    @Query("select t.id as id, t.buyer.id as userId from Trade t " +
+            "where t.product.id = :productId and t.productSize = :productSize and t.status = :status and t.seller is null and t.price = :price " +
+            "and t.id > :afterId " +
+            "order by t.id")
+    List<BidCandidate> findPurchaseBidsByPrice(@Param("productId") Long productId,
+                                               @Param("productSize") Double productSize,
+                                               @Param("status") TradeStatus status,
+                                               @Param("price") Long price,
+                                               @Param("afterId") Long afterId,
+                                               Pageable pageable);
+
+    // 해당 가격의 판매 입찰 중 먼저 등록된 순서 (가격-시간 우선 체결)
+    @Query("select t.id as id, t.seller.id as userId from Trade t " +
+            "where t.product.id = :productId and t.productSize = :productSize and t.status = :status and t.buyer is null and t.price = :price " +
+            "and t.id > :afterId " +
+            "order by t.id")
+    List<BidCandidate> findSaleBidsByPrice(@Param("productId") Long productId,
+                                           @Param("productSize") Double productSize,
+                                           @Param("status") TradeStatus status,
+                                           @Param("price") Long price,
+                                           @Param("afterId") Long afterId,
+                                           Pageable pageable);
+
+    // 구매 입찰 체결 - 아직 판매자가 없는 PRE_OFFER 상태이고 본인 입찰이 아닐 때만 판매자 지정 (0 반환 시 체결 불가)
+    @Modifying
+    @Query("update Trade t set t.seller = :seller, t.sellerAddress = :sellerAddress, " +
+            "t.status = com.shoekream.domain.trade.TradeStatus.PRE_SELLER_SHIPMENT, t.lastModifiedDate = local datetime, t.version = t.version + 1 " +
+            "where t.id = :id and t.status = com.shoekream.domain.trade.TradeStatus.PRE_OFFER and t.seller is null and t.buyer <> :seller")
+    int claimPurchaseBid(@Param("id") Long id, @Param("seller") User seller, @Param("sellerAddress") Address sellerAddress);
+
+    // 판매 입찰 체결 - 아직 구매자가 없는 PRE_OFFER 상태이고 본인 입찰이 아닐 때만 구매자 지정 (0 반환 시 체결 불가)
+    @Modifying
+    @Query("update Trade t set t.buyer = :buyer, t.buyerAddress = :buyerAddress, " +
+            "t.status = com.shoekream.domain.trade.TradeStatus.PRE_SELLER_SHIPMENT, t.lastModifiedDate = local datetime, t.version = t.version + 1 " +
+            "where t.id = :id and t.status = com.shoekream.domain.trade.TradeStatus.PRE_OFFER and t.buyer is null and t.seller <> :buyer")
+    int claimSaleBid(@Param("id") Long id, @Param("buyer") User buyer, @Param("buyerAddress") Address buyerAddress);
+
+    // 즉시 구매 - 조회한 버전 그대로일 때만 구매자 지정 (0 반환 시 그 사이 다른 요청이 거래를 변경함)
+    @Modifying
+    @Query("update Trade t set t.buyer = :buyer, t.buyerAddress = :buyerAddress, " +
+            "t.status = com.shoekream.domain.trade.TradeStatus.PRE_SELLER_SHIPMENT, t.lastModifiedDate = local datetime, t.version = t.version + 1 " +
+            "where t.id = :id and t.version = :version and t.status = com.shoekream.domain.trade.TradeStatus.PRE_OFFER and t.buyer is null " +
+            "and t.seller <> :buyer")
+    int claimSaleBid(@Param("id") Long id, @Param("version") Long version, @Param("buyer") User buyer, @Param("buyerAddress") Address buyerAddress);
+
+    @Query("select t.id as id, t.status as status from Trade t where t.id in :ids")
+    List<TradeStatusView> findStatusesByIdIn(@Param("ids") List<Long> ids);
+
+    // 일괄 상태 변경 - current 상태인 거래만 next 상태로 변경
+    @Modifying
+    @Query("update Trade t set t.status = :next, t.lastModifiedDate = local datetime, t.version = t.version + 1 " +
+            "where t.id in :ids and t.status = :current")
+    int updateStatusByIdIn(@Param("ids") List<Long> ids,
+                           @Param("current") TradeStatus current,
+                           @Param("next") TradeStatus next);
+
+    // 호가창 재구성용 - 구매 입찰 (판매자 없음)
+    @Query("select t.id as id, t.product.id as productId, t.productSize as productSize, t.price as price " +
+            "from Trade t where t.status = :status and t.seller is null")
+    Stream<OpenBid> findOpenPurchaseBids(@Param("status") TradeStatus status);
+
+    // 호가창 재구성용 - 판매 입찰 (구매자 없음)
+    @Query("select t.id as id, t.product.id as productId, t.productSize as productSize, t.price as price " +
+            "from Trade t where t.status = :status and t.buyer is null")
+    Stream<OpenBid> findOpenSaleBids(@Param("status") TradeStatus status);
+
+    // 내보내기용 - 판매 · 구매 거래를 한 행씩 스트리밍
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAMING_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t.id as id, case when t.seller.id = :userId then 'SALE' else 'PURCHASE' end as tradeType, " +
+            "p.name as productName, p.modelNumber as modelNumber, t.productSize as productSize, t.price as price, t.status as status, " +
+            "t.createdDate as createdDate, t.lastModifiedDate as lastModifiedDate " +
+            "from Trade t join t.product p " +
+            "where (t.seller.id = :userId or t.buyer.id = :userId) and t.createdDate >= :from and t.createdDate < :to " +
+            "order by t.createdDate, t.id")
+    Stream<TradeExportRow> streamHistory(@Param("userId") Long userId,
+                                         @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to);
+}
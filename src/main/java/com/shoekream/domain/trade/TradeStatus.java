@@ -1,5 +1,10 @@
 package com.shoekream.domain.trade;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 /**
  *     PRE_OFFER: 구매, 판매 입찰 신청
  *     PRE_SELLER_SHIPMENT: 판매자 발송 대기
@@ -19,5 +24,23 @@ public enum TradeStatus {
     PRE_SHIPMENT,
     SHIPPING,
     TRADE_COMPLETE,
-    CANCEL
+    CANCEL;
+
+    // 상태 전이 테이블 (현재 상태 -> 변경 가능한 상태)
+    private static final Map<TradeStatus, Set<TradeStatus>> TRANSITIONS = new EnumMap<>(TradeStatus.class);
+
+    static {
+        TRANSITIONS.put(PRE_OFFER, EnumSet.of(PRE_SELLER_SHIPMENT));
+        TRANSITIONS.put(PRE_SELLER_SHIPMENT, EnumSet.of(PRE_WAREHOUSING, CANCEL));
+        TRANSITIONS.put(PRE_WAREHOUSING, EnumSet.of(PRE_INSPECTION));
+        TRANSITIONS.put(PRE_INSPECTION, EnumSet.of(PRE_SHIPMENT, CANCEL));
+        TRANSITIONS.put(PRE_SHIPMENT, EnumSet.of(SHIPPING));
+        TRANSITIONS.put(SHIPPING, EnumSet.of(TRADE_COMPLETE));
+        TRANSITIONS.put(TRADE_COMPLETE, EnumSet.noneOf(TradeStatus.class));
+        TRANSITIONS.put(CANCEL, EnumSet.noneOf(TradeStatus.class));
+    }
+
+    public boolean canTransitTo(TradeStatus next) {
+        return TRANSITIONS.get(this).contains(next);
+    }
 }
\ No newline at end of file
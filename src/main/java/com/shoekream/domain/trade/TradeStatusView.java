@@ -0,0 +1,11 @@
+package com.shoekream.domain.trade;
+
+/**
+ * 일괄 상태 변경 시 거래 id · 현재 상태만 조회
+ */
+public interface TradeStatusView {
+
+    Long getId();
+
+    TradeStatus getStatus();
+}
@@ -1,6 +1,9 @@
 package com.shoekream.domain.trade;
 
+import com.shoekream.common.exception.ErrorCode;
+import com.shoekream.common.exception.ShoeKreamException;
 import com.shoekream.domain.trade.dto.ImmediatePurchaseResponse;
+import com.shoekream.domain.user.User;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -13,5 +16,18 @@ public class TradeValidator {
 
         return ImmediatePurchaseResponse.of(true, null);
     }
-}
 
+    // 입찰 등록자와 거래 요청자가 같은 회원이면 체결하지 않음
+    public void validateNotOwnBid(User bidder, User requester) {
+        if (bidder != null) {
+            validateNotOwnBid(bidder.getId(), requester.getId());
+        }
+    }
+
+    // 체결 순서상 다음 입찰이 본인 입찰이면 요청을 거절 (건너뛰고 등록하면 본인 입찰끼리 호가가 교차된 채로 남음)
+    public void validateNotOwnBid(Long bidderId, Long requesterId) {
+        if (bidderId.equals(requesterId)) {
+            throw new ShoeKreamException(ErrorCode.SELF_TRADE_NOT_ALLOWED);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.shoekream.domain.trade.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+public class TradeBatchRequest {
+
+    @NotEmpty(message = "입찰 id를 하나 이상 입력해야 합니다.")
+    @Size(max = 100, message = "한 번에 최대 100건까지 요청할 수 있습니다.")
+    private List<Long> tradeIds;
+}
@@ -0,0 +1,18 @@
+package com.shoekream.domain.trade.dto;
+
+import com.shoekream.domain.trade.TradeStatus;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+public class TradeBatchResponse {
+
+    private TradeStatus status;     // 변경하려는 상태
+    private int requestCount;
+    private int successCount;
+    private List<TradeTransitionResult> results;
+}
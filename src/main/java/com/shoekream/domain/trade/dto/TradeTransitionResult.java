@@ -0,0 +1,25 @@
+package com.shoekream.domain.trade.dto;
+
+import com.shoekream.common.exception.ErrorCode;
+import com.shoekream.domain.trade.TradeStatus;
+import lombok.*;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+public class TradeTransitionResult {
+
+    private Long tradeId;
+    private boolean success;
+    private TradeStatus status;     // 요청 처리 후 거래 상태 (존재하지 않는 거래면 null)
+    private String failReason;
+
+    public static TradeTransitionResult success(Long tradeId, TradeStatus status) {
+        return new TradeTransitionResult(tradeId, true, status, null);
+    }
+
+    public static TradeTransitionResult fail(Long tradeId, TradeStatus status, ErrorCode errorCode) {
+        return new TradeTransitionResult(tradeId, false, status, errorCode.getMessage());
+    }
+}
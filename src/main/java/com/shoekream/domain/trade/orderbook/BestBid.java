@@ -0,0 +1,25 @@
+package com.shoekream.domain.trade.orderbook;
+
+import com.shoekream.domain.trade.dto.TradeBidInfos;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 최우선 호가 - 최고가(구매) · 최저가(판매) 레벨에 가장 먼저 등록된 입찰
+ */
+@Getter
+@AllArgsConstructor
+public class BestBid {
+
+    private final long tradeId;
+    private final long price;
+
+    public TradeBidInfos toTradeBidInfos(Long productId, Double productSize) {
+        return TradeBidInfos.builder()
+                .tradeId(this.tradeId)
+                .productId(productId)
+                .productSize(productSize)
+                .price(this.price)
+                .build();
+    }
+}
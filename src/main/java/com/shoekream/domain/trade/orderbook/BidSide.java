@@ -0,0 +1,9 @@
+package com.shoekream.domain.trade.orderbook;
+
+/**
+ * 호가창 방향
+ * PURCHASE - 구매 입찰 (높은 가격 순), SALE - 판매 입찰 (낮은 가격 순)
+ */
+public enum BidSide {
+    PURCHASE, SALE
+}
@@ -0,0 +1,19 @@
+package com.shoekream.domain.trade.orderbook;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 호가창 뎁스 스냅샷 (구매 · 판매 입찰을 같은 시점에 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class Depth {
+
+    private final List<DepthLevel> purchaseLevels;
+    private final List<DepthLevel> saleLevels;
+    private final int totalPurchaseQuantity;
+    private final int totalSaleQuantity;
+}
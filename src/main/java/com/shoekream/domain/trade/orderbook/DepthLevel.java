@@ -0,0 +1,19 @@
+package com.shoekream.domain.trade.orderbook;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 뎁스 차트 가격 레벨 - 해당 가격의 입찰 수와 최우선 호가부터 해당 가격까지의 누적 입찰 수
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DepthLevel {
+
+    private Long price;
+    private Integer quantity;
+    private Integer cumulativeQuantity;
+}
@@ -0,0 +1,102 @@
+package com.shoekream.domain.trade.orderbook;
+
+import com.shoekream.common.exception.ErrorCode;
+import com.shoekream.common.exception.ShoeKreamException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * (상품 id, 사이즈) 파티션 별 단일 스레드 입찰 체결 엔진
+ * 같은 파티션의 입찰은 하나의 스레드에서 순서대로 처리되므로, 같은 노드 안에서는 행 잠금 없이도
+ * 하나의 입찰이 두 번 체결되지 않는다. 작업은 파티션 스레드에서 하나의 트랜잭션으로 실행된다.
+ * 파티션 대기열은 크기가 제한되어 있고, 대기열이 가득 차거나 대기 시간 안에 시작하지 못한 요청은 MATCHING_ENGINE_BUSY 로 거절한다.
+ */
+@Slf4j
+@Component
+public class MatchingEngine implements DisposableBean {
+
+    private final ExecutorService[] partitions;
+    private final TransactionTemplate transactionTemplate;
+    private final long waitTimeoutMillis;
+
+    public MatchingEngine(PlatformTransactionManager transactionManager,
+                          @Value("${trade.matching.partitions:16}") int partitionCount,
+                          @Value("${trade.matching.queue-capacity:1000}") int queueCapacity,
+                          @Value("${trade.matching.wait-timeout-millis:3000}") long waitTimeoutMillis,
+                          @Value("${trade.matching.transaction-timeout-seconds:5}") int transactionTimeoutSeconds) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setTimeout(transactionTimeoutSeconds);
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.partitions = new ExecutorService[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            String threadName = "MatchingEngine-" + i;
+            partitions[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    runnable -> new Thread(runnable, threadName),
+                    new ThreadPoolExecutor.AbortPolicy());
+        }
+    }
+
+    public <T> T execute(Long productId, Double productSize, Supplier<T> task) {
+        ExecutorService partition = partitions[Math.floorMod(OrderBookKey.of(productId, productSize).hashCode(), partitions.length)];
+        // 파티션 스레드가 작업을 시작하거나 호출 스레드가 대기를 포기하면 true - 둘 중 먼저 선점한 쪽만 진행
+        AtomicBoolean taken = new AtomicBoolean(false);
+        Future<T> result;
+        try {
+            result = partition.submit(() -> taken.compareAndSet(false, true)
+                    ? transactionTemplate.execute(status -> task.get())
+                    : null);
+        } catch (RejectedExecutionException e) {
+            log.warn("체결 대기열 초과 productId={}, productSize={}", productId, productSize);
+            throw new ShoeKreamException(ErrorCode.MATCHING_ENGINE_BUSY);
+        }
+
+        try {
+            return await(result, taken);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 대기 시간 안에 시작하지 못한 작업은 취소하고 거절한다.
+    // 이미 실행 중인 작업은 트랜잭션 타임아웃 안에 끝나므로 결과(커밋 여부)를 확인할 때까지 기다린다.
+    private <T> T await(Future<T> result, AtomicBoolean taken) throws ExecutionException, InterruptedException {
+        try {
+            return result.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (taken.compareAndSet(false, true)) {
+                result.cancel(false);
+                throw new ShoeKreamException(ErrorCode.MATCHING_ENGINE_BUSY);
+            }
+            return result.get();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        for (ExecutorService partition : partitions) {
+            partition.shutdown();
+        }
+    }
+}
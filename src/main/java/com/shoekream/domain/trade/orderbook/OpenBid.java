@@ -0,0 +1,15 @@
+package com.shoekream.domain.trade.orderbook;
+
+/**
+ * 호가창 재구성용 입찰 projection (Trade 엔티티 전체를 로딩하지 않음)
+ */
+public interface OpenBid {
+
+    Long getId();
+
+    Long getProductId();
+
+    Double getProductSize();
+
+    Long getPrice();
+}
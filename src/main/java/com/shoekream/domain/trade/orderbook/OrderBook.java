@@ -0,0 +1,149 @@
+package com.shoekream.domain.trade.orderbook;
+
+import java.util.*;
+
+/**
+ * 상품 · 사이즈 별 호가창
+ * 구매 입찰은 높은 가격 순, 판매 입찰은 낮은 가격 순으로 가격 레벨을 유지하고,
+ * 최고 구매 입찰가 · 최저 판매 입찰가는 필드에 캐싱해두어 O(1)로 조회한다.
+ */
+public class OrderBook {
+
+    private static final long EMPTY = -1L;
+
+    // 가격 -> 해당 가격에 등록된 입찰 id (등록 순서 유지)
+    private final NavigableMap<Long, LinkedHashSet<Long>> purchaseBids = new TreeMap<>(Comparator.reverseOrder());
+    private final NavigableMap<Long, LinkedHashSet<Long>> saleBids = new TreeMap<>();
+
+    // 입찰 id -> 가격 (체결 · 취소 시 가격 레벨을 찾기 위함)
+    private final Map<Long, Long> purchasePrices = new HashMap<>();
+    private final Map<Long, Long> salePrices = new HashMap<>();
+
+    private volatile long highestPurchasePrice = EMPTY;
+    private volatile long lowestSalePrice = EMPTY;
+
+    public synchronized void addPurchaseBid(long tradeId, long price) {
+        add(purchaseBids, purchasePrices, tradeId, price);
+        highestPurchasePrice = bestPrice(purchaseBids);
+    }
+
+    public synchronized void addSaleBid(long tradeId, long price) {
+        add(saleBids, salePrices, tradeId, price);
+        lowestSalePrice = bestPrice(saleBids);
+    }
+
+    // 체결 · 취소된 입찰 제거 (호가창에 없는 입찰이면 false)
+    public synchronized boolean remove(long tradeId) {
+        if (remove(purchaseBids, purchasePrices, tradeId)) {
+            highestPurchasePrice = bestPrice(purchaseBids);
+            return true;
+        }
+        if (remove(saleBids, salePrices, tradeId)) {
+            lowestSalePrice = bestPrice(saleBids);
+            return true;
+        }
+        return false;
+    }
+
+    // 즉시 판매가 (구매 입찰의 최고가)
+    public OptionalLong getHighestPurchasePrice() {
+        long price = highestPurchasePrice;
+        return price == EMPTY ? OptionalLong.empty() : OptionalLong.of(price);
+    }
+
+    // 즉시 구매가 (판매 입찰의 최저가)
+    public OptionalLong getLowestSalePrice() {
+        long price = lowestSalePrice;
+        return price == EMPTY ? OptionalLong.empty() : OptionalLong.of(price);
+    }
+
+    // 최고가 구매 입찰 (같은 가격이면 먼저 등록된 입찰)
+    public synchronized Optional<BestBid> getBestPurchaseBid() {
+        return bestBid(purchaseBids);
+    }
+
+    // 최저가 판매 입찰 (같은 가격이면 먼저 등록된 입찰)
+    public synchronized Optional<BestBid> getBestSaleBid() {
+        return bestBid(saleBids);
+    }
+
+    // 구매 입찰 가격 레벨 (높은 가격 순) - cursor 가격 다음 레벨부터 최대 limit 개
+    public synchronized List<PriceLevel> getPurchaseLevels(Long cursor, int limit) {
+        return levels(purchaseBids, cursor, limit);
+    }
+
+    // 판매 입찰 가격 레벨 (낮은 가격 순) - cursor 가격 다음 레벨부터 최대 limit 개
+    public synchronized List<PriceLevel> getSaleLevels(Long cursor, int limit) {
+        return levels(saleBids, cursor, limit);
+    }
+
+    // 뎁스 차트 - 최우선 호가부터 각 방향 최대 maxLevels 개 레벨과 전체 입찰 수
+    public synchronized Depth getDepth(int maxLevels) {
+        return new Depth(depthLevels(purchaseBids, maxLevels), depthLevels(saleBids, maxLevels),
+                purchasePrices.size(), salePrices.size());
+    }
+
+    public synchronized boolean isEmpty() {
+        return purchasePrices.isEmpty() && salePrices.isEmpty();
+    }
+
+    private void add(NavigableMap<Long, LinkedHashSet<Long>> levels, Map<Long, Long> prices, long tradeId, long price) {
+        if (prices.containsKey(tradeId)) {
+            return;
+        }
+        prices.put(tradeId, price);
+        levels.computeIfAbsent(price, key -> new LinkedHashSet<>()).add(tradeId);
+    }
+
+    private boolean remove(NavigableMap<Long, LinkedHashSet<Long>> levels, Map<Long, Long> prices, long tradeId) {
+        Long price = prices.remove(tradeId);
+        if (price == null) {
+            return false;
+        }
+        LinkedHashSet<Long> level = levels.get(price);
+        level.remove(tradeId);
+        if (level.isEmpty()) {
+            levels.remove(price);
+        }
+        return true;
+    }
+
+    private Optional<BestBid> bestBid(NavigableMap<Long, LinkedHashSet<Long>> levels) {
+        if (levels.isEmpty()) {
+            return Optional.empty();
+        }
+        Map.Entry<Long, LinkedHashSet<Long>> best = levels.firstEntry();
+        return Optional.of(new BestBid(best.getValue().iterator().next(), best.getKey()));
+    }
+
+    // 각 방향의 정렬 순서 그대로 cursor 이후 레벨만 조회 (keyset 페이지네이션)
+    private List<PriceLevel> levels(NavigableMap<Long, LinkedHashSet<Long>> levels, Long cursor, int limit) {
+        NavigableMap<Long, LinkedHashSet<Long>> view = cursor == null ? levels : levels.tailMap(cursor, false);
+
+        List<PriceLevel> result = new ArrayList<>();
+        for (Map.Entry<Long, LinkedHashSet<Long>> level : view.entrySet()) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(new PriceLevel(level.getKey(), level.getValue().size()));
+        }
+        return result;
+    }
+
+    private List<DepthLevel> depthLevels(NavigableMap<Long, LinkedHashSet<Long>> levels, int maxLevels) {
+        List<DepthLevel> result = new ArrayList<>();
+        int cumulativeQuantity = 0;
+        for (Map.Entry<Long, LinkedHashSet<Long>> level : levels.entrySet()) {
+            if (result.size() == maxLevels) {
+                break;
+            }
+            cumulativeQuantity += level.getValue().size();
+            result.add(new DepthLevel(level.getKey(), level.getValue().size(), cumulativeQuantity));
+        }
+        return result;
+    }
+
+    private long bestPrice(NavigableMap<Long, LinkedHashSet<Long>> levels) {
+        return levels.isEmpty() ? EMPTY : levels.firstKey();
+    }
+}
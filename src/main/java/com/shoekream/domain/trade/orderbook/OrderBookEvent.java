@@ -0,0 +1,53 @@
+package com.shoekream.domain.trade.orderbook;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 호가창 변경 메세지 (입찰 등록 · 제거)
+ * 커밋된 변경을 다른 노드의 호가창에도 반영하기 위해 Redis pub/sub 으로 전파한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class OrderBookEvent {
+
+    public enum Type {
+        PURCHASE_BID, SALE_BID, REMOVE
+    }
+
+    private String origin;
+    private Type type;
+    private Long productId;
+    private Double productSize;
+    private Long tradeId;
+    private Long price;
+
+    public static OrderBookEvent purchaseBid(String origin, Long productId, Double productSize, Long tradeId, Long price) {
+        return new OrderBookEvent(origin, Type.PURCHASE_BID, productId, productSize, tradeId, price);
+    }
+
+    public static OrderBookEvent saleBid(String origin, Long productId, Double productSize, Long tradeId, Long price) {
+        return new OrderBookEvent(origin, Type.SALE_BID, productId, productSize, tradeId, price);
+    }
+
+    public static OrderBookEvent remove(String origin, Long productId, Double productSize, Long tradeId) {
+        return new OrderBookEvent(origin, Type.REMOVE, productId, productSize, tradeId, null);
+    }
+
+    @JsonIgnore
+    public OrderBookKey getKey() {
+        return OrderBookKey.of(productId, productSize);
+    }
+
+    public void applyTo(OrderBook orderBook) {
+        switch (type) {
+            case PURCHASE_BID -> orderBook.addPurchaseBid(tradeId, price);
+            case SALE_BID -> orderBook.addSaleBid(tradeId, price);
+            case REMOVE -> orderBook.remove(tradeId);
+        }
+    }
+}
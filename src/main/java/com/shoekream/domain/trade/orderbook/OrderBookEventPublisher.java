@@ -0,0 +1,38 @@
+package com.shoekream.domain.trade.orderbook;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+import static com.shoekream.common.util.constants.TradeConstants.ORDER_BOOK_CHANNEL;
+
+/**
+ * 호가창 변경을 Redis pub/sub 으로 다른 노드에 전파
+ * 메세지가 유실되더라도 각 노드는 주기적으로 trade 테이블에서 호가창을 재구성한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderBookEventPublisher {
+
+    // 자신이 보낸 메세지는 무시하기 위한 노드 식별자
+    @Getter
+    private final String origin = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void publish(OrderBookEvent event) {
+        try {
+            stringRedisTemplate.convertAndSend(ORDER_BOOK_CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("호가창 변경 전파 실패 type={} tradeId={}", event.getType(), event.getTradeId(), e);
+        }
+    }
+}
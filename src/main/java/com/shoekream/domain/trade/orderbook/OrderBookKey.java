@@ -0,0 +1,31 @@
+package com.shoekream.domain.trade.orderbook;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 호가창 식별 키 (상품 id + 사이즈)
+ * 사이즈는 Double 비교 오차를 피하기 위해 0.1 단위 정수로 변환해 보관한다. (ex. 265.0 -> 2650)
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class OrderBookKey {
+
+    private final long productId;
+    private final int sizeKey;
+
+    public static OrderBookKey of(Long productId, Double productSize) {
+        return new OrderBookKey(productId, toSizeKey(productSize));
+    }
+
+    public static int toSizeKey(Double productSize) {
+        return (int) Math.round(productSize * 10);
+    }
+
+    public double getProductSize() {
+        return sizeKey / 10.0;
+    }
+}
@@ -0,0 +1,185 @@
+package com.shoekream.domain.trade.orderbook;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shoekream.domain.trade.Trade;
+import com.shoekream.domain.trade.TradeRepository;
+import com.shoekream.domain.trade.TradeStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * (상품 id, 사이즈) 별 호가창 관리
+ * 입찰 등록 · 체결 · 취소는 트랜잭션 커밋 이후에만 호가창에 반영한다. (롤백된 입찰이 호가창에 남지 않도록)
+ * 반영한 변경은 Redis pub/sub 으로 다른 노드에 전파하고, 유실된 메세지는 주기적인 재구성으로 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderBookManager implements MessageListener {
+
+    private final TradeRepository tradeRepository;
+    private final OrderBookEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    private volatile Map<OrderBookKey, OrderBook> books = new ConcurrentHashMap<>();
+
+    // 재구성 중 반영된 변경 (재구성 중이 아니면 null) - 새 호가창으로 교체하기 전에 다시 적용
+    private Queue<OrderBookEvent> pendingEvents;
+
+    // 변경 반영은 read lock, 호가창 교체는 write lock
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    /**
+     * trade 테이블의 PRE_OFFER 입찰로 호가창 재구성 (애플리케이션 기동 시 · 주기적으로)
+     * 새 호가창을 따로 만든 뒤 교체하므로, 재구성 중에도 기존 호가창으로 조회하고 그 사이 커밋된 변경도 잃지 않는다.
+     * 복제 지연으로 최근 입찰이 빠지지 않도록 master 에서 조회한다. (읽기 전용 트랜잭션이 아님)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${orderbook.resync-interval-millis:300000}",
+            fixedDelayString = "${orderbook.resync-interval-millis:300000}")
+    @Transactional
+    public synchronized void rebuild() {
+        startRecording();
+
+        Map<OrderBookKey, OrderBook> rebuilt = new ConcurrentHashMap<>();
+        try {
+            try (Stream<OpenBid> purchaseBids = tradeRepository.findOpenPurchaseBids(TradeStatus.PRE_OFFER)) {
+                purchaseBids.forEach(bid -> getOrderBook(rebuilt, OrderBookKey.of(bid.getProductId(), bid.getProductSize()))
+                        .addPurchaseBid(bid.getId(), bid.getPrice()));
+            }
+
+            try (Stream<OpenBid> saleBids = tradeRepository.findOpenSaleBids(TradeStatus.PRE_OFFER)) {
+                saleBids.forEach(bid -> getOrderBook(rebuilt, OrderBookKey.of(bid.getProductId(), bid.getProductSize()))
+                        .addSaleBid(bid.getId(), bid.getPrice()));
+            }
+        } catch (RuntimeException e) {
+            finishRecording(null);
+            throw e;
+        }
+
+        finishRecording(rebuilt);
+        log.info("order book rebuilt - {} books", rebuilt.size());
+    }
+
+    public OrderBook getOrderBook(Long productId, Double productSize) {
+        return getOrderBook(books, OrderBookKey.of(productId, productSize));
+    }
+
+    // 조회 시에는 호가창을 새로 만들지 않음 (입찰 없는 사이즈의 빈 호가창이 쌓이지 않도록)
+    public Optional<OrderBook> findOrderBook(Long productId, Double productSize) {
+        return Optional.ofNullable(books.get(OrderBookKey.of(productId, productSize)));
+    }
+
+    public void registerPurchaseBid(Trade trade) {
+        afterCommit(OrderBookEvent.purchaseBid(eventPublisher.getOrigin(),
+                trade.getProduct().getId(), trade.getProductSize(), trade.getId(), trade.getPrice()));
+    }
+
+    public void registerSaleBid(Trade trade) {
+        afterCommit(OrderBookEvent.saleBid(eventPublisher.getOrigin(),
+                trade.getProduct().getId(), trade.getProductSize(), trade.getId(), trade.getPrice()));
+    }
+
+    // 체결 또는 취소되어 더 이상 PRE_OFFER 상태가 아닌 입찰 제거
+    public void removeBid(Trade trade) {
+        removeBid(trade.getProduct().getId(), trade.getProductSize(), trade.getId());
+    }
+
+    public void removeBid(Long productId, Double productSize, Long tradeId) {
+        afterCommit(OrderBookEvent.remove(eventPublisher.getOrigin(), productId, productSize, tradeId));
+    }
+
+    // 다른 노드에서 커밋된 호가창 변경 반영
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        OrderBookEvent event;
+        try {
+            event = objectMapper.readValue(message.getBody(), OrderBookEvent.class);
+        } catch (IOException e) {
+            log.warn("호가창 변경 메세지를 읽을 수 없습니다.", e);
+            return;
+        }
+
+        if (eventPublisher.getOrigin().equals(event.getOrigin())) {
+            return;
+        }
+        apply(event);
+    }
+
+    private void afterCommit(OrderBookEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyAndPublish(event);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyAndPublish(event);
+            }
+        });
+    }
+
+    private void applyAndPublish(OrderBookEvent event) {
+        apply(event);
+        eventPublisher.publish(event);
+    }
+
+    private void apply(OrderBookEvent event) {
+        swapLock.readLock().lock();
+        try {
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+            event.applyTo(getOrderBook(books, event.getKey()));
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private void startRecording() {
+        swapLock.writeLock().lock();
+        try {
+            pendingEvents = new ConcurrentLinkedQueue<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    // 재구성 중 반영된 변경을 새 호가창에 다시 적용한 뒤 교체 (재구성 실패 시 기존 호가창 유지)
+    private void finishRecording(Map<OrderBookKey, OrderBook> rebuilt) {
+        swapLock.writeLock().lock();
+        try {
+            if (rebuilt != null) {
+                pendingEvents.forEach(event -> event.applyTo(getOrderBook(rebuilt, event.getKey())));
+                books = rebuilt;
+            }
+            pendingEvents = null;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private OrderBook getOrderBook(Map<OrderBookKey, OrderBook> books, OrderBookKey key) {
+        return books.computeIfAbsent(key, k -> new OrderBook());
+    }
+}
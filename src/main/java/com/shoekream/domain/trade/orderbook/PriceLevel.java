@@ -0,0 +1,18 @@
+package com.shoekream.domain.trade.orderbook;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 호가창 가격 레벨 - 해당 가격에 등록된 입찰 수
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PriceLevel {
+
+    private Long price;
+    private Integer quantity;
+}
@@ -1,15 +1,10 @@
 package com.shoekream.domain.user;
 
-import com.shoekream.common.exception.ErrorCode;
 import com.shoekream.common.exception.ShoeKreamException;
 import com.shoekream.common.util.JwtUtil;
 import com.shoekream.domain.address.Address;
 import com.shoekream.domain.cart.Cart;
-import com.shoekream.domain.cart.CartProduct;
-import com.shoekream.domain.cart.dto.WishProductResponse;
 import com.shoekream.domain.point.Point;
-import com.shoekream.domain.point.dto.PointResponse;
-import com.shoekream.domain.product.Product;
 import com.shoekream.domain.user.dto.*;
 import com.shoekream.domain.user.dto.UserChangeNicknameRequest;
 import com.shoekream.domain.user.dto.UserCreateResponse;
@@ -17,14 +12,13 @@ import com.shoekream.domain.user.dto.UserInfoForTrade;
 import com.shoekream.domain.user.dto.UserResponse;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.util.Assert;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import static com.shoekream.common.exception.ErrorCode.*;
 import static com.shoekream.common.util.constants.JwtConstants.*;
@@ -33,6 +27,7 @@ import static com.shoekream.common.util.constants.JwtConstants.*;
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@DynamicUpdate
 public class User extends UserBase {
 
     private String nickname;
@@ -54,7 +49,8 @@ public class User extends UserBase {
     private Cart cart;
 
     //    @JsonManagedReference
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    // 주소록이 필요한 경우에만 UserRepository.findWithAddressListByEmail 로 함께 조회
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
     private List<Address> addressList = new ArrayList<>();
 
     @Builder
@@ -127,45 +123,10 @@ public class User extends UserBase {
         this.account = account;
     }
 
-    public void chargePoint(Long amount) {
-        this.point += amount;
-    }
-
-    public void withdrawalPoint(Long withdrawalAmount) {
-        if (this.point < withdrawalAmount) {
-            throw new ShoeKreamException(NOT_ALLOWED_WITHDRAWAL_POINT);
-        }
-        this.point -= withdrawalAmount;
-    }
-
-    public PointResponse toPointResponse() {
-
-        return PointResponse.builder()
-                .remainingPoint(this.point)
-                .build();
-    }
-
     public void changeUserRole() {
         this.userRole = UserRole.ROLE_USER;
     }
 
-    public Set<WishProductResponse> getWishList() {
-        return this.cart.getWishList()
-                .stream()
-                .map(CartProduct::toWishProductResponse)
-                .collect(Collectors.toSet());
-    }
-
-    public void checkWishProductDuplicate(Product product) {
-        boolean hasWishProduct = this.cart.getWishList()
-                .stream()
-                .anyMatch(cartProduct -> cartProduct.getProduct().getId() == product.getId());
-
-        if (hasWishProduct) {
-            throw new ShoeKreamException(DUPLICATED_WISH_PRODUCT);
-        }
-    }
-
     public UserFindPasswordResponse toUserFindPasswordResponse(String tempPassword) {
         return UserFindPasswordResponse.builder()
                 .email(email)
@@ -190,28 +151,10 @@ public class User extends UserBase {
 
     public UserInfoForTrade toUserInfoForTrade() {
         return UserInfoForTrade.builder()
-                .addressList(this.addressList)
+                .addressList(this.addressList.stream()
+                        .map(Address::toAddressResponse)
+                        .toList())
                 .account(this.account)
                 .build();
     }
-
-    public void checkEnoughPoint(Long bidPrice) {
-        if(bidPrice > this.point) {
-            throw new ShoeKreamException(ErrorCode.NOT_ALLOWED_WITHDRAWAL_POINT);
-        }
-    }
-
-    public void deductPoints(Long bidPrice) {
-        this.point -= bidPrice;
-    }
-
-    public void checkPointForPurchase(Long bidPrice) {
-        if(bidPrice > this.point) {
-            throw new ShoeKreamException(ErrorCode.NOT_ALLOWED_WITHDRAWAL_POINT);
-        }
-    }
-
-    public void returnPoint(Long price) {
-        this.point += price;
-    }
 }
@@ -0,0 +1,11 @@
+package com.shoekream.domain.user;
+
+/**
+ * 장바구니 조회 · 등록 시 회원 id · 장바구니 id 만 조회
+ */
+public interface UserCartView {
+
+    Long getId();
+
+    Long getCartId();
+}
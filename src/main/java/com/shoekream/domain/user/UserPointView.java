@@ -0,0 +1,11 @@
+package com.shoekream.domain.user;
+
+/**
+ * 포인트 검증 시 회원 id · 보유 포인트만 조회
+ */
+public interface UserPointView {
+
+    Long getId();
+
+    Long getPoint();
+}
@@ -0,0 +1,57 @@
+package com.shoekream.domain.user;
+
+import com.shoekream.common.exception.ErrorCode;
+import com.shoekream.common.exception.ShoeKreamException;
+import com.shoekream.domain.user.dto.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static com.shoekream.common.util.constants.CacheConstants.USER_PRINCIPALS_CACHE;
+
+/**
+ * 회원 식별 정보 조회 (userPrincipals 캐시)
+ * 가입된 회원만 캐싱하며, 회원 탈퇴 · 권한 변경 시 캐시를 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalLoader {
+
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+
+    @Transactional(readOnly = true)
+    @Cacheable(value = USER_PRINCIPALS_CACHE, key = "#email", sync = true)
+    public UserPrincipal load(String email) {
+        return userRepository.findPrincipalByEmail(email)
+                .orElseThrow(() -> new ShoeKreamException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    // 트랜잭션 커밋 이후 캐시 비우기
+    // 커밋 전에 비우면 그 사이 다른 요청이 커밋 전 회원 정보를 다시 캐싱할 수 있음 (롤백 시에는 비우지 않음)
+    public void evictAfterCommit(String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(email);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(email);
+            }
+        });
+    }
+
+    private void evict(String email) {
+        Cache cache = cacheManager.getCache(USER_PRINCIPALS_CACHE);
+        if (cache != null) {
+            cache.evict(email);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.shoekream.domain.user;
+
+import com.shoekream.domain.user.dto.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import static com.shoekream.common.util.constants.UserConstants.RESOLVED_USER_ATTRIBUTE_PREFIX;
+
+/**
+ * 요청 단위 회원 확인
+ * 한 요청 안에서는 처음 확인한 회원 정보를 요청 속성에 보관해 UserCheck · 서비스가 함께 사용한다.
+ * 요청 밖(스케줄러 등)에서 호출하면 매번 캐시에서 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalResolver {
+
+    private final UserPrincipalLoader userPrincipalLoader;
+
+    // 가입된 회원이 아니면 USER_NOT_FOUND
+    public UserPrincipal resolve(String email) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return userPrincipalLoader.load(email);
+        }
+
+        String name = RESOLVED_USER_ATTRIBUTE_PREFIX + email;
+        if (attributes.getAttribute(name, RequestAttributes.SCOPE_REQUEST) instanceof UserPrincipal resolved) {
+            return resolved;
+        }
+
+        UserPrincipal principal = userPrincipalLoader.load(email);
+        attributes.setAttribute(name, principal, RequestAttributes.SCOPE_REQUEST);
+        return principal;
+    }
+}
@@ -1,6 +1,10 @@
 package com.shoekream.domain.user;
 
+import com.shoekream.domain.user.dto.UserPrincipal;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -11,4 +15,26 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
     Optional<User> findByEmailAndPhone(String email, String phone);
+
+    // 회원 식별 정보 (id · 이메일 · 권한) 만 조회
+    @Query("select new com.shoekream.domain.user.dto.UserPrincipal(u.id, u.email, u.userRole) from User u where u.email = :email")
+    Optional<UserPrincipal> findPrincipalByEmail(@Param("email") String email);
+
+    @Query("select u.id as id, u.point as point from User u where u.id = :id")
+    Optional<UserPointView> findPointViewById(@Param("id") Long id);
+
+    @Query("select u.id as id, u.cart.id as cartId from User u where u.email = :email")
+    Optional<UserCartView> findCartViewByEmail(@Param("email") String email);
+
+    // 주소록이 필요한 경우에만 주소록을 함께 조회 (거래 화면 · 입찰 · 즉시 거래)
+    @Query("select u from User u left join fetch u.addressList where u.email = :email")
+    Optional<User> findWithAddressListByEmail(@Param("email") String email);
+
+    // 포인트 잔액 원자적 증감 - 변경 후 잔액이 음수가 되면 갱신하지 않음 (0 반환 시 잔액 부족)
+    @Modifying
+    @Query(value = "update User set point = point + :amount where USER_ID = :userId and point + :amount >= 0", nativeQuery = true)
+    int addPoint(@Param("userId") Long userId, @Param("amount") Long amount);
+
+    @Query(value = "select point from User where USER_ID = :userId", nativeQuery = true)
+    Long findPointById(@Param("userId") Long userId);
 }
@@ -1,6 +1,6 @@
 package com.shoekream.domain.user.dto;
 
-import com.shoekream.domain.address.Address;
+import com.shoekream.domain.address.dto.AddressResponse;
 import com.shoekream.domain.user.Account;
 import lombok.*;
 
@@ -14,5 +14,5 @@ import java.util.List;
 public class UserInfoForTrade {
 
     private Account account;
-    private List<Address> addressList = new ArrayList<>();
+    private List<AddressResponse> addressList = new ArrayList<>();
 }
\ No newline at end of file
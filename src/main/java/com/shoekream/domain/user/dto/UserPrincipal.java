@@ -0,0 +1,21 @@
+package com.shoekream.domain.user.dto;
+
+import com.shoekream.domain.user.UserRole;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인증된 요청의 회원 정보 (주소록 · 장바구니 등 연관관계 없이 식별 정보만 조회)
+ * 회원 탈퇴 · 권한 변경 시 userPrincipals 캐시에서 삭제된다.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserPrincipal {
+
+    private Long id;
+    private String email;
+    private UserRole userRole;
+}
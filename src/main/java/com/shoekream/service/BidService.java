@@ -0,0 +1,193 @@
+package com.shoekream.service;
+
+import com.shoekream.common.exception.ErrorCode;
+import com.shoekream.common.exception.ShoeKreamException;
+import com.shoekream.domain.address.Address;
+import com.shoekream.domain.address.AddressRepository;
+import com.shoekream.domain.point.PointBalanceManager;
+import com.shoekream.domain.point.PointDivision;
+import com.shoekream.domain.product.Product;
+import com.shoekream.domain.product.ProductRepository;
+import com.shoekream.domain.trade.BidCandidate;
+import com.shoekream.domain.trade.Trade;
+import com.shoekream.domain.trade.TradeRepository;
+import com.shoekream.domain.trade.TradeStatus;
+import com.shoekream.domain.trade.TradeValidator;
+import com.shoekream.domain.trade.dto.BidCreateRequest;
+import com.shoekream.domain.trade.orderbook.MatchingEngine;
+import com.shoekream.domain.trade.orderbook.OrderBookManager;
+import com.shoekream.domain.user.User;
+import com.shoekream.domain.user.UserPrincipalResolver;
+import com.shoekream.domain.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 구매 · 판매 입찰 등록 및 체결
+ * 반대편 입찰과 가격이 교차하면 바로 체결하고, 아니면 입찰로 등록해 호가창에 반영한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class BidService {
+
+    private final TradeRepository tradeRepository;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final AddressRepository addressRepository;
+    private final UserPrincipalResolver userPrincipalResolver;
+    private final PointBalanceManager pointBalanceManager;
+    private final TradeValidator validator;
+    private final OrderBookManager orderBookManager;
+    private final MatchingEngine matchingEngine;
+
+    // 다른 노드와 같은 입찰을 동시에 체결하려 할 때 다음 입찰로 재시도하는 최대 횟수
+    private static final int MAX_MATCH_ATTEMPTS = 3;
+
+    /**
+     * 판매 입찰 등록
+     * 구매 입찰의 최고가 이하 가격이면 해당 구매 입찰과 바로 체결하고, 아니면 판매 입찰로 등록한다.
+     * (상품, 사이즈) 파티션의 체결 엔진 스레드에서 하나의 트랜잭션으로 처리된다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void createSaleBid(String email, BidCreateRequest requestDto) {
+        matchingEngine.execute(requestDto.getProductId(), requestDto.getProductSize(), () -> {
+            placeSaleBid(email, requestDto);
+            return null;
+        });
+    }
+
+    private void placeSaleBid(String email, BidCreateRequest requestDto) {
+
+        User user = findUserReference(email);
+
+        Product product = productRepository.findById(requestDto.getProductId())
+                .orElseThrow(() -> new ShoeKreamException(ErrorCode.PRODUCT_NOT_FOUND));
+
+        Address sellerAddress = findOwnAddress(requestDto.getAddressId(), user.getId());
+
+        // 입찰 등록하고자 하는 상품의 사이즈가 유효한지 확인
+        checkExistProductSize(requestDto, product);
+
+        // 구매 입찰의 최고가 이하 가격이면 최고가 구매 입찰과 체결 (구매자는 입찰 시 이미 포인트 차감됨, 체결 순서상 본인 입찰이면 거절)
+        Optional<Long> highestPurchasePrice = tradeRepository.findHighestPurchaseBidPrice(product.getId(), requestDto.getProductSize(), TradeStatus.PRE_OFFER);
+        if (highestPurchasePrice.isPresent() && requestDto.getPrice() <= highestPurchasePrice.get()) {
+            Long tradeId = matchPurchaseBid(user, sellerAddress, product.getId(), requestDto.getProductSize(), highestPurchasePrice.get());
+            orderBookManager.removeBid(product.getId(), requestDto.getProductSize(), tradeId);
+            return;
+        }
+
+        Trade trade = requestDto.toEntityForSeller(user, product, sellerAddress);
+
+        tradeRepository.save(trade);
+        orderBookManager.registerSaleBid(trade);
+    }
+
+    /**
+     * 구매 입찰 등록
+     * 판매 입찰의 최저가 이상 가격이면 해당 판매 입찰가로 바로 체결하고, 아니면 구매 입찰로 등록한다.
+     * (상품, 사이즈) 파티션의 체결 엔진 스레드에서 하나의 트랜잭션으로 처리된다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void createPurchaseBid(String email, BidCreateRequest requestDto) {
+        matchingEngine.execute(requestDto.getProductId(), requestDto.getProductSize(), () -> {
+            placePurchaseBid(email, requestDto);
+            return null;
+        });
+    }
+
+    private void placePurchaseBid(String email, BidCreateRequest requestDto) {
+
+        User user = findUserReference(email);
+
+        Product product = productRepository.findById(requestDto.getProductId())
+                .orElseThrow(() -> new ShoeKreamException(ErrorCode.PRODUCT_NOT_FOUND));
+
+        // 요청 주소가 주소록에 있는지 확인
+        Address buyerAddress = findOwnAddress(requestDto.getAddressId(), user.getId());
+
+        // 입찰 등록하고자 하는 상품의 사이즈가 유효한지 확인
+        checkExistProductSize(requestDto, product);
+
+        // 판매 입찰의 최저가 이상 가격이면 최저가 판매 입찰과 판매 입찰가로 체결 (체결 순서상 본인 입찰이면 거절)
+        Optional<Long> lowestSalePrice = tradeRepository.findLowestSaleBidPrice(product.getId(), requestDto.getProductSize(), TradeStatus.PRE_OFFER);
+        Long price = lowestSalePrice.filter(salePrice -> requestDto.getPrice() >= salePrice)
+                .orElse(requestDto.getPrice());
+
+        // 포인트 차감 및 차감 이력 저장 (잔액 부족 시 예외)
+        pointBalanceManager.record(user, PointDivision.PURCHASE_DEDUCTION, price);
+
+        if (lowestSalePrice.isPresent() && price.equals(lowestSalePrice.get())) {
+            Long tradeId = matchSaleBid(user, buyerAddress, product.getId(), requestDto.getProductSize(), price);
+            orderBookManager.removeBid(product.getId(), requestDto.getProductSize(), tradeId);
+        } else {
+            // 구매 입찰 생성
+            Trade trade = requestDto.toEntityForBuyer(user, product, buyerAddress);
+            tradeRepository.save(trade);
+            orderBookManager.registerPurchaseBid(trade);
+        }
+    }
+
+    // 해당 가격에 가장 먼저 등록된 구매 입찰부터 판매자 지정 시도, 체결된 입찰 id 반환
+    private Long matchPurchaseBid(User seller, Address sellerAddress, Long productId, Double productSize, Long price) {
+        Long lastTriedId = 0L;
+        for (int attempt = 0; attempt < MAX_MATCH_ATTEMPTS; attempt++) {
+            List<BidCandidate> candidates = tradeRepository.findPurchaseBidsByPrice(productId, productSize, TradeStatus.PRE_OFFER, price,
+                    lastTriedId, PageRequest.of(0, 1));
+            if (candidates.isEmpty()) {
+                break;
+            }
+            BidCandidate candidate = candidates.get(0);
+            validator.validateNotOwnBid(candidate.getUserId(), seller.getId());
+            Long tradeId = candidate.getId();
+            if (tradeRepository.claimPurchaseBid(tradeId, seller, sellerAddress) == 1) {
+                return tradeId;
+            }
+            lastTriedId = tradeId;
+        }
+        throw new ShoeKreamException(ErrorCode.BID_MATCHING_CONFLICT);
+    }
+
+    // 해당 가격에 가장 먼저 등록된 판매 입찰부터 구매자 지정 시도, 체결된 입찰 id 반환
+    private Long matchSaleBid(User buyer, Address buyerAddress, Long productId, Double productSize, Long price) {
+        Long lastTriedId = 0L;
+        for (int attempt = 0; attempt < MAX_MATCH_ATTEMPTS; attempt++) {
+            List<BidCandidate> candidates = tradeRepository.findSaleBidsByPrice(productId, productSize, TradeStatus.PRE_OFFER, price,
+                    lastTriedId, PageRequest.of(0, 1));
+            if (candidates.isEmpty()) {
+                break;
+            }
+            BidCandidate candidate = candidates.get(0);
+            validator.validateNotOwnBid(candidate.getUserId(), buyer.getId());
+            Long tradeId = candidate.getId();
+            if (tradeRepository.claimSaleBid(tradeId, buyer, buyerAddress) == 1) {
+                return tradeId;
+            }
+            lastTriedId = tradeId;
+        }
+        throw new ShoeKreamException(ErrorCode.BID_MATCHING_CONFLICT);
+    }
+
+    // 거래에는 회원 FK 만 필요하므로 회원 엔티티를 조회하지 않고 참조만 사용 (가입 여부는 캐시된 회원 정보로 확인)
+    private User findUserReference(String email) {
+        return userRepository.getReferenceById(userPrincipalResolver.resolve(email).getId());
+    }
+
+    // 요청 주소가 회원의 주소인지 확인 - 주소록 전체 대신 주소 PK 로 한 건만 조회
+    private Address findOwnAddress(Long addressId, Long userId) {
+        return addressRepository.findByIdAndUserId(addressId, userId)
+                .orElseThrow(() -> new ShoeKreamException(ErrorCode.ADDRESS_NOT_FOUND));
+    }
+
+    private void checkExistProductSize(BidCreateRequest requestDto, Product product) {
+        if(requestDto.getProductSize() > product.getMaxSize() || requestDto.getProductSize() < product.getMinSize()) {
+            throw new ShoeKreamException(ErrorCode.NOT_ALLOWED_PRODUCT_SIZE);
+        }
+    }
+}
@@ -83,7 +83,8 @@ public class BrandService {
         return brand.toBrandDeleteResponse();
     }
 
-    @CacheEvict(value = "brands", allEntries = true)
+    // 상품 정적 정보에도 브랜드 정보가 포함되어 있으므로 함께 비움
+    @CacheEvict(value = {"brands", "productStatics"}, allEntries = true)
     public BrandUpdateResponse updateBrand(Long id, BrandUpdateRequest updatedBrand, MultipartFile newImage) {
 
         Brand savedBrand = brandRepository.findById(id).orElseThrow(() -> new ShoeKreamException(ErrorCode.BRAND_NOT_FOUND));
@@ -4,17 +4,19 @@ package com.shoekream.service;
 import com.shoekream.common.exception.ShoeKreamException;
 import com.shoekream.domain.cart.CartProduct;
 import com.shoekream.domain.cart.CartProductRepository;
+import com.shoekream.domain.cart.CartRepository;
 import com.shoekream.domain.cart.dto.CartProductRequest;
 import com.shoekream.domain.cart.dto.WishProductResponse;
 import com.shoekream.domain.product.Product;
 import com.shoekream.domain.product.ProductRepository;
-import com.shoekream.domain.user.User;
+import com.shoekream.domain.user.UserCartView;
 import com.shoekream.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.shoekream.common.exception.ErrorCode.*;
 
@@ -26,28 +28,38 @@ public class CartService {
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final CartProductRepository cartProductRepository;
+    private final CartRepository cartRepository;
 
     @Transactional(readOnly = true)
     public Set<WishProductResponse> getWishList(String email) {
-        User foundUser = userRepository.findByEmail(email)
+        UserCartView foundUser = userRepository.findCartViewByEmail(email)
                 .orElseThrow(() -> new ShoeKreamException(USER_NOT_FOUND));
 
-        return foundUser.getWishList();
+        return cartProductRepository.findAllWithProductByCartId(foundUser.getCartId())
+                .stream()
+                .map(CartProduct::toWishProductResponse)
+                .collect(Collectors.toSet());
     }
 
     /**
      * 장바구니에 등록 요청시, productId
      */
     public WishProductResponse addWishProduct(String email, CartProductRequest request) {
-        User foundUser = userRepository.findByEmail(email)
+        UserCartView foundUser = userRepository.findCartViewByEmail(email)
                 .orElseThrow(() -> new ShoeKreamException(USER_NOT_FOUND));
 
         Product foundProduct = productRepository.findById(request.getProductId())
                 .orElseThrow(() -> new ShoeKreamException(PRODUCT_NOT_FOUND));
 
-        CartProduct wishProduct = CartProduct.createCartProduct(foundUser.getCart(), foundProduct);
+        // 장바구니 전체를 읽지 않고 해당 상품이 담겨 있는지만 확인
+        if (cartProductRepository.existsByCartIdAndProductId(foundUser.getCartId(), foundProduct.getId())) {
+            throw new ShoeKreamException(DUPLICATED_WISH_PRODUCT);
+        }
 
-        foundUser.checkWishProductDuplicate(foundProduct);
+        CartProduct wishProduct = CartProduct.builder()
+                .cart(cartRepository.getReferenceById(foundUser.getCartId()))
+                .product(foundProduct)
+                .build();
 
         CartProduct saved = cartProductRepository.save(wishProduct);
 
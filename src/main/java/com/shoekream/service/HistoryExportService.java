@@ -0,0 +1,111 @@
+package com.shoekream.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shoekream.common.util.export.ExportFormat;
+import com.shoekream.common.util.export.ExportWriter;
+import com.shoekream.domain.point.PointDivision;
+import com.shoekream.domain.point.PointExportRow;
+import com.shoekream.domain.point.PointRepository;
+import com.shoekream.domain.trade.TradeExportRow;
+import com.shoekream.domain.trade.TradeRepository;
+import com.shoekream.domain.user.UserPrincipalResolver;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 포인트 · 거래 내역 파일 내보내기
+ * 회원 확인은 요청 스레드에서 하고, 실제 조회 · 쓰기는 응답 스트림을 쓰는 비동기 스레드의 읽기 전용 트랜잭션(slave)에서 한다.
+ * 조회 결과는 projection Stream 으로 한 행씩 읽어 바로 응답에 쓰므로, 내보내는 행 수와 관계없이 메모리 사용량이 일정하다.
+ */
+@Service
+public class HistoryExportService {
+
+    private static final LocalDate HISTORY_START_DATE = LocalDate.of(1970, 1, 1);
+
+    private static final List<String> POINT_COLUMNS = List.of("id", "division", "amount", "balance", "createdDate");
+    private static final List<String> TRADE_COLUMNS = List.of("id", "tradeType", "productName", "modelNumber", "productSize",
+            "price", "status", "createdDate", "lastModifiedDate");
+
+    private final UserPrincipalResolver userPrincipalResolver;
+    private final PointRepository pointRepository;
+    private final TradeRepository tradeRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public HistoryExportService(UserPrincipalResolver userPrincipalResolver,
+                                PointRepository pointRepository,
+                                TradeRepository tradeRepository,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager) {
+        this.userPrincipalResolver = userPrincipalResolver;
+        this.pointRepository = pointRepository;
+        this.tradeRepository = tradeRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    // division 이 null 이면 전체 구분 내보내기
+    public StreamingResponseBody exportPoints(String email, PointDivision division, LocalDate from, LocalDate to, ExportFormat format) {
+        Long userId = findUserId(email);
+
+        return out -> stream(out, format, POINT_COLUMNS,
+                () -> pointRepository.streamHistory(userId, division, startOf(from), endOf(to)),
+                (writer, row) -> writer.write(row.getId(), row.getDivision(), row.getAmount(), row.getBalance(), row.getCreatedDate()));
+    }
+
+    public StreamingResponseBody exportTrades(String email, LocalDate from, LocalDate to, ExportFormat format) {
+        Long userId = findUserId(email);
+
+        return out -> stream(out, format, TRADE_COLUMNS,
+                () -> tradeRepository.streamHistory(userId, startOf(from), endOf(to)),
+                (writer, row) -> writer.write(row.getId(), row.getTradeType(), row.getProductName(), row.getModelNumber(),
+                        row.getProductSize(), row.getPrice(), row.getStatus(), row.getCreatedDate(), row.getLastModifiedDate()));
+    }
+
+    private Long findUserId(String email) {
+        return userPrincipalResolver.resolve(email).getId();
+    }
+
+    private <T> void stream(OutputStream out, ExportFormat format, List<String> columns,
+                            Supplier<Stream<T>> source, RowWriter<T> rowWriter) {
+        readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            try (Stream<T> rows = source.get();
+                 ExportWriter writer = ExportWriter.open(format, out, objectMapper, columns)) {
+                Iterator<T> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    rowWriter.write(writer, iterator.next());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    // from 일 0시부터
+    private LocalDateTime startOf(LocalDate from) {
+        return (from == null ? HISTORY_START_DATE : from).atStartOfDay();
+    }
+
+    // to 일까지 포함 (다음날 0시 이전)
+    private LocalDateTime endOf(LocalDate to) {
+        return (to == null ? LocalDate.now() : to).plusDays(1).atStartOfDay();
+    }
+
+    @FunctionalInterface
+    private interface RowWriter<T> {
+        void write(ExportWriter writer, T row) throws IOException;
+    }
+}
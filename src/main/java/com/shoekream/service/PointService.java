@@ -2,19 +2,28 @@ package com.shoekream.service;
 
 import com.shoekream.common.exception.ShoeKreamException;
 import com.shoekream.domain.point.Point;
+import com.shoekream.domain.point.PointBalanceManager;
 import com.shoekream.domain.point.PointDivision;
 import com.shoekream.domain.point.PointRepository;
+import com.shoekream.domain.point.dto.PointAuditResponse;
 import com.shoekream.domain.point.dto.PointChargeRequest;
-import com.shoekream.domain.point.dto.PointHistoryResponse;
+import com.shoekream.domain.point.dto.PointHistoryPageResponse;
+import com.shoekream.domain.point.dto.PointHistoryRequest;
 import com.shoekream.domain.point.dto.PointResponse;
 import com.shoekream.domain.point.dto.PointWithdrawalRequest;
 import com.shoekream.domain.user.User;
+import com.shoekream.domain.user.UserPointView;
+import com.shoekream.domain.user.UserPrincipalResolver;
 import com.shoekream.domain.user.UserRepository;
+import com.shoekream.domain.user.dto.UserPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -25,29 +34,33 @@ import static com.shoekream.common.exception.ErrorCode.USER_NOT_FOUND;
 @Transactional
 public class PointService {
 
+    private static final int MAX_HISTORY_SIZE = 100;
+    private static final LocalDateTime HISTORY_START_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     private final PointRepository pointRepository;
     private final UserRepository userRepository;
+    private final UserPrincipalResolver userPrincipalResolver;
+    private final PointBalanceManager pointBalanceManager;
 
     private final BCryptPasswordEncoder encoder;
 
+    // 최신 스냅샷 잔액 + 이후 원장 합 (원장 도입 이전 잔액은 시작 잔액 스냅샷에 반영됨)
     @Transactional(readOnly = true)
     public Long getUserPoint(String email) {
-        User foundUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ShoeKreamException(USER_NOT_FOUND));
+        UserPrincipal principal = userPrincipalResolver.resolve(email);
 
-        return foundUser.getPoint();
+        return pointBalanceManager.getBalance(principal.getId());
     }
 
     public PointResponse chargePoint(String email, PointChargeRequest requestDto) {
-        User foundUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ShoeKreamException(USER_NOT_FOUND));
-
-        foundUser.chargePoint(requestDto.getAmount());
+        // 잔액은 UPDATE 문으로 변경하고 원장에는 회원 id 만 필요하므로 회원 엔티티를 조회하지 않음
+        User foundUser = userRepository.getReferenceById(userPrincipalResolver.resolve(email).getId());
 
-        pointRepository.save(requestDto.toEntity(foundUser));
-
-        return foundUser.toPointResponse();
+        Long remainingPoint = pointBalanceManager.record(foundUser, PointDivision.POINT_CHARGE, requestDto.getAmount());
 
+        return PointResponse.builder()
+                .remainingPoint(remainingPoint)
+                .build();
     }
 
     public PointResponse withdrawalPoint(String email, PointWithdrawalRequest requestDto) {
@@ -56,19 +69,67 @@ public class PointService {
 
         foundUser.checkPassword(encoder,requestDto.getPassword());
 
-        pointRepository.save(requestDto.toEntity(foundUser));
+        // 잔액 부족 시 예외 - 차감에 성공한 경우에만 출금 이력 저장
+        Long remainingPoint = pointBalanceManager.record(foundUser, PointDivision.POINT_WITHDRAW, requestDto.getWithdrawalAmount());
 
-        foundUser.withdrawalPoint(requestDto.getWithdrawalAmount());
+        return PointResponse.builder()
+                .remainingPoint(remainingPoint)
+                .build();
+    }
 
-        return foundUser.toPointResponse();
+    // division 이 null 이면 전체 구분 내역 조회
+    @Transactional(readOnly = true)
+    public PointHistoryPageResponse getHistoryPoint(String email, PointDivision division, PointHistoryRequest requestDto) {
+        User foundUser = userRepository.getReferenceById(userPrincipalResolver.resolve(email).getId());
+
+        int size = Math.max(1, Math.min(requestDto.getSize(), MAX_HISTORY_SIZE));
+        LocalDateTime from = requestDto.getFrom() == null ? HISTORY_START_DATE : requestDto.getFrom().atStartOfDay();
+
+        // 첫 페이지는 to 다음날 0시 이전 내역부터 (id 가 0 미만인 내역은 없으므로 createdDate 조건만 적용)
+        LocalDateTime cursorDate = requestDto.getCursorDate();
+        Long cursorId = requestDto.getCursorId();
+        if (cursorDate == null || cursorId == null) {
+            LocalDate to = requestDto.getTo() == null ? LocalDate.now() : requestDto.getTo();
+            cursorDate = to.plusDays(1).atStartOfDay();
+            cursorId = 0L;
+        }
+
+        PageRequest page = PageRequest.of(0, size);
+        List<Point> points = division == null
+                ? pointRepository.findHistory(foundUser, from, cursorDate, cursorId, page)
+                : pointRepository.findHistoryByDivision(foundUser, division, from, cursorDate, cursorId, page);
+
+        Point last = points.size() == size ? points.get(points.size() - 1) : null;
+
+        return PointHistoryPageResponse.builder()
+                .histories(points.stream()
+                        .map(Point::toPointHistoryResponse)
+                        .collect(Collectors.toList()))
+                .nextCursorDate(last == null ? null : last.getCreatedDate())
+                .nextCursorId(last == null ? null : last.getId())
+                .build();
     }
 
-    public List<PointHistoryResponse> getHistoryPointByDivision(String email, PointDivision division) {
-        User foundUser = userRepository.findByEmail(email)
+    // 회원 보유 포인트와 원장 잔액 대조 - 전체 원장 대신 최신 스냅샷 이후 원장만 합산
+    @Transactional(readOnly = true)
+    public PointAuditResponse auditPoint(Long userId) {
+        UserPointView foundUser = userRepository.findPointViewById(userId)
                 .orElseThrow(() -> new ShoeKreamException(USER_NOT_FOUND));
 
-        return pointRepository.findAllByUserAndDivisionOrderByCreatedDateDesc(foundUser, division)
-                .stream().map(Point::toPointHistoryResponse)
-                .collect(Collectors.toList());
+        Long ledgerBalance = pointBalanceManager.getBalance(userId);
+        Long lastRecordedBalance = pointRepository.findTopByUserIdOrderByIdDesc(userId)
+                .map(Point::getBalance)
+                .orElse(null);
+
+        boolean consistent = ledgerBalance.equals(foundUser.getPoint())
+                && (lastRecordedBalance == null || lastRecordedBalance.equals(foundUser.getPoint()));
+
+        return PointAuditResponse.builder()
+                .userId(userId)
+                .userPoint(foundUser.getPoint())
+                .ledgerBalance(ledgerBalance)
+                .lastRecordedBalance(lastRecordedBalance)
+                .consistent(consistent)
+                .build();
     }
 }
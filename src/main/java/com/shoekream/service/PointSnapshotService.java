@@ -0,0 +1,106 @@
+package com.shoekream.service;
+
+import com.shoekream.domain.point.PointDivision;
+import com.shoekream.domain.point.PointRepository;
+import com.shoekream.domain.point.PointSnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 포인트 잔액 스냅샷 주기 생성
+ * 마지막 스냅샷 이후 원장을 id 구간(chunk) 단위로 회원별 합산해 스냅샷을 추가한다.
+ * 아직 커밋되지 않은 원장이 구간 안에 끼지 않도록, 기록된 지 commit-lag-seconds 가 지난 원장까지만 반영한다.
+ * 여러 노드가 동시에 실행해도 (USER_ID, lastPointId) 유니크 제약으로 같은 구간이 두 번 합산되지 않는다.
+ * 스냅샷이 없는 회원(원장 도입 이전 가입 회원 포함)은 먼저 회원 포인트로 시작 잔액 스냅샷을 만든다.
+ */
+@Service
+@Slf4j
+public class PointSnapshotService {
+
+    private final PointRepository pointRepository;
+    private final PointSnapshotRepository pointSnapshotRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long commitLagSeconds;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    public PointSnapshotService(PointRepository pointRepository,
+                                PointSnapshotRepository pointSnapshotRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${point.snapshot.commit-lag-seconds:60}") long commitLagSeconds,
+                                @Value("${point.snapshot.chunk-size:10000}") int chunkSize,
+                                @Value("${point.snapshot.max-chunks-per-run:100}") int maxChunksPerRun) {
+        this.pointRepository = pointRepository;
+        this.pointSnapshotRepository = pointSnapshotRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.commitLagSeconds = commitLagSeconds;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${point.snapshot.interval-millis:600000}")
+    public void takeSnapshots() {
+
+        List<String> debits = PointDivision.debits().stream()
+                .map(PointDivision::name)
+                .toList();
+
+        Long fromId = pointSnapshotRepository.findLastSnapshotPointId();
+        takeOpeningSnapshots(fromId, debits);
+
+        Long lastId = pointRepository.findLastPointIdBefore(fromId, LocalDateTime.now().minusSeconds(commitLagSeconds));
+        int snapshotCount = 0;
+
+        for (int chunk = 0; chunk < maxChunksPerRun && fromId < lastId; chunk++) {
+            Long toId = Math.min(fromId + chunkSize, lastId);
+            Long chunkFromId = fromId;
+
+            try {
+                snapshotCount += transactionTemplate.execute(status ->
+                        pointSnapshotRepository.insertSnapshots(chunkFromId, toId, debits, LocalDateTime.now()));
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드가 같은 구간 스냅샷을 먼저 저장함 (회원별 lastPointId 유니크)
+                log.info("point snapshots up to point id {} already taken by another node", toId);
+                break;
+            }
+            fromId = toId;
+        }
+
+        if (snapshotCount > 0) {
+            log.info("took {} point snapshots up to point id {}", snapshotCount, fromId);
+        }
+    }
+
+    // 스냅샷이 없는 회원의 시작 잔액을 현재 스냅샷 진행 위치(lastPointId) 기준으로 chunk 단위 저장
+    private void takeOpeningSnapshots(Long lastPointId, List<String> debits) {
+        int openingCount = 0;
+
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            int inserted;
+            try {
+                inserted = transactionTemplate.execute(status ->
+                        pointSnapshotRepository.insertOpeningSnapshots(lastPointId, debits, LocalDateTime.now(), chunkSize));
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드가 같은 회원의 시작 잔액 스냅샷을 먼저 저장함
+                log.info("opening point snapshots at point id {} already taken by another node", lastPointId);
+                break;
+            }
+            openingCount += inserted;
+            if (inserted < chunkSize) {
+                break;
+            }
+        }
+
+        if (openingCount > 0) {
+            log.info("took {} opening point snapshots at point id {}", openingCount, lastPointId);
+        }
+    }
+}
@@ -7,16 +7,24 @@ import com.shoekream.common.util.FileUtil;
 import com.shoekream.domain.brand.Brand;
 import com.shoekream.domain.brand.BrandRepository;
 import com.shoekream.domain.product.Product;
+import com.shoekream.domain.product.ProductCatalog;
 import com.shoekream.domain.product.ProductRepository;
 import com.shoekream.domain.product.dto.*;
+import com.shoekream.domain.trade.dto.TradeBidInfos;
+import com.shoekream.domain.trade.orderbook.BidSide;
+import com.shoekream.domain.trade.orderbook.Depth;
+import com.shoekream.domain.trade.orderbook.OrderBookManager;
+import com.shoekream.domain.trade.orderbook.PriceLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static com.shoekream.common.util.constants.AwsConstants.*;
 
 @Service
@@ -28,6 +36,11 @@ public class ProductService {
     private final BrandRepository brandRepository;
     private final ProductRepository productRepository;
     private final AwsS3Service awsS3Service;
+    private final OrderBookManager orderBookManager;
+    private final ProductCatalog productCatalog;
+
+    // 호가 · 뎁스 조회 시 한 번에 조회 가능한 최대 가격 레벨 수
+    private static final int MAX_PRICE_LEVELS = 100;
 
     public ProductCreateResponse saveProduct(ProductCreateRequest requestDto, MultipartFile image) {
 
@@ -48,15 +61,78 @@ public class ProductService {
         return savedProduct.toProductCreateResponse();
     }
 
+    // 캐시된 정적 정보 + 호가창의 사이즈별 시세를 응답 시점에 합침 (입찰 · 체결이 정적 정보 캐시를 비우지 않도록)
     @Transactional(readOnly = true)
-    @Cacheable(value = "products", key ="#id")
     public ProductInfo getProductInfo(Long id) {
-        return productRepository.findById(id)
-                .orElseThrow(() -> new ShoeKreamException(ErrorCode.PRODUCT_NOT_FOUND))
-                .toProductInfo();
+
+        ProductStaticInfo staticInfo = productCatalog.getStaticInfo(id);
+
+        // 사이즈별 최저 판매 입찰 · 최고 구매 입찰만 호가창에서 조회
+        List<TradeBidInfos> salesBids = new ArrayList<>();
+        List<TradeBidInfos> purchaseBids = new ArrayList<>();
+        for (Double size : staticInfo.getSizeOptions()) {
+            orderBookManager.findOrderBook(id, size).ifPresent(orderBook -> {
+                orderBook.getBestSaleBid().ifPresent(bid -> salesBids.add(bid.toTradeBidInfos(id, size)));
+                orderBook.getBestPurchaseBid().ifPresent(bid -> purchaseBids.add(bid.toTradeBidInfos(id, size)));
+            });
+        }
+
+        return staticInfo.toProductInfo(salesBids, purchaseBids);
+    }
+
+    @Transactional(readOnly = true)
+    public BidLadderResponse getBidLadder(Long id, Double size, BidSide side, Long cursor, int limit) {
+
+        Product product = validateProductExists(id);
+
+        if (!product.isAvailableSize(size)) {
+            throw new ShoeKreamException(ErrorCode.NOT_ALLOWED_PRODUCT_SIZE);
+        }
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_PRICE_LEVELS));
+
+        List<PriceLevel> levels = orderBookManager.findOrderBook(id, size)
+                .map(orderBook -> side == BidSide.PURCHASE
+                        ? orderBook.getPurchaseLevels(cursor, pageSize)
+                        : orderBook.getSaleLevels(cursor, pageSize))
+                .orElse(List.of());
+
+        Long nextCursor = levels.size() == pageSize ? levels.get(levels.size() - 1).getPrice() : null;
+
+        return BidLadderResponse.builder()
+                .productId(id)
+                .productSize(size)
+                .side(side)
+                .levels(levels)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public DepthChartResponse getDepthChart(Long id, Double size, int levels) {
+
+        Product product = validateProductExists(id);
+
+        if (!product.isAvailableSize(size)) {
+            throw new ShoeKreamException(ErrorCode.NOT_ALLOWED_PRODUCT_SIZE);
+        }
+
+        // 호가창은 입찰 등록 · 체결 · 취소 시점에 가격 레벨별 입찰 수가 갱신되어 있으므로 그대로 스냅샷만 조회
+        Depth depth = orderBookManager.findOrderBook(id, size)
+                .map(orderBook -> orderBook.getDepth(Math.max(1, Math.min(levels, MAX_PRICE_LEVELS))))
+                .orElseGet(() -> new Depth(List.of(), List.of(), 0, 0));
+
+        return DepthChartResponse.builder()
+                .productId(id)
+                .productSize(size)
+                .purchaseLevels(depth.getPurchaseLevels())
+                .saleLevels(depth.getSaleLevels())
+                .totalPurchaseQuantity(depth.getTotalPurchaseQuantity())
+                .totalSaleQuantity(depth.getTotalSaleQuantity())
+                .build();
     }
 
-    @CacheEvict(value = "products", key = "#id")
+    @CacheEvict(value = "productStatics", key = "#id")
     public ProductDeleteResponse deleteProduct(Long id) {
 
         Product product = validateProductExists(id);
@@ -74,7 +150,7 @@ public class ProductService {
         return product.toProductDeleteResponse();
     }
 
-    @CacheEvict(value = "products", key = "#id")
+    @CacheEvict(value = "productStatics", key = "#id")
     public ProductUpdateResponse updateProduct(Long id, ProductUpdateRequest updatedProduct, MultipartFile newImage) {
 
         brandRepository.findById(updatedProduct.getBrandId())
@@ -0,0 +1,85 @@
+package com.shoekream.service;
+
+import com.shoekream.common.exception.ErrorCode;
+import com.shoekream.common.exception.ShoeKreamException;
+import com.shoekream.domain.trade.TradeRepository;
+import com.shoekream.domain.trade.TradeStatus;
+import com.shoekream.domain.trade.TradeStatusView;
+import com.shoekream.domain.trade.dto.TradeBatchResponse;
+import com.shoekream.domain.trade.dto.TradeTransitionResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 거래 상태 일괄 변경 (입고 확인 · 검수 확인)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TradeBatchService {
+
+    private final TradeRepository tradeRepository;
+
+    // 입고 확인 일괄 처리 (입고 대기 -> 검수 대기)
+    public TradeBatchResponse confirmWarehousings(List<Long> tradeIds) {
+        return transitStatuses(tradeIds, TradeStatus.PRE_WAREHOUSING, TradeStatus.PRE_INSPECTION);
+    }
+
+    // 검수 확인 일괄 처리 (검수 대기 -> 구매자 발송 대기)
+    public TradeBatchResponse confirmInspections(List<Long> tradeIds) {
+        return transitStatuses(tradeIds, TradeStatus.PRE_INSPECTION, TradeStatus.PRE_SHIPMENT);
+    }
+
+    /**
+     * 일괄 상태 변경
+     * 요청한 거래들의 현재 상태를 한 번에 조회하고, current 상태인 거래만 하나의 UPDATE 로 next 상태로 변경한다.
+     * 결과는 거래 id 별로 성공 여부와 실패 사유를 반환한다.
+     */
+    private TradeBatchResponse transitStatuses(List<Long> tradeIds, TradeStatus current, TradeStatus next) {
+
+        if (!current.canTransitTo(next)) {
+            throw new ShoeKreamException(ErrorCode.NOT_ALLOWED_TRADE_STATUS);
+        }
+
+        List<Long> ids = tradeIds.stream().distinct().toList();
+
+        Map<Long, TradeStatus> before = findStatuses(ids);
+        long expected = before.values().stream().filter(current::equals).count();
+        int updated = expected == 0 ? 0 : tradeRepository.updateStatusByIdIn(ids, current, next);
+
+        // 조회 이후 다른 요청이 먼저 상태를 바꾼 거래가 있으면 변경 후 상태를 다시 조회해 거래별 결과 확인
+        Map<Long, TradeStatus> after = updated == expected ? null : findStatuses(ids);
+
+        List<TradeTransitionResult> results = new ArrayList<>();
+        for (Long id : ids) {
+            TradeStatus status = before.get(id);
+            if (status == null) {
+                results.add(TradeTransitionResult.fail(id, null, ErrorCode.TRADE_NOT_FOUND));
+            } else if (status != current) {
+                results.add(TradeTransitionResult.fail(id, status, ErrorCode.NOT_ALLOWED_TRADE_STATUS));
+            } else if (after != null && after.get(id) != next) {
+                results.add(TradeTransitionResult.fail(id, after.get(id), ErrorCode.NOT_ALLOWED_TRADE_STATUS));
+            } else {
+                results.add(TradeTransitionResult.success(id, next));
+            }
+        }
+
+        return TradeBatchResponse.builder()
+                .status(next)
+                .requestCount(ids.size())
+                .successCount((int) results.stream().filter(TradeTransitionResult::isSuccess).count())
+                .results(results)
+                .build();
+    }
+
+    private Map<Long, TradeStatus> findStatuses(List<Long> ids) {
+        return tradeRepository.findStatusesByIdIn(ids).stream()
+                .collect(Collectors.toMap(TradeStatusView::getId, TradeStatusView::getStatus));
+    }
+}
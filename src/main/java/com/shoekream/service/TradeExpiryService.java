@@ -0,0 +1,90 @@
+package com.shoekream.service;
+
+import com.shoekream.domain.trade.ExpiredTrade;
+import com.shoekream.domain.trade.TradeExpiryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 판매자 발송 기한 초과 거래 자동 취소
+ * 기한이 지난 PRE_SELLER_SHIPMENT 거래를 chunk 단위 트랜잭션으로 취소하고 구매자에게 포인트를 반환한다.
+ * 한 chunk 가 끝날 때마다 커밋하고 (lastModifiedDate, id) 커서로 다음 chunk 를 이어서 조회하므로,
+ * 밀린 거래가 많아도 master 에서 긴 트랜잭션이 생기지 않는다.
+ */
+@Service
+@Slf4j
+public class TradeExpiryService {
+
+    private static final String CANCEL_REASON = "판매자가 발송 기한 내 상품을 발송하지 않아 취소되었습니다.";
+    private static final LocalDateTime INITIAL_CURSOR_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final TradeExpiryRepository tradeExpiryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long sellerShipmentHours;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    public TradeExpiryService(TradeExpiryRepository tradeExpiryRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${trade.expiry.seller-shipment-hours:72}") long sellerShipmentHours,
+                              @Value("${trade.expiry.chunk-size:500}") int chunkSize,
+                              @Value("${trade.expiry.max-chunks-per-run:200}") int maxChunksPerRun) {
+        this.tradeExpiryRepository = tradeExpiryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sellerShipmentHours = sellerShipmentHours;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${trade.expiry.interval-millis:600000}")
+    public void expireOverdueTrades() {
+
+        LocalDateTime deadline = LocalDateTime.now().minusHours(sellerShipmentHours);
+
+        LocalDateTime cursorDate = INITIAL_CURSOR_DATE;
+        Long cursorId = 0L;
+        int expiredCount = 0;
+
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            List<ExpiredTrade> expired = expireChunk(deadline, cursorDate, cursorId);
+            if (expired.isEmpty()) {
+                break;
+            }
+
+            expiredCount += expired.size();
+            ExpiredTrade last = expired.get(expired.size() - 1);
+            cursorDate = last.getLastModifiedDate();
+            cursorId = last.getId();
+
+            if (expired.size() < chunkSize) {
+                break;
+            }
+        }
+
+        if (expiredCount > 0) {
+            log.info("expired {} trades not shipped by seller before {}", expiredCount, deadline);
+        }
+    }
+
+    // 한 chunk 를 하나의 트랜잭션으로 취소 · 환불하고 처리한 거래 반환
+    private List<ExpiredTrade> expireChunk(LocalDateTime deadline, LocalDateTime cursorDate, Long cursorId) {
+        return transactionTemplate.execute(status -> {
+            List<ExpiredTrade> expired = tradeExpiryRepository.findOverdueForUpdate(deadline, cursorDate, cursorId, chunkSize);
+            if (expired.isEmpty()) {
+                return expired;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            tradeExpiryRepository.cancel(expired, CANCEL_REASON, now);
+            tradeExpiryRepository.refund(expired.stream().filter(trade -> trade.getBuyerId() != null).toList(), now);
+            return expired;
+        });
+    }
+}
@@ -2,9 +2,11 @@ package com.shoekream.service;
 
 import com.shoekream.common.exception.ErrorCode;
 import com.shoekream.common.exception.ShoeKreamException;
+import com.shoekream.dao.TradeClaimDao;
 import com.shoekream.domain.address.Address;
-import com.shoekream.domain.point.Point;
-import com.shoekream.domain.point.PointRepository;
+import com.shoekream.domain.address.AddressRepository;
+import com.shoekream.domain.point.PointBalanceManager;
+import com.shoekream.domain.point.PointDivision;
 import com.shoekream.domain.product.Product;
 import com.shoekream.domain.product.ProductRepository;
 import com.shoekream.domain.product.dto.ProductInfoFromTrade;
@@ -13,16 +15,23 @@ import com.shoekream.domain.trade.TradeValidator;
 import com.shoekream.domain.trade.dto.*;
 import com.shoekream.domain.trade.Trade;
 import com.shoekream.domain.trade.TradeRepository;
+import com.shoekream.domain.trade.orderbook.OrderBook;
+import com.shoekream.domain.trade.orderbook.OrderBookManager;
 import com.shoekream.domain.user.User;
 import com.shoekream.domain.user.dto.UserInfoForTrade;
+import com.shoekream.domain.user.UserPrincipalResolver;
 import com.shoekream.domain.user.UserRepository;
+import com.shoekream.domain.user.dto.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Comparator;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -33,120 +42,91 @@ public class TradeService {
     private final TradeRepository tradeRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
-    private final PointRepository pointRepository;
+    private final AddressRepository addressRepository;
+    private final UserPrincipalResolver userPrincipalResolver;
+    private final PointBalanceManager pointBalanceManager;
     private final TradeValidator validator;
+    private final OrderBookManager orderBookManager;
+    private final TransactionTemplate transactionTemplate;
+    private final TradeClaimDao tradeClaimDao;
 
-//    public TradeInfos getTradeInfosForBid(Long productId, String email, Double size) {
-//
-//        User user = userRepository.findByEmail(email)
-//                .orElseThrow(() -> new ShoeKreamException(ErrorCode.USER_NOT_FOUND));
-//
-//        Product product = productRepository.findById(productId)
-//                .orElseThrow(() -> new ShoeKreamException(ErrorCode.PRODUCT_NOT_FOUND));
-//
-//        ProductInfoFromTrade productInfoFromTrade = product.getProductInfoFromTrade(size);
-//        UserInfoForTrade userInfoForTrade = user.toUserInfoForTrade();
-//
-//        return TradeInfos.toTradeInfos(productInfoFromTrade, userInfoForTrade);
-//    }
-
-    @CacheEvict(value = "products",key = "#requestDto.productId")
-    public void createSaleBid(String email, BidCreateRequest requestDto) {
-
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ShoeKreamException(ErrorCode.USER_NOT_FOUND));
+    // 즉시 구매 충돌 시 재시도 최대 횟수
+    private static final int MAX_PURCHASE_ATTEMPTS = 3;
 
-        Product product = productRepository.findById(requestDto.getProductId())
-                .orElseThrow(() -> new ShoeKreamException(ErrorCode.PRODUCT_NOT_FOUND));
+    // 입찰 화면 정보 - 상품 정보, 해당 사이즈의 즉시 판매가 · 즉시 구매가, 사용자 계좌 · 주소록
+    @Transactional(readOnly = true)
+    public TradeInfos getTradeInfosForBid(Long productId, String email, Double size) {
 
-        Address sellerAddress = user.getAddressList().stream()
-                .filter(address -> address.getId().equals(requestDto.getAddressId()))
-                .findAny()
-                .orElseThrow(() -> new ShoeKreamException(ErrorCode.ADDRESS_NOT_FOUND));
+        User user = userRepository.findWithAddressListByEmail(email)
+                .orElseThrow(() -> new ShoeKreamException(ErrorCode.USER_NOT_FOUND));
 
-        // 판매 입찰은 구매 입찰의 최고가보다 낮은 가격 불가
-        Trade highestPurchaseBid = tradeRepository.findByProductAndProductSizeAndStatusAndSellerIsNull(product, requestDto.getProductSize(), TradeStatus.PRE_OFFER)
-                .stream()
-                .sorted(Comparator.comparing(Trade::getPrice).reversed())
-                .findAny()
-                .orElse(null);
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ShoeKreamException(ErrorCode.PRODUCT_NOT_FOUND));
 
-        if (highestPurchaseBid != null) {
-            if (requestDto.getPrice() < highestPurchaseBid.getPrice()) {
-                throw new ShoeKreamException(ErrorCode.NOT_ALLOWED_SALE_BID_PRICE);
-            }
+        if (!product.isAvailableSize(size)) {
+            throw new ShoeKreamException(ErrorCode.NOT_ALLOWED_PRODUCT_SIZE);
         }
 
-        // 입찰 등록하고자 하는 상품의 사이즈가 유효한지 확인
-        checkExistProductSize(requestDto, product);
+        // 즉시 판매가는 구매 입찰 최고가, 즉시 구매가는 판매 입찰 최저가 (사이즈는 정수 키로 변환해 호가창 조회)
+        Optional<OrderBook> orderBook = orderBookManager.findOrderBook(productId, size);
+        TradeBidInfos immediateSale = orderBook.flatMap(OrderBook::getBestPurchaseBid)
+                .map(bid -> bid.toTradeBidInfos(productId, size))
+                .orElse(null);
+        TradeBidInfos immediatePurchase = orderBook.flatMap(OrderBook::getBestSaleBid)
+                .map(bid -> bid.toTradeBidInfos(productId, size))
+                .orElse(null);
 
-        Trade trade = requestDto.toEntityForSeller(user, product, sellerAddress);
+        ProductInfoFromTrade productInfoFromTrade = product.getProductInfoFromTrade(immediateSale, immediatePurchase);
+        UserInfoForTrade userInfoForTrade = user.toUserInfoForTrade();
 
-        tradeRepository.save(trade);
+        return TradeInfos.toTradeInfos(productInfoFromTrade, userInfoForTrade);
     }
 
+    // 거래에는 회원 FK 만 필요하므로 회원 엔티티를 조회하지 않고 참조만 사용 (가입 여부는 캐시된 회원 정보로 확인)
+    private User findUserReference(String email) {
+        return userRepository.getReferenceById(userPrincipalResolver.resolve(email).getId());
+    }
 
-    @CacheEvict(value = "products",key = "#requestDto.productId")
-    public void createPurchaseBid(String email, BidCreateRequest requestDto) {
-
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ShoeKreamException(ErrorCode.USER_NOT_FOUND));
-
-        Product product = productRepository.findById(requestDto.getProductId())
-                .orElseThrow(() -> new ShoeKreamException(ErrorCode.PRODUCT_NOT_FOUND));
-
-        // 요청 주소가 주소록에 있는지 확인
-        Address buyerAddress = user.getAddressList().stream()
-                .filter(address -> address.getId().equals(requestDto.getAddressId()))
-                .findAny()
+    // 요청 주소가 회원의 주소인지 확인 - 주소록 전체 대신 주소 PK 로 한 건만 조회
+    private Address findOwnAddress(Long addressId, Long userId) {
+        return addressRepository.findByIdAndUserId(addressId, userId)
                 .orElseThrow(() -> new ShoeKreamException(ErrorCode.ADDRESS_NOT_FOUND));
+    }
 
-        // 포인트 충분한지 확인
-        user.checkEnoughPoint(requestDto.getPrice());
-
-        // 입찰 등록하고자 하는 상품의 사이즈가 유효한지 확인
-        checkExistProductSize(requestDto, product);
+    /**
+     * 즉시 구매
+     * 행 잠금 없이 조회한 버전 기준으로 조건부 UPDATE 하고, 그 사이 거래가 변경되었다면 짧은 트랜잭션으로 다시 시도한다.
+     * 이미 낙찰된 거래면 대기 없이 바로 실패 응답을 반환한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ImmediatePurchaseResponse immediatePurchase(String email, ImmediatePurchaseRequest requestDto) {
 
-        // 구매 입찰은 판매 입찰의 최저가보다 높은 가격 불가
-        Trade lowestSaleBid = tradeRepository.findByProductAndProductSizeAndStatusAndBuyerIsNull(product, requestDto.getProductSize(), TradeStatus.PRE_OFFER)
-                .stream()
-                .sorted(Comparator.comparing(Trade::getPrice))
-                .findFirst()
-                .orElse(null);
+        // 다른 노드의 요청이 먼저 선점한 거래면 DB 트랜잭션 없이 바로 실패
+        Optional<String> claimToken = tradeClaimDao.claim(requestDto.getTradeId());
+        if (claimToken.isEmpty()) {
+            return ImmediatePurchaseResponse.of(false, "이미 다른 구매자가 진행 중인 거래입니다.");
+        }
 
-        if (lowestSaleBid != null) {
-            if (requestDto.getPrice() > lowestSaleBid.getPrice()) {
-                throw new ShoeKreamException(ErrorCode.NOT_ALLOWED_PURCHASE_BID_PRICE);
+        try {
+            for (int attempt = 0; attempt < MAX_PURCHASE_ATTEMPTS; attempt++) {
+                try {
+                    return transactionTemplate.execute(status -> purchase(email, requestDto));
+                } catch (OptimisticLockingFailureException e) {
+                    log.info("immediate purchase conflict - tradeId : {}, attempt : {}", requestDto.getTradeId(), attempt + 1);
+                }
             }
+        } finally {
+            tradeClaimDao.release(requestDto.getTradeId(), claimToken.get());
         }
 
-        // 구매 입찰 생성
-        Trade trade = requestDto.toEntityForBuyer(user, product, buyerAddress);
-
-        // 포인트 차감
-        user.deductPoints(requestDto.getPrice());
-
-        tradeRepository.save(trade);
-
-        // 포인트 차감 이력 생성 후 저장
-        Point point = Point.registerPointDeductionHistory(user, trade.getPrice());
-        pointRepository.save(point);
-
-    }
-
-    private void checkExistProductSize(BidCreateRequest requestDto, Product product) {
-        if(requestDto.getProductSize() > product.getMaxSize() || requestDto.getProductSize() < product.getMinSize()) {
-            throw new ShoeKreamException(ErrorCode.NOT_ALLOWED_PRODUCT_SIZE);
-        }
+        return ImmediatePurchaseResponse.of(false, "구매 요청이 몰려 처리하지 못했습니다. 다시 시도해주세요.");
     }
 
-    @CacheEvict(value = "products",key = "#requestDto.productId")
-    public ImmediatePurchaseResponse immediatePurchase(String email, ImmediatePurchaseRequest requestDto) {
+    private ImmediatePurchaseResponse purchase(String email, ImmediatePurchaseRequest requestDto) {
 
-        User buyer = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ShoeKreamException(ErrorCode.USER_NOT_FOUND));
+        User buyer = findUserReference(email);
 
-        Trade trade = tradeRepository.findPessimisticLockById(requestDto.getTradeId())
+        Trade trade = tradeRepository.findById(requestDto.getTradeId())
                 .orElseThrow(() -> new ShoeKreamException(ErrorCode.TRADE_NOT_FOUND));
 
         ImmediatePurchaseResponse response = validator.purchaseValidate(trade);
@@ -157,64 +137,76 @@ public class TradeService {
             return response;
         }
 
-        // 요청 주소가 주소록에 있는지 확인
-        Address buyerAddress = buyer.getAddressList().stream()
-                .filter(address -> address.getId().equals(requestDto.getAddressId()))
-                .findAny()
-                .orElseThrow(() -> new ShoeKreamException(ErrorCode.ADDRESS_NOT_FOUND));
+        // 본인의 판매 입찰은 구매할 수 없음
+        validator.validateNotOwnBid(trade.getSeller(), buyer);
 
-        // 구매자 포인트 충분한지 확인
-        buyer.checkPointForPurchase(trade.getPrice());
-
-        // 구매자 포인트 차감
-        buyer.deductPoints(trade.getPrice());
+        // 요청 주소가 주소록에 있는지 확인
+        Address buyerAddress = findOwnAddress(requestDto.getAddressId(), buyer.getId());
 
-        // 즉시 구매 진행 (판매자 발송 대기 상태로 변경)
-        trade.registerImmediatePurchase(buyer, buyerAddress);
+        // 즉시 구매 진행 (판매자 발송 대기 상태로 변경) - 조회 이후 다른 요청이 먼저 변경했다면 롤백 후 재시도
+        if (tradeRepository.claimSaleBid(trade.getId(), trade.getVersion(), buyer, buyerAddress) == 0) {
+            throw new ObjectOptimisticLockingFailureException(Trade.class, trade.getId());
+        }
+        orderBookManager.removeBid(trade);
 
-        // 구매자 포인트 차감 이력 생성 후 저장
-        Point point = Point.registerPointDeductionHistory(buyer, trade.getPrice());
-        pointRepository.save(point);
+        // 구매자 포인트 차감 및 차감 이력 저장 (잔액 부족 시 예외 - 거래 변경도 함께 롤백)
+        pointBalanceManager.record(buyer, PointDivision.PURCHASE_DEDUCTION, trade.getPrice());
 
         return response;
     }
 
-    @CacheEvict(value = "products",key = "#requestDto.productId")
+    /**
+     * 즉시 판매
+     * Redis 에서 거래를 선점한 요청만 트랜잭션을 시작하고, 구매 입찰이 아직 PRE_OFFER 상태일 때만 판매자를 지정한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void immediateSale(String email, ImmediateSaleRequest requestDto) {
 
-        User seller = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ShoeKreamException(ErrorCode.USER_NOT_FOUND));
+        String claimToken = tradeClaimDao.claim(requestDto.getTradeId())
+                .orElseThrow(() -> new ShoeKreamException(ErrorCode.TRADE_ALREADY_CLAIMED));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> sale(email, requestDto));
+        } finally {
+            tradeClaimDao.release(requestDto.getTradeId(), claimToken);
+        }
+    }
+
+    private void sale(String email, ImmediateSaleRequest requestDto) {
+
+        User seller = findUserReference(email);
 
         Trade trade = tradeRepository.findById(requestDto.getTradeId())
                 .orElseThrow(() -> new ShoeKreamException(ErrorCode.TRADE_NOT_FOUND));
 
+        // 본인의 구매 입찰에는 판매할 수 없음
+        validator.validateNotOwnBid(trade.getBuyer(), seller);
+
         // (판매자) 요청 주소가 주소록에 있는지 확인
-        Address sellerAddress = seller.getAddressList().stream()
-                .filter(address -> address.getId().equals(requestDto.getAddressId()))
-                .findAny()
-                .orElseThrow(() -> new ShoeKreamException(ErrorCode.ADDRESS_NOT_FOUND));
+        Address sellerAddress = findOwnAddress(requestDto.getAddressId(), seller.getId());
 
-        // 즉시 판매 진행 (판매자 발송 대기 상태로 변경)
-        trade.registerImmediateSale(seller, sellerAddress);
+        // 즉시 판매 진행 (판매자 발송 대기 상태로 변경) - 이미 판매자가 있거나 PRE_OFFER 상태가 아니면 실패
+        if (tradeRepository.claimPurchaseBid(trade.getId(), seller, sellerAddress) == 0) {
+            throw new ShoeKreamException(ErrorCode.TRADE_ALREADY_CLAIMED);
+        }
+        orderBookManager.removeBid(trade);
     }
 
     public TradeDeleteResponse deleteTrade(String email, TradeDeleteRequest requestDto) {
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ShoeKreamException(ErrorCode.USER_NOT_FOUND));
+        userPrincipalResolver.resolve(email);
 
         Trade trade = tradeRepository.findById(requestDto.getTradeId())
                 .orElseThrow(() -> new ShoeKreamException(ErrorCode.TRADE_NOT_FOUND));
 
         // PRE_OFFER vs PRE_SELLER_SHIPMENT 상태에서만 취소 가능
         if(isPermittedStatus(trade.getStatus())) {
+            orderBookManager.removeBid(trade);
             // 판매 입찰만 등록된 경우(아직 즉시 구매자는 없는 경우)
             if(trade.hasSeller() && !trade.hasBuyer()) {
                 tradeRepository.delete(trade);
             } else { // 그 외엔 전부 구매자 있으므로 포인트 되돌리기
-                trade.undoTrade(trade.getPrice());
-                Point point = Point.returnPurchasePoint(trade.getBuyer(), trade.getPrice());
-                pointRepository.save(point);
+                pointBalanceManager.record(trade.getBuyer(), PointDivision.PURCHASE_RETURN, trade.getPrice());
                 tradeRepository.delete(trade);
             }
         }
@@ -231,17 +223,18 @@ public class TradeService {
 
     public SendProductResponse updateSellerToCompanyTrackingNumber(String email, Long tradeId, SendingProductRequest requestDto) {
 
-        User seller = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ShoeKreamException(ErrorCode.USER_NOT_FOUND));
+        UserPrincipal seller = userPrincipalResolver.resolve(email);
 
         Trade trade = tradeRepository.findById(tradeId)
                 .orElseThrow(() -> new ShoeKreamException(ErrorCode.TRADE_NOT_FOUND));
 
-        // 판매자인지 확인
-        if (!trade.getSeller().getEmail().equals(seller.getEmail())) {
+        // 판매자인지 확인 (판매자 엔티티를 조회하지 않도록 id 로 비교)
+        if (!trade.getSeller().getId().equals(seller.getId())) {
             throw new ShoeKreamException(ErrorCode.USER_NOT_MATCH);
         }
 
+        validateTransition(trade, TradeStatus.PRE_SELLER_SHIPMENT, TradeStatus.PRE_WAREHOUSING, ErrorCode.NOT_ALLOWED_TRADE_STATUS);
+
         // 판매자 -> 회사 운송장번호 입력, status PRE_WAREHOUSING으로 변경
         trade.updateSellerToCompanyTrackingNumber(requestDto.getTrackingNumber());
 
@@ -253,9 +246,7 @@ public class TradeService {
         Trade trade = tradeRepository.findById(tradeId)
                 .orElseThrow(() -> new ShoeKreamException(ErrorCode.TRADE_NOT_FOUND));
 
-        if(!trade.getStatus().equals(TradeStatus.PRE_WAREHOUSING)) {
-            throw new ShoeKreamException(ErrorCode.IS_NOT_PRE_WAREHOUSING);
-        }
+        validateTransition(trade, TradeStatus.PRE_WAREHOUSING, TradeStatus.PRE_INSPECTION, ErrorCode.IS_NOT_PRE_WAREHOUSING);
 
         trade.updateStatus(TradeStatus.PRE_INSPECTION);
     }
@@ -265,9 +256,7 @@ public class TradeService {
         Trade trade = tradeRepository.findById(tradeId)
                 .orElseThrow(() -> new ShoeKreamException(ErrorCode.TRADE_NOT_FOUND));
 
-        if(!trade.getStatus().equals(TradeStatus.PRE_INSPECTION)) {
-            throw new ShoeKreamException(ErrorCode.IS_NOT_PRE_INSPECTION);
-        }
+        validateTransition(trade, TradeStatus.PRE_INSPECTION, TradeStatus.PRE_SHIPMENT, ErrorCode.IS_NOT_PRE_INSPECTION);
 
         trade.updateStatus(TradeStatus.PRE_SHIPMENT);
     }
@@ -277,15 +266,12 @@ public class TradeService {
         Trade trade = tradeRepository.findById(tradeId)
                 .orElseThrow(() -> new ShoeKreamException(ErrorCode.TRADE_NOT_FOUND));
 
-        if(!trade.getStatus().equals(TradeStatus.PRE_INSPECTION)) {
-            throw new ShoeKreamException(ErrorCode.IS_NOT_PRE_INSPECTION);
-        }
+        validateTransition(trade, TradeStatus.PRE_INSPECTION, TradeStatus.CANCEL, ErrorCode.IS_NOT_PRE_INSPECTION);
 
         trade.cancelCausedByInspectionFailed(requestDto.getCancelReason());
         trade.updateStatus(TradeStatus.CANCEL);
 
-        Point point = Point.returnPurchasePoint(trade.getBuyer(), trade.getPrice());
-        pointRepository.save(point);
+        pointBalanceManager.record(trade.getBuyer(), PointDivision.PURCHASE_RETURN, trade.getPrice());
 
         return trade.toReasonResponse();
     }
@@ -305,9 +291,7 @@ public class TradeService {
         Trade trade = tradeRepository.findById(tradeId)
                 .orElseThrow(() -> new ShoeKreamException(ErrorCode.TRADE_NOT_FOUND));
 
-        if(!trade.getStatus().equals(TradeStatus.PRE_SHIPMENT)) {
-            throw new ShoeKreamException(ErrorCode.IS_NOT_PRE_SHIPMENT);
-        }
+        validateTransition(trade, TradeStatus.PRE_SHIPMENT, TradeStatus.SHIPPING, ErrorCode.IS_NOT_PRE_SHIPMENT);
 
         trade.updateCompanyToBuyerTrackingNumber(requestDto.getTrackingNumber());
 
@@ -323,10 +307,19 @@ public class TradeService {
             throw new ShoeKreamException(ErrorCode.USER_NOT_MATCH);
         }
 
+        // 배송중인 거래만 구매 확정 (이미 확정된 거래에 판매 대금이 다시 지급되지 않도록)
+        validateTransition(trade, TradeStatus.SHIPPING, TradeStatus.TRADE_COMPLETE, ErrorCode.NOT_ALLOWED_TRADE_STATUS);
+
         trade.finishTrade();
 
-        Point point = Point.receivePurchasePoint(trade.getSeller(), trade.getPrice());
-        pointRepository.save(point);
+        pointBalanceManager.record(trade.getSeller(), PointDivision.POINT_REVENUE, trade.getPrice());
 
     }
+
+    // 거래가 current 상태이고 전이 테이블상 next 상태로 변경 가능할 때만 진행, 아니면 요청별 에러 코드로 거절
+    private void validateTransition(Trade trade, TradeStatus current, TradeStatus next, ErrorCode errorCode) {
+        if (trade.getStatus() != current || !current.canTransitTo(next)) {
+            throw new ShoeKreamException(errorCode);
+        }
+    }
 }
@@ -8,6 +8,7 @@ import com.shoekream.domain.cart.Cart;
 import com.shoekream.domain.cart.CartRepository;
 import com.shoekream.domain.user.Account;
 import com.shoekream.domain.user.User;
+import com.shoekream.domain.user.UserPrincipalLoader;
 import com.shoekream.domain.user.UserRepository;
 import com.shoekream.domain.user.dto.*;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +32,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final CartRepository cartRepository;
     private final BCryptPasswordEncoder encoder;
+    private final UserPrincipalLoader userPrincipalLoader;
 
     @Transactional
     public UserCreateResponse createUser(UserCreateRequest request){
@@ -106,6 +108,7 @@ public class UserService {
         }
 
         userRepository.delete(foundUser);
+        userPrincipalLoader.evictAfterCommit(email);
 
         return foundUser.toUserResponse();
     }
@@ -133,6 +136,7 @@ public class UserService {
                 .orElseThrow(() -> new ShoeKreamException(USER_NOT_FOUND));
 
         foundUser.changeUserRole();
+        userPrincipalLoader.evictAfterCommit(email);
     }
 
     @Transactional
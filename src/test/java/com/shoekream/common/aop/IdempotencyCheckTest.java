@@ -0,0 +1,184 @@
+package com.shoekream.common.aop;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shoekream.common.Response;
+import com.shoekream.common.exception.ShoeKreamException;
+import com.shoekream.dao.IdempotencyDao;
+import com.shoekream.dao.IdempotencyRecord;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static com.shoekream.common.exception.ErrorCode.IDEMPOTENCY_KEY_REUSED;
+import static com.shoekream.common.exception.ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS;
+import static com.shoekream.common.util.constants.IdempotencyConstants.IDEMPOTENCY_KEY_HEADER;
+import static com.shoekream.common.util.constants.IdempotencyConstants.IDEMPOTENCY_REPLAYED_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyCheckTest {
+
+    @Mock
+    private IdempotencyDao idempotencyDao;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private IdempotencyCheck idempotencyCheck;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    @Mock
+    private IdempotencyDao.Renewal renewal;
+
+    private final Authentication authentication = new UsernamePasswordAuthenticationToken("user@email.com", null);
+    private final String key = "user@email.com:key-1";
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private void givenRequest(Object body) {
+        request.addHeader(IDEMPOTENCY_KEY_HEADER, "key-1");
+        given(joinPoint.getArgs()).willReturn(new Object[]{authentication, body});
+        given(joinPoint.getSignature()).willReturn(signature);
+        given(signature.toLongString()).willReturn("charge");
+    }
+
+    @Nested
+    @DisplayName("첫 요청 테스트")
+    class FirstRequest {
+
+        @Test
+        @DisplayName("Idempotency-Key 헤더가 없으면 그대로 처리")
+        void withoutHeader() throws Throwable {
+            ResponseEntity<Response<String>> response = ResponseEntity.ok(Response.success("ok"));
+            given(joinPoint.getArgs()).willReturn(new Object[]{authentication});
+            given(joinPoint.proceed()).willReturn(response);
+
+            assertThat(idempotencyCheck.idempotentAdviceHandler(joinPoint)).isEqualTo(response);
+            verifyNoInteractions(idempotencyDao);
+        }
+
+        @Test
+        @DisplayName("처리 후 응답을 회원 · 키 단위로 저장")
+        void completeAfterProceed() throws Throwable {
+            givenRequest(Map.of("point", 1000));
+            given(idempotencyDao.start(eq(key), anyString())).willReturn(true);
+            given(idempotencyDao.keepAlive(eq(key), anyString())).willReturn(renewal);
+            given(joinPoint.proceed()).willReturn(ResponseEntity.ok(Response.success("ok")));
+
+            idempotencyCheck.idempotentAdviceHandler(joinPoint);
+
+            // 처리가 끝나면 선점 연장을 멈춘 뒤 응답 저장
+            InOrder inOrder = inOrder(renewal, idempotencyDao);
+            inOrder.verify(renewal).close();
+            ArgumentCaptor<IdempotencyRecord> captor = ArgumentCaptor.forClass(IdempotencyRecord.class);
+            inOrder.verify(idempotencyDao).complete(eq(key), captor.capture());
+            assertThat(captor.getValue().isCompleted()).isTrue();
+            assertThat(captor.getValue().getResponseStatus()).isEqualTo(200);
+            assertThat(captor.getValue().getResponseBody()).isEqualTo("{\"message\":\"SUCCESS\",\"result\":\"ok\"}");
+        }
+
+        @Test
+        @DisplayName("처리 중 예외 발생 시 선점 해제")
+        void releaseOnException() throws Throwable {
+            givenRequest(Map.of("point", 1000));
+            given(idempotencyDao.start(eq(key), anyString())).willReturn(true);
+            given(idempotencyDao.keepAlive(eq(key), anyString())).willReturn(renewal);
+            given(joinPoint.proceed()).willThrow(new IllegalArgumentException());
+
+            assertThrows(IllegalArgumentException.class, () -> idempotencyCheck.idempotentAdviceHandler(joinPoint));
+            verify(renewal).close();
+            verify(idempotencyDao).release(key);
+            verify(idempotencyDao, never()).complete(anyString(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("재요청 테스트")
+    class Replay {
+
+        @Test
+        @DisplayName("처리된 같은 요청은 저장된 응답 반환")
+        void replayCompleted() throws Throwable {
+            givenRequest(Map.of("point", 1000));
+            ArgumentCaptor<String> hashCaptor = ArgumentCaptor.forClass(String.class);
+            given(idempotencyDao.start(eq(key), hashCaptor.capture())).willReturn(false);
+            given(idempotencyDao.find(key)).willAnswer(invocation -> Optional.of(
+                    IdempotencyRecord.completed(hashCaptor.getValue(), 200, "{\"message\":\"SUCCESS\",\"result\":\"ok\"}")));
+
+            ResponseEntity<?> response = (ResponseEntity<?>) idempotencyCheck.idempotentAdviceHandler(joinPoint);
+
+            verify(joinPoint, never()).proceed();
+            assertThat(response.getStatusCode().value()).isEqualTo(200);
+            assertThat(response.getHeaders().getFirst(IDEMPOTENCY_REPLAYED_HEADER)).isEqualTo("true");
+            assertThat(((JsonNode) response.getBody()).get("result").asText()).isEqualTo("ok");
+        }
+
+        @Test
+        @DisplayName("처리 중인 요청이면 에러 발생")
+        void inProgress() throws Throwable {
+            givenRequest(Map.of("point", 1000));
+            ArgumentCaptor<String> hashCaptor = ArgumentCaptor.forClass(String.class);
+            given(idempotencyDao.start(eq(key), hashCaptor.capture())).willReturn(false);
+            given(idempotencyDao.find(key)).willAnswer(invocation -> Optional.of(
+                    IdempotencyRecord.inProgress(hashCaptor.getValue())));
+
+            ShoeKreamException exception = assertThrows(ShoeKreamException.class, () -> idempotencyCheck.idempotentAdviceHandler(joinPoint));
+
+            assertThat(exception.getErrorCode()).isEqualTo(IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            verify(joinPoint, never()).proceed();
+        }
+
+        @Test
+        @DisplayName("같은 키로 다른 요청을 보내면 에러 발생")
+        void keyReused() throws Throwable {
+            givenRequest(Map.of("point", 2000));
+            given(idempotencyDao.start(eq(key), anyString())).willReturn(false);
+            given(idempotencyDao.find(key)).willReturn(Optional.of(
+                    IdempotencyRecord.completed("other-hash", 200, "{}")));
+
+            ShoeKreamException exception = assertThrows(ShoeKreamException.class, () -> idempotencyCheck.idempotentAdviceHandler(joinPoint));
+
+            assertThat(exception.getErrorCode()).isEqualTo(IDEMPOTENCY_KEY_REUSED);
+            verify(joinPoint, never()).proceed();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.shoekream.common.aop;
+
+import com.shoekream.common.db.ReplicaRoutingContext;
+import com.shoekream.dao.RecentWriteDao;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReadYourWritesRoutingTest {
+
+    @Mock
+    private RecentWriteDao recentWriteDao;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    private ReadYourWritesRouting readYourWritesRouting;
+
+    private final Authentication authentication = new UsernamePasswordAuthenticationToken("user@email.com", null);
+    private final Duration window = Duration.ofMillis(3000L);
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        readYourWritesRouting = new ReadYourWritesRouting(recentWriteDao, window.toMillis());
+        request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        ReplicaRoutingContext.clear();
+    }
+
+    // 컨트롤러 실행 중 master 고정 여부 반환
+    private boolean proceedAndCapturePin() throws Throwable {
+        boolean[] pinned = new boolean[1];
+        given(joinPoint.getArgs()).willReturn(new Object[]{authentication});
+        given(joinPoint.proceed()).willAnswer(invocation -> {
+            pinned[0] = ReplicaRoutingContext.isPinnedToMaster();
+            return null;
+        });
+
+        readYourWritesRouting.routingAdviceHandler(joinPoint);
+        return pinned[0];
+    }
+
+    @Nested
+    @DisplayName("쓰기 요청")
+    class WriteRequest {
+
+        @Test
+        @DisplayName("처리 전 · 후에 쓰기 기록")
+        void markWrite() throws Throwable {
+            request.setMethod("POST");
+
+            proceedAndCapturePin();
+
+            verify(recentWriteDao, times(2)).markWrite("user@email.com", window);
+        }
+    }
+
+    @Nested
+    @DisplayName("읽기 요청")
+    class ReadRequest {
+
+        @Test
+        @DisplayName("최근 쓰기가 있으면 master 로 고정하고 처리 후 해제")
+        void pinAfterWrite() throws Throwable {
+            request.setMethod("GET");
+            given(recentWriteDao.hasRecentWrite("user@email.com")).willReturn(true);
+
+            assertThat(proceedAndCapturePin()).isTrue();
+            assertThat(ReplicaRoutingContext.isPinnedToMaster()).isFalse();
+        }
+
+        @Test
+        @DisplayName("최근 쓰기가 없으면 slave 사용")
+        void notPinned() throws Throwable {
+            request.setMethod("GET");
+            given(recentWriteDao.hasRecentWrite("user@email.com")).willReturn(false);
+
+            assertThat(proceedAndCapturePin()).isFalse();
+            verify(recentWriteDao, never()).markWrite(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("쓰기 기록을 확인할 수 없으면 master 로 고정")
+        void pinWhenUnavailable() throws Throwable {
+            request.setMethod("GET");
+            given(recentWriteDao.hasRecentWrite("user@email.com")).willThrow(new QueryTimeoutException("timeout"));
+
+            assertThat(proceedAndCapturePin()).isTrue();
+        }
+    }
+}
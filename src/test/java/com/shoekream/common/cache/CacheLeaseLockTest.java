@@ -0,0 +1,76 @@
+package com.shoekream.common.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheLeaseLockTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private CacheLeaseLock cacheLeaseLock;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("선점 키가 없으면 선점 시간만큼 저장하고 해제용 토큰 반환")
+    void acquire() {
+        given(valueOperations.setIfAbsent(eq("cache:lease:products::1"), anyString(), eq(Duration.ofSeconds(2L))))
+                .willReturn(true);
+
+        Optional<String> token = cacheLeaseLock.tryAcquire("products::1", Duration.ofSeconds(2L));
+
+        assertThat(token).isPresent();
+        verify(valueOperations).setIfAbsent("cache:lease:products::1", token.get(), Duration.ofSeconds(2L));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 선점 중이면 선점 실패")
+    void alreadyAcquired() {
+        given(valueOperations.setIfAbsent(eq("cache:lease:products::1"), anyString(), any(Duration.class)))
+                .willReturn(false);
+
+        assertThat(cacheLeaseLock.tryAcquire("products::1", Duration.ofSeconds(2L))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("응답이 없으면 (파이프라인 · 트랜잭션) 선점 실패로 처리")
+    void nullReply() {
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .willReturn(null);
+
+        assertThat(cacheLeaseLock.tryAcquire("products::1", Duration.ofSeconds(2L))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("해제 시 본인 토큰일 때만 삭제하는 스크립트 실행")
+    @SuppressWarnings("unchecked")
+    void release() {
+        cacheLeaseLock.release("products::1", "token");
+
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("cache:lease:products::1")), eq("token"));
+    }
+}
@@ -0,0 +1,52 @@
+package com.shoekream.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachePolicyTest {
+
+    @Test
+    @DisplayName("TTL 은 설정한 비율 이내에서만 짧아짐")
+    void jitter() {
+        CachePolicy policy = CachePolicy.builder()
+                .ttl(Duration.ofHours(1L))
+                .ttlJitterRatio(0.2)
+                .build();
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(policy.jitter(Duration.ofHours(1L)))
+                    .isBetween(Duration.ofMinutes(48L), Duration.ofHours(1L));
+        }
+    }
+
+    @Test
+    @DisplayName("만료 없는 TTL 은 그대로 유지")
+    void jitterWithoutTtl() {
+        CachePolicy policy = CachePolicy.builder()
+                .ttlJitterRatio(0.2)
+                .build();
+
+        assertThat(policy.jitter(Duration.ZERO)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("캐시 이름별 TTL · 키 prefix · null 캐싱 적용")
+    void toRedisCacheConfiguration() {
+        CachePolicy policy = CachePolicy.builder()
+                .ttl(Duration.ofMinutes(10L))
+                .keyPrefix("shoekream:")
+                .cacheNullValues(true)
+                .build();
+
+        RedisCacheConfiguration configuration = policy.toRedisCacheConfiguration(CacheValueFormat.SMILE);
+
+        assertThat(configuration.getTtl()).isEqualTo(Duration.ofMinutes(10L));
+        assertThat(configuration.getKeyPrefixFor("products")).isEqualTo("shoekream:products::");
+        assertThat(configuration.getAllowCacheNullValues()).isTrue();
+    }
+}
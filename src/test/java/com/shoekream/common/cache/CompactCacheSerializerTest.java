@@ -0,0 +1,81 @@
+package com.shoekream.common.cache;
+
+import com.shoekream.domain.brand.dto.BrandInfo;
+import com.shoekream.domain.product.dto.ProductInfo;
+import com.shoekream.domain.trade.dto.TradeBidInfos;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactCacheSerializerTest {
+
+    private final RedisSerializer<Object> serializer = CacheSerializers.compact(1024);
+
+    private ProductInfo productInfo(int bidCount) {
+        List<TradeBidInfos> salesBids = new ArrayList<>();
+        for (long i = 0; i < bidCount; i++) {
+            salesBids.add(new TradeBidInfos(i, 1L, 260.0, 200_000L + i));
+        }
+        return ProductInfo.builder()
+                .id(1L)
+                .name("name")
+                .releaseDate(LocalDate.of(2023, 5, 1))
+                .brandInfo(BrandInfo.builder().id(1L).name("brand").build())
+                .salesBids(salesBids)
+                .purchaseBids(new ArrayList<>())
+                .build();
+    }
+
+    @Test
+    @DisplayName("기준 크기 미만은 압축 없이 Smile 로 저장 후 복원")
+    void smile() {
+        byte[] bytes = serializer.serialize(productInfo(1));
+
+        ProductInfo result = (ProductInfo) serializer.deserialize(bytes);
+
+        assertThat(bytes[0]).isEqualTo(CompactCacheSerializer.FORMAT_SMILE);
+        assertThat(result.getReleaseDate()).isEqualTo(LocalDate.of(2023, 5, 1));
+        assertThat(result.getBrandInfo().getName()).isEqualTo("brand");
+        assertThat(result.getSalesBids()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("기준 크기 이상은 LZ4 로 압축 후 복원")
+    void compressed() {
+        byte[] bytes = serializer.serialize(productInfo(200));
+
+        ProductInfo result = (ProductInfo) serializer.deserialize(bytes);
+
+        assertThat(bytes[0]).isEqualTo(CompactCacheSerializer.FORMAT_SMILE_LZ4);
+        assertThat(result.getSalesBids()).hasSize(200);
+        assertThat(result.getSalesBids().get(199).getPrice()).isEqualTo(200_199L);
+    }
+
+    @Test
+    @DisplayName("기존 JSON 으로 저장된 값도 복원")
+    void legacyJson() {
+        byte[] bytes = CacheSerializers.json().serialize(productInfo(1));
+
+        ProductInfo result = (ProductInfo) serializer.deserialize(bytes);
+
+        assertThat(result.getName()).isEqualTo("name");
+        assertThat(bytes.length).isGreaterThan(serializer.serialize(productInfo(1)).length);
+    }
+
+    @Test
+    @DisplayName("신선도 정보(CacheEnvelope)로 감싼 값도 복원")
+    void envelope() {
+        CacheEnvelope envelope = CacheEnvelope.permanent(productInfo(1));
+
+        CacheEnvelope result = (CacheEnvelope) serializer.deserialize(serializer.serialize(envelope));
+
+        assertThat(result.getValue()).isInstanceOf(ProductInfo.class);
+        assertThat(result.getFreshUntil()).isEqualTo(Long.MAX_VALUE);
+    }
+}
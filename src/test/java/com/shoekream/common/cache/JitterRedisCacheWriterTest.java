@@ -0,0 +1,101 @@
+package com.shoekream.common.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JitterRedisCacheWriterTest {
+
+    @Mock
+    private RedisCacheWriter delegate;
+
+    private final byte[] key = "1".getBytes();
+    private final byte[] value = "product".getBytes();
+
+    private JitterRedisCacheWriter cacheWriter;
+
+    @BeforeEach
+    void setUp() {
+        CachePolicy jitterPolicy = CachePolicy.builder().ttl(Duration.ofHours(1L)).ttlJitterRatio(0.2).build();
+        CachePolicy defaultPolicy = CachePolicy.builder().ttl(Duration.ofHours(1L)).build();
+        cacheWriter = new JitterRedisCacheWriter(delegate, Map.of("products", jitterPolicy), defaultPolicy);
+    }
+
+    @Test
+    @DisplayName("저장 시 캐시 이름별 비율 이내에서 TTL 을 줄여 저장")
+    void putWithJitter() {
+        ArgumentCaptor<Duration> ttl = ArgumentCaptor.forClass(Duration.class);
+
+        for (int i = 0; i < 100; i++) {
+            cacheWriter.put("products", key, value, Duration.ofHours(1L));
+        }
+
+        verify(delegate, times(100)).put(eq("products"), eq(key), eq(value), ttl.capture());
+        assertThat(ttl.getAllValues())
+                .allSatisfy(saved -> assertThat(saved).isBetween(Duration.ofMinutes(48L), Duration.ofHours(1L)));
+        assertThat(ttl.getAllValues()).doesNotHaveDuplicates().hasSizeGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("정책이 없는 캐시는 기본 정책 적용 (분산 없음)")
+    void putWithDefaultPolicy() {
+        cacheWriter.put("brands", key, value, Duration.ofHours(1L));
+
+        verify(delegate).put("brands", key, value, Duration.ofHours(1L));
+    }
+
+    @Test
+    @DisplayName("없을 때만 저장하는 경우에도 TTL 분산")
+    void putIfAbsentWithJitter() {
+        ArgumentCaptor<Duration> ttl = ArgumentCaptor.forClass(Duration.class);
+
+        cacheWriter.putIfAbsent("products", key, value, Duration.ofHours(1L));
+
+        verify(delegate).putIfAbsent(eq("products"), eq(key), eq(value), ttl.capture());
+        assertThat(ttl.getValue()).isBetween(Duration.ofMinutes(48L), Duration.ofHours(1L));
+    }
+
+    @Test
+    @DisplayName("만료 없는 TTL 은 그대로 저장")
+    void putWithoutTtl() {
+        cacheWriter.put("products", key, value, Duration.ZERO);
+
+        verify(delegate).put("products", key, value, Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("통계 수집 설정 후에도 TTL 분산 유지")
+    void withStatisticsCollector() {
+        RedisCacheWriter collecting = mock(RedisCacheWriter.class);
+        given(delegate.withStatisticsCollector(any())).willReturn(collecting);
+
+        RedisCacheWriter writer = cacheWriter.withStatisticsCollector(CacheStatisticsCollector.none());
+        writer.put("brands", key, value, Duration.ofHours(1L));
+
+        assertThat(writer).isInstanceOf(JitterRedisCacheWriter.class);
+        verify(collecting).put("brands", key, value, Duration.ofHours(1L));
+    }
+
+    @Test
+    @DisplayName("조회 · 삭제는 그대로 위임")
+    void delegate() {
+        cacheWriter.get("products", key);
+        cacheWriter.remove("products", key);
+
+        verify(delegate).get("products", key);
+        verify(delegate).remove("products", key);
+    }
+}
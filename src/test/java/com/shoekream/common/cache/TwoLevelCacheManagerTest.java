@@ -0,0 +1,160 @@
+package com.shoekream.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import static com.shoekream.common.util.constants.CacheConstants.CACHE_INVALIDATION_CHANNEL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.BDDMockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheManagerTest {
+
+    @Mock
+    private CacheInvalidationPublisher publisher;
+
+    @Mock
+    private CacheLeaseLock leaseLock;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // L2 조회가 끝난 직후 실행할 작업 - 조회 도중 도착한 무효화 메세지 재현
+    private Runnable afterRemoteGet = () -> {};
+
+    private ConcurrentMapCacheManager remoteCacheManager;
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(publisher.getOrigin()).thenReturn("this-node");
+
+        remoteCacheManager = new ConcurrentMapCacheManager("products") {
+            @Override
+            protected Cache createConcurrentMapCache(String name) {
+                return new ConcurrentMapCache(name) {
+                    @Override
+                    public ValueWrapper get(Object key) {
+                        ValueWrapper wrapper = super.get(key);
+                        afterRemoteGet.run();
+                        return wrapper;
+                    }
+                };
+            }
+        };
+        CachePolicy policy = CachePolicy.builder().ttl(Duration.ofHours(1L)).build();
+        cacheManager = new TwoLevelCacheManager(remoteCacheManager, Map.of("products", policy), policy,
+                publisher, leaseLock, objectMapper);
+    }
+
+    private DefaultMessage message(String origin, String cacheName, String key) throws Exception {
+        byte[] body = objectMapper.writeValueAsBytes(new CacheInvalidationMessage(origin, cacheName, key));
+        return new DefaultMessage(CACHE_INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8), body);
+    }
+
+    private Cache remoteCache() {
+        return remoteCacheManager.getCache("products");
+    }
+
+    @Nested
+    @DisplayName("캐시 생성 테스트")
+    class GetCache {
+
+        @Test
+        @DisplayName("같은 이름은 같은 캐시 반환")
+        void sameCache() {
+            assertThat(cacheManager.getCache("products")).isSameAs(cacheManager.getCache("products"));
+        }
+
+        @Test
+        @DisplayName("Redis 캐시 매니저에 없는 캐시면 null")
+        void unknownCache() {
+            assertThat(cacheManager.getCache("unknown")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("무효화 메세지 수신 테스트")
+    class OnMessage {
+
+        @Test
+        @DisplayName("다른 노드의 삭제 메세지를 받으면 L1 만 비움")
+        void evictFromOtherNode() throws Exception {
+            Cache cache = cacheManager.getCache("products");
+            cache.put(1L, "product");
+            remoteCache().put(1L, "updated");
+
+            cacheManager.onMessage(message("other-node", "products", "1"), null);
+
+            assertThat(cache.get(1L).get()).isEqualTo("updated");
+        }
+
+        @Test
+        @DisplayName("다른 노드의 전체 삭제 메세지를 받으면 L1 전체를 비움")
+        void clearFromOtherNode() throws Exception {
+            Cache cache = cacheManager.getCache("products");
+            cache.put(1L, "product");
+            cache.put(2L, "product");
+            remoteCache().clear();
+
+            cacheManager.onMessage(message("other-node", "products", null), null);
+
+            assertThat(cache.get(1L)).isNull();
+            assertThat(cache.get(2L)).isNull();
+        }
+
+        @Test
+        @DisplayName("자신이 보낸 메세지는 무시")
+        void ignoreOwnMessage() throws Exception {
+            Cache cache = cacheManager.getCache("products");
+            cache.put(1L, "product");
+            remoteCache().clear();
+
+            cacheManager.onMessage(message("this-node", "products", "1"), null);
+
+            assertThat(cache.get(1L).get()).isEqualTo("product");
+        }
+
+        @Test
+        @DisplayName("읽을 수 없는 메세지 · 사용하지 않는 캐시 메세지는 무시")
+        void ignoreInvalidMessage() throws Exception {
+            DefaultMessage invalid = new DefaultMessage(CACHE_INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    "not json".getBytes(StandardCharsets.UTF_8));
+
+            assertThatCode(() -> cacheManager.onMessage(invalid, null)).doesNotThrowAnyException();
+            assertThatCode(() -> cacheManager.onMessage(message("other-node", "brands", "1"), null)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("L2 조회 도중 무효화 메세지가 도착하면 조회한 이전 값을 L1 에 채우지 않음")
+        void invalidationDuringRemoteRead() throws Exception {
+            Cache cache = cacheManager.getCache("products");
+            remoteCache().put(1L, "product");
+            DefaultMessage invalidation = message("other-node", "products", "1");
+            afterRemoteGet = () -> {
+                // 조회를 마치기 전 다른 노드가 값을 바꾸고 무효화 전파
+                afterRemoteGet = () -> {};
+                remoteCache().put(1L, "updated");
+                cacheManager.onMessage(invalidation, null);
+            };
+
+            assertThat(cache.get(1L).get()).isEqualTo("product");
+
+            assertThat(cache.get(1L).get()).isEqualTo("updated");
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.shoekream.common.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    @Mock
+    private CacheInvalidationPublisher publisher;
+
+    private ConcurrentMapCache remoteCache;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remoteCache = new ConcurrentMapCache("products");
+        cache = twoLevelCache(CachePolicy.builder().ttl(Duration.ofHours(1L)).build());
+    }
+
+    private TwoLevelCache twoLevelCache(CachePolicy policy) {
+        return new TwoLevelCache("products", policy, policy.buildLocalCache(), remoteCache, publisher, null);
+    }
+
+    @Nested
+    @DisplayName("캐시 조회 테스트")
+    class Get {
+
+        @Test
+        @DisplayName("L2 에서 찾은 값은 L1 에 채워 L2 가 비어도 조회")
+        void fillLocalFromRemote() {
+            remoteCache.put(1L, "product");
+
+            assertThat(cache.get(1L).get()).isEqualTo("product");
+            remoteCache.clear();
+
+            assertThat(cache.get(1L).get()).isEqualTo("product");
+        }
+
+        @Test
+        @DisplayName("캐시에 없으면 한 번만 로딩 후 L1 · L2 에 저장")
+        void loadOnce() {
+            AtomicInteger loadCount = new AtomicInteger();
+
+            cache.get(1L, () -> "product" + loadCount.incrementAndGet());
+            Object result = cache.get(1L, () -> "product" + loadCount.incrementAndGet());
+
+            assertThat(result).isEqualTo("product1");
+            assertThat(loadCount.get()).isEqualTo(1);
+            assertThat(((CacheEnvelope) remoteCache.get(1L).get()).getValue()).isEqualTo("product1");
+        }
+
+        @Test
+        @DisplayName("동시에 캐시가 비어 있으면 한 요청만 로딩하고 나머지는 결과 공유")
+        void singleFlight() throws Exception {
+            AtomicInteger loadCount = new AtomicInteger();
+            CountDownLatch loading = new CountDownLatch(1);
+            ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executorService.submit(() -> cache.get(1L, () -> {
+                    loadCount.incrementAndGet();
+                    loading.await();
+                    return "product";
+                })));
+            }
+            Thread.sleep(200);
+            loading.countDown();
+
+            for (Future<Object> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("product");
+            }
+            executorService.shutdown();
+            assertThat(loadCount.get()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("캐시 무효화 테스트")
+    class Evict {
+
+        @Test
+        @DisplayName("삭제 시 L1 · L2 비우고 다른 노드에 전파")
+        void evict() {
+            cache.put(1L, "product");
+
+            cache.evict(1L);
+
+            assertThat(cache.get(1L)).isNull();
+            verify(publisher).evict("products", "1");
+        }
+
+        @Test
+        @DisplayName("전체 삭제 시 다른 노드에 전체 삭제 전파")
+        void clear() {
+            cache.put(1L, "product");
+
+            cache.clear();
+
+            assertThat(cache.get(1L)).isNull();
+            verify(publisher).clear("products");
+        }
+
+        @Test
+        @DisplayName("staleWhileRevalidate 설정 시 삭제 후 기존 값을 반환하면서 한 요청만 새로 로딩")
+        void staleWhileRevalidate() {
+            TwoLevelCache staleCache = twoLevelCache(CachePolicy.builder()
+                    .ttl(Duration.ofHours(1L))
+                    .staleWhileRevalidate(Duration.ofSeconds(3L))
+                    .build());
+            staleCache.put(1L, "product");
+
+            staleCache.evict(1L);
+
+            assertThat(staleCache.get(1L).get()).isEqualTo("product");
+            assertThat((Object) staleCache.get(1L, () -> "updated")).isEqualTo("updated");
+            assertThat((Object) staleCache.get(1L, () -> "not loaded")).isEqualTo("updated");
+            verify(publisher).evict("products", "1");
+        }
+
+        @Test
+        @DisplayName("다른 노드에서 전파된 삭제는 L1 만 비움")
+        void evictLocal() {
+            cache.put(1L, "product");
+            remoteCache.put(1L, "updated");
+
+            cache.evictLocal("1");
+
+            assertThat(cache.get(1L).get()).isEqualTo("updated");
+        }
+
+        @Test
+        @DisplayName("로딩 도중 삭제되면 로딩한 값을 L1 에 채우지 않음")
+        void evictDuringLoad() {
+            Object loaded = cache.get(1L, () -> {
+                // 로딩 중 다른 요청이 상품을 수정하고 캐시를 삭제
+                remoteCache.put(1L, "updated");
+                cache.evictLocal("1");
+                return "product";
+            });
+            remoteCache.put(1L, "updated");
+
+            assertThat(loaded).isEqualTo("product");
+            assertThat(cache.get(1L).get()).isEqualTo("updated");
+        }
+
+        @Test
+        @DisplayName("다른 키의 삭제는 L1 채우기에 영향 없음")
+        void evictOtherKeyDuringLoad() {
+            cache.get(1L, () -> {
+                cache.evictLocal("2");
+                return "product";
+            });
+            remoteCache.clear();
+
+            assertThat(cache.get(1L).get()).isEqualTo("product");
+        }
+    }
+}
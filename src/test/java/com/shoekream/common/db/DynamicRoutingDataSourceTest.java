@@ -0,0 +1,66 @@
+package com.shoekream.common.db;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static com.shoekream.common.util.constants.DataSourceConstants.MASTER;
+import static com.shoekream.common.util.constants.DataSourceConstants.SLAVE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DynamicRoutingDataSourceTest {
+
+    @Mock
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @InjectMocks
+    private DynamicRoutingDataSource dynamicRoutingDataSource;
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReplicaRoutingContext.clear();
+    }
+
+    @Test
+    @DisplayName("읽기 전용이 아닌 트랜잭션은 master")
+    void readWrite() {
+        assertThat(dynamicRoutingDataSource.determineCurrentLookupKey()).isEqualTo(MASTER);
+
+        verifyNoInteractions(replicaLagMonitor);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 slave")
+    void readOnly() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(replicaLagMonitor.isLagging()).willReturn(false);
+
+        assertThat(dynamicRoutingDataSource.determineCurrentLookupKey()).isEqualTo(SLAVE);
+    }
+
+    @Test
+    @DisplayName("최근 쓰기가 있었던 요청이면 읽기 전용 트랜잭션도 master")
+    void pinnedToMaster() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaRoutingContext.pinToMaster();
+
+        assertThat(dynamicRoutingDataSource.determineCurrentLookupKey()).isEqualTo(MASTER);
+    }
+
+    @Test
+    @DisplayName("slave 복제 지연이 허용치를 넘으면 읽기 전용 트랜잭션도 master")
+    void replicaLagging() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(replicaLagMonitor.isLagging()).willReturn(true);
+
+        assertThat(dynamicRoutingDataSource.determineCurrentLookupKey()).isEqualTo(MASTER);
+    }
+}
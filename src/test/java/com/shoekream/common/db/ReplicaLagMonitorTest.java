@@ -0,0 +1,179 @@
+package com.shoekream.common.db;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static com.shoekream.common.util.constants.DataSourceConstants.REPLICA_HEARTBEAT_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaLagMonitorTest {
+
+    private static final long MAX_LAG_MILLIS = 3000L;
+    private static final long HEARTBEAT_INTERVAL_MILLIS = 1000L;
+
+    @Mock
+    private JdbcTemplate masterJdbcTemplate;
+
+    @Mock
+    private JdbcTemplate slaveJdbcTemplate;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private final TestClock clock = new TestClock();
+
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    private final Instant beatAt = Instant.parse("2023-05-01T12:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        replicaLagMonitor = new ReplicaLagMonitor(masterJdbcTemplate, slaveJdbcTemplate, MAX_LAG_MILLIS, HEARTBEAT_INTERVAL_MILLIS, clock);
+    }
+
+    // slave 의 heartbeat 조회 결과 (beat_at, slave 현재 시각) - 행이 없으면 null
+    private void givenSlaveHeartbeat(Instant beatAt, Instant slaveNow) throws Exception {
+        if (beatAt == null) {
+            given(resultSet.next()).willReturn(false);
+        } else {
+            given(resultSet.next()).willReturn(true);
+            given(resultSet.getTimestamp(1)).willReturn(Timestamp.from(beatAt));
+            given(resultSet.getTimestamp(2)).willReturn(Timestamp.from(slaveNow));
+        }
+        willAnswer(invocation -> ((ResultSetExtractor<?>) invocation.getArgument(1)).extractData(resultSet))
+                .given(slaveJdbcTemplate).query(startsWith("select beat_at"), any(ResultSetExtractor.class), eq(REPLICA_HEARTBEAT_ID));
+    }
+
+    @Nested
+    @DisplayName("복제 지연 측정 테스트")
+    class Measure {
+
+        @Test
+        @DisplayName("slave 현재 시각과 복제된 heartbeat 시각의 차이")
+        void lag() throws Exception {
+            givenSlaveHeartbeat(beatAt, beatAt.plusMillis(1500L));
+
+            assertThat(replicaLagMonitor.measure()).isEqualTo(1500L);
+        }
+
+        @Test
+        @DisplayName("서버 간 시각 오차로 음수가 나오면 지연 없음")
+        void negativeLag() throws Exception {
+            givenSlaveHeartbeat(beatAt, beatAt.minusMillis(20L));
+
+            assertThat(replicaLagMonitor.measure()).isZero();
+        }
+
+        @Test
+        @DisplayName("slave 에 아직 heartbeat 가 복제되지 않았으면 지연으로 간주")
+        void notReplicatedYet() throws Exception {
+            givenSlaveHeartbeat(null, null);
+
+            assertThat(replicaLagMonitor.measure()).isEqualTo(Long.MAX_VALUE);
+        }
+    }
+
+    @Nested
+    @DisplayName("복제 지연 판단 테스트")
+    class IsLagging {
+
+        @Test
+        @DisplayName("측정한 지연이 허용치 이하면 지연 아님")
+        void withinLimit() throws Exception {
+            givenSlaveHeartbeat(beatAt, beatAt.plusMillis(MAX_LAG_MILLIS));
+
+            replicaLagMonitor.heartbeat();
+
+            verify(masterJdbcTemplate).update(startsWith("update replica_heartbeat"), eq(REPLICA_HEARTBEAT_ID));
+            assertThat(replicaLagMonitor.isLagging()).isFalse();
+        }
+
+        @Test
+        @DisplayName("측정한 지연이 허용치를 넘으면 지연")
+        void overLimit() throws Exception {
+            givenSlaveHeartbeat(beatAt, beatAt.plusMillis(MAX_LAG_MILLIS + 1));
+
+            replicaLagMonitor.heartbeat();
+
+            assertThat(replicaLagMonitor.isLagging()).isTrue();
+        }
+
+        @Test
+        @DisplayName("slave 를 조회할 수 없으면 지연")
+        void measureFailed() {
+            given(slaveJdbcTemplate.query(anyString(), any(ResultSetExtractor.class), any()))
+                    .willThrow(new DataAccessResourceFailureException("slave down"));
+
+            replicaLagMonitor.heartbeat();
+
+            assertThat(replicaLagMonitor.getLagMillis()).isEqualTo(Long.MAX_VALUE);
+            assertThat(replicaLagMonitor.isLagging()).isTrue();
+        }
+
+        @Test
+        @DisplayName("마지막 측정 이후 heartbeat 주기의 3배가 지나도록 측정이 없으면 지연")
+        void staleMeasurement() throws Exception {
+            givenSlaveHeartbeat(beatAt, beatAt.plusMillis(100L));
+            replicaLagMonitor.heartbeat();
+
+            clock.advance(Duration.ofMillis(HEARTBEAT_INTERVAL_MILLIS * 3));
+            assertThat(replicaLagMonitor.isLagging()).isFalse();
+
+            clock.advance(Duration.ofMillis(1L));
+            assertThat(replicaLagMonitor.isLagging()).isTrue();
+        }
+
+        @Test
+        @DisplayName("기동 후 한 번도 측정하지 못한 채 시간이 지나면 지연")
+        void neverMeasured() {
+            assertThat(replicaLagMonitor.isLagging()).isFalse();
+
+            clock.advance(Duration.ofMillis(HEARTBEAT_INTERVAL_MILLIS * 3 + 1));
+
+            assertThat(replicaLagMonitor.isLagging()).isTrue();
+        }
+    }
+
+    // 시스템 시각에서 시작해 직접 앞으로 돌리는 시계
+    private static class TestClock extends Clock {
+
+        private Instant now = Instant.now();
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
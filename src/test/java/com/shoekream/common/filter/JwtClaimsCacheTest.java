@@ -0,0 +1,86 @@
+package com.shoekream.common.filter;
+
+import com.shoekream.common.util.JwtClaims;
+import com.shoekream.common.util.JwtUtil;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.SignatureException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtClaimsCacheTest {
+
+    private static final String SECRET_KEY = "test-secret-key";
+
+    private final TestClock clock = new TestClock();
+    private final JwtClaimsCache jwtClaimsCache = new JwtClaimsCache(SECRET_KEY, 100L, clock,
+            () -> TimeUnit.MILLISECONDS.toNanos(clock.millis()));
+
+    @Test
+    @DisplayName("한 번 검증한 토큰은 캐시된 클레임 반환")
+    void verifyCached() {
+        String token = JwtUtil.createToken("test@test.com", "ROLE_USER", SECRET_KEY, 60_000L);
+
+        JwtClaims first = jwtClaimsCache.verify(token);
+        JwtClaims second = jwtClaimsCache.verify(token);
+
+        assertThat(first.getEmail()).isEqualTo("test@test.com");
+        assertThat(first.getRole()).isEqualTo("ROLE_USER");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("서명이 다른 토큰은 예외 발생")
+    void verifyInvalidSignature() {
+        String token = JwtUtil.createToken("test@test.com", "ROLE_USER", "other-secret-key", 60_000L);
+
+        assertThatThrownBy(() -> jwtClaimsCache.verify(token))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 캐시하지 않고 예외 발생")
+    void verifyExpired() {
+        String token = JwtUtil.createToken("test@test.com", "ROLE_USER", SECRET_KEY, 60_000L);
+        jwtClaimsCache.verify(token);
+
+        clock.advance(Duration.ofSeconds(61L));
+
+        assertThatThrownBy(() -> jwtClaimsCache.verify(token))
+                .isInstanceOf(ExpiredJwtException.class);
+    }
+
+    // 시스템 시각에서 시작해 직접 앞으로 돌리는 시계
+    private static class TestClock extends Clock {
+
+        private Instant now = Instant.now();
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
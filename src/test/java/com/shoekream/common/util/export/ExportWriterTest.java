@@ -0,0 +1,53 @@
+package com.shoekream.common.util.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final LocalDateTime time = LocalDateTime.of(2023, 5, 1, 12, 0);
+
+    @Test
+    @DisplayName("CSV - 컬럼명 행 다음에 값 행, 구분자 · 따옴표 포함 값은 따옴표로 감싸고 수식 시작 문자는 이스케이프")
+    void csv() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (ExportWriter writer = ExportWriter.open(ExportFormat.CSV, out, objectMapper, List.of("id", "name", "time"))) {
+            writer.write(1L, "Jordan 1, \"Chicago\"", time);
+            writer.write(2L, "=SUM(A1)", null);
+        }
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("﻿id,name,time\r\n" +
+                "1,\"Jordan 1, \"\"Chicago\"\"\",2023-05-01T12:00\r\n" +
+                "2,'=SUM(A1),\r\n");
+    }
+
+    @Test
+    @DisplayName("NDJSON - 한 줄에 JSON 객체 하나")
+    void ndjson() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (ExportWriter writer = ExportWriter.open(ExportFormat.NDJSON, out, objectMapper, List.of("id", "time"))) {
+            writer.write(1L, time);
+            writer.write(2L, null);
+        }
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("{\"id\":1,\"time\":\"2023-05-01T12:00:00\"}\n" +
+                "{\"id\":2,\"time\":null}");
+    }
+}
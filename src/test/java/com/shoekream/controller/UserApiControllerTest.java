@@ -2,13 +2,17 @@ package com.shoekream.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.shoekream.common.aop.BindingCheck;
+import com.shoekream.common.config.ExportConfig;
 import com.shoekream.common.config.SecurityConfig;
 import com.shoekream.common.exception.ErrorCode;
 import com.shoekream.common.exception.ShoeKreamException;
 import com.shoekream.common.util.JwtUtil;
+import com.shoekream.common.util.export.ExportFormat;
+import com.shoekream.common.util.export.ExportTaskFactory;
 import com.shoekream.domain.address.dto.AddressRequest;
 import com.shoekream.domain.address.dto.AddressResponse;
 import com.shoekream.domain.point.dto.PointChargeRequest;
+import com.shoekream.domain.point.dto.PointHistoryPageResponse;
 import com.shoekream.domain.point.dto.PointHistoryResponse;
 import com.shoekream.domain.point.dto.PointResponse;
 import com.shoekream.domain.point.dto.PointWithdrawalRequest;
@@ -16,6 +20,7 @@ import com.shoekream.domain.user.Account;
 import com.shoekream.domain.user.dto.*;
 import com.shoekream.service.AddressService;
 import com.shoekream.service.EmailCertificationService;
+import com.shoekream.service.HistoryExportService;
 import com.shoekream.service.PointService;
 import com.shoekream.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,25 +36,30 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.shoekream.common.exception.ErrorCode.*;
+import static com.shoekream.common.util.constants.ExportConstants.EXPORT_EXECUTOR_THREAD_PREFIX;
 import static com.shoekream.domain.point.PointDivision.*;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 import static org.mockito.Mockito.doThrow;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(value = UserApiController.class)
 @EnableAspectJAutoProxy
-@Import({SecurityConfig.class, BindingCheck.class})
+@Import({SecurityConfig.class, BindingCheck.class, ExportConfig.class, ExportTaskFactory.class})
 class UserApiControllerTest {
 
     @Autowired
@@ -64,6 +74,8 @@ class UserApiControllerTest {
     private AddressService addressService;
     @MockBean
     private PointService pointService;
+    @MockBean
+    private HistoryExportService historyExportService;
 
     @MockBean
     private EmailCertificationService emailCertificationService;
@@ -903,8 +915,8 @@ class UserApiControllerTest {
         @Test
         @DisplayName("회원 포인트 충전 내역 조회 성공")
         public void GetPointHistorySuccess() throws Exception {
-            given(pointService.getHistoryPointByDivision(email, POINT_CHARGE))
-                    .willReturn(List.of(response));
+            given(pointService.getHistoryPoint(eq(email), eq(POINT_CHARGE), any()))
+                    .willReturn(PointHistoryPageResponse.builder().histories(List.of(response)).build());
 
 
             mockMvc.perform(get("/api/v1/users/points/charge-history")
@@ -913,14 +925,14 @@ class UserApiControllerTest {
                     .andExpect(jsonPath("$.message").exists())
                     .andExpect(jsonPath("$.message").value("SUCCESS"))
                     .andExpect(jsonPath("$.result").exists())
-                    .andExpect(jsonPath("$.result[0].amount").value(point))
-                    .andExpect(jsonPath("$.result[0].time").exists());
+                    .andExpect(jsonPath("$.result.histories[0].amount").value(point))
+                    .andExpect(jsonPath("$.result.histories[0].time").exists());
         }
 
         @Test
         @DisplayName("회원 포인트 조회 실패 (가입된 회원이 아닌 경우) ")
         public void GetPointHistoryError() throws Exception {
-            when(pointService.getHistoryPointByDivision(email, POINT_CHARGE))
+            when(pointService.getHistoryPoint(eq(email), eq(POINT_CHARGE), any()))
                     .thenThrow(new ShoeKreamException(USER_NOT_FOUND));
 
             mockMvc.perform(get("/api/v1/users/points/charge-history")
@@ -932,6 +944,54 @@ class UserApiControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("회원 포인트 내역 내보내기 테스트")
+    class ExportPointHistory {
+        String email = "email";
+
+        String token = JwtUtil.createToken("email", "ROLE_USER", secretKey, 1000L * 60 * 60);
+
+        @Test
+        @DisplayName("회원 포인트 내역 내보내기 성공")
+        public void exportPointHistorySuccess() throws Exception {
+            AtomicReference<String> writerThread = new AtomicReference<>();
+            StreamingResponseBody body = out -> {
+                writerThread.set(Thread.currentThread().getName());
+                out.write("id,division,amount,balance,createdDate\r\n".getBytes());
+            };
+            given(historyExportService.exportPoints(eq(email), isNull(), isNull(), isNull(), eq(ExportFormat.CSV)))
+                    .willReturn(body);
+
+            MvcResult result = mockMvc.perform(get("/api/v1/users/points/export")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"points.csv\""))
+                    .andExpect(content().string("id,division,amount,balance,createdDate\r\n"));
+
+            // 전역 MVC executor 가 아닌 내보내기 전용 executor 에서 작성
+            assertThat(writerThread.get()).startsWith(EXPORT_EXECUTOR_THREAD_PREFIX);
+        }
+
+        @Test
+        @DisplayName("회원 포인트 내역 내보내기 실패 (가입된 회원이 아닌 경우)")
+        public void exportPointHistoryError() throws Exception {
+            when(historyExportService.exportPoints(eq(email), isNull(), isNull(), isNull(), eq(ExportFormat.NDJSON)))
+                    .thenThrow(new ShoeKreamException(USER_NOT_FOUND));
+
+            mockMvc.perform(get("/api/v1/users/points/export")
+                            .param("format", "NDJSON")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                    .andDo(print())
+                    .andExpect(jsonPath("$.message").value("ERROR"))
+                    .andExpect(jsonPath("$.result").exists());
+        }
+    }
+
     @Nested
     @DisplayName("회원 포인트 충전 테스트")
     class ChargePointHistory {
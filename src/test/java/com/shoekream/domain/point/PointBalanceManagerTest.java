@@ -0,0 +1,101 @@
+package com.shoekream.domain.point;
+
+import com.shoekream.common.exception.ShoeKreamException;
+import com.shoekream.domain.user.User;
+import com.shoekream.domain.user.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static com.shoekream.common.exception.ErrorCode.NOT_ALLOWED_WITHDRAWAL_POINT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointBalanceManagerTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PointRepository pointRepository;
+
+    @Mock
+    private PointSnapshotRepository pointSnapshotRepository;
+
+    @InjectMocks
+    private PointBalanceManager pointBalanceManager;
+
+    @Mock
+    private User mockUser;
+
+    @Mock
+    private PointSnapshot mockSnapshot;
+
+    @Nested
+    @DisplayName("포인트 이동 기록 테스트")
+    class Record {
+
+        @Test
+        @DisplayName("차감 구분은 음수로 반영하고 변경 후 잔액과 함께 원장 저장")
+        void recordDeduction() {
+            given(mockUser.getId()).willReturn(1L);
+            given(userRepository.addPoint(1L, -1000L)).willReturn(1);
+            given(userRepository.findPointById(1L)).willReturn(500L);
+
+            Long balance = pointBalanceManager.record(mockUser, PointDivision.PURCHASE_DEDUCTION, 1000L);
+
+            ArgumentCaptor<Point> captor = ArgumentCaptor.forClass(Point.class);
+            verify(pointRepository).save(captor.capture());
+            assertThat(balance).isEqualTo(500L);
+            assertThat(captor.getValue().getAmount()).isEqualTo(1000L);
+            assertThat(captor.getValue().getBalance()).isEqualTo(500L);
+        }
+
+        @Test
+        @DisplayName("잔액이 부족하면 원장을 남기지 않고 예외")
+        void recordInsufficient() {
+            given(mockUser.getId()).willReturn(1L);
+            given(userRepository.addPoint(1L, -1000L)).willReturn(0);
+
+            ShoeKreamException exception = assertThrows(ShoeKreamException.class,
+                    () -> pointBalanceManager.record(mockUser, PointDivision.POINT_WITHDRAW, 1000L));
+
+            assertThat(exception.getErrorCode()).isEqualTo(NOT_ALLOWED_WITHDRAWAL_POINT);
+            verify(pointRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("잔액 조회 테스트")
+    class GetBalance {
+
+        @Test
+        @DisplayName("최신 스냅샷 잔액에 이후 원장 합을 더함")
+        void balanceFromSnapshot() {
+            given(mockSnapshot.getBalance()).willReturn(3000L);
+            given(mockSnapshot.getLastPointId()).willReturn(10L);
+            given(pointSnapshotRepository.findTopByUserIdOrderByLastPointIdDesc(1L)).willReturn(Optional.of(mockSnapshot));
+            given(pointRepository.sumSignedAmountAfter(1L, 10L, PointDivision.debits())).willReturn(-1000L);
+
+            assertThat(pointBalanceManager.getBalance(1L)).isEqualTo(2000L);
+        }
+
+        @Test
+        @DisplayName("스냅샷이 없으면 전체 원장 합")
+        void balanceWithoutSnapshot() {
+            given(pointSnapshotRepository.findTopByUserIdOrderByLastPointIdDesc(1L)).willReturn(Optional.empty());
+            given(pointRepository.sumSignedAmountAfter(1L, 0L, PointDivision.debits())).willReturn(1000L);
+
+            assertThat(pointBalanceManager.getBalance(1L)).isEqualTo(1000L);
+        }
+    }
+}
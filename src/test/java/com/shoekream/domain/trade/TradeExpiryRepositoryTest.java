@@ -0,0 +1,111 @@
+package com.shoekream.domain.trade;
+
+import com.shoekream.domain.point.PointDivision;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TradeExpiryRepositoryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private TradeExpiryRepository tradeExpiryRepository;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.of(2023, 5, 1, 12, 0);
+    }
+
+    private ExpiredTrade expired(Long id, Long buyerId, Long price) {
+        return new ExpiredTrade(id, buyerId, price, now.minusDays(4));
+    }
+
+    @Nested
+    @DisplayName("구매자 포인트 환불 테스트")
+    class Refund {
+
+        @Test
+        @DisplayName("구매자별 환불 합계만큼 포인트를 늘리고, 반환 이력마다 거래 순서대로 변경 후 잔액 저장")
+        @SuppressWarnings("unchecked")
+        void refundBalancePerRow() throws Exception {
+            // 1번 회원 거래 3건 (300, 500, 100), 2번 회원 거래 1건 (200)
+            List<ExpiredTrade> trades = List.of(
+                    expired(10L, 1L, 300L),
+                    expired(11L, 1L, 500L),
+                    expired(12L, 2L, 200L),
+                    expired(13L, 1L, 100L));
+
+            // 환불 후 잔액 - 1번 회원 1000 + 900, 2번 회원 500 + 200
+            given(resultSet.getLong("USER_ID")).willReturn(1L, 2L);
+            given(resultSet.getLong("point")).willReturn(1900L, 700L);
+            willAnswer(invocation -> {
+                RowCallbackHandler handler = invocation.getArgument(1);
+                handler.processRow(resultSet);
+                handler.processRow(resultSet);
+                return null;
+            }).given(jdbcTemplate).query(startsWith("select USER_ID, point from User"), any(RowCallbackHandler.class), eq(1L), eq(2L));
+
+            tradeExpiryRepository.refund(trades, now);
+
+            ArgumentCaptor<Collection<Map.Entry<Long, Long>>> refunds = ArgumentCaptor.forClass(Collection.class);
+            verify(jdbcTemplate).batchUpdate(startsWith("update User set point"), refunds.capture(), eq(2), any(ParameterizedPreparedStatementSetter.class));
+            assertThat(refunds.getValue())
+                    .containsExactly(Map.entry(1L, 900L), Map.entry(2L, 200L));
+
+            ArgumentCaptor<BatchPreparedStatementSetter> histories = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+            verify(jdbcTemplate).batchUpdate(startsWith("insert into Point"), histories.capture());
+            BatchPreparedStatementSetter setter = histories.getValue();
+            assertThat(setter.getBatchSize()).isEqualTo(4);
+
+            long[] expectedBalances = {1300L, 1800L, 700L, 1900L};
+            for (int i = 0; i < trades.size(); i++) {
+                clearInvocations(preparedStatement);
+                setter.setValues(preparedStatement, i);
+
+                verify(preparedStatement).setLong(1, trades.get(i).getBuyerId());
+                verify(preparedStatement).setString(2, PointDivision.PURCHASE_RETURN.name());
+                verify(preparedStatement).setLong(3, trades.get(i).getPrice());
+                verify(preparedStatement).setLong(4, expectedBalances[i]);
+            }
+        }
+
+        @Test
+        @DisplayName("환불할 거래가 없으면 쿼리를 실행하지 않음")
+        void emptyRefund() {
+            tradeExpiryRepository.refund(List.of(), now);
+
+            verifyNoInteractions(jdbcTemplate);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.shoekream.domain.trade;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TradeStatusTest {
+
+    @Test
+    @DisplayName("전이 테이블에 정의된 다음 상태로만 변경 가능")
+    void canTransitTo() {
+        assertThat(TradeStatus.PRE_WAREHOUSING.canTransitTo(TradeStatus.PRE_INSPECTION)).isTrue();
+        assertThat(TradeStatus.PRE_INSPECTION.canTransitTo(TradeStatus.CANCEL)).isTrue();
+        assertThat(TradeStatus.PRE_WAREHOUSING.canTransitTo(TradeStatus.PRE_SHIPMENT)).isFalse();
+    }
+
+    @Test
+    @DisplayName("거래 완료 · 취소 상태에서는 변경 불가")
+    void terminalStatus() {
+        for (TradeStatus next : TradeStatus.values()) {
+            assertThat(TradeStatus.TRADE_COMPLETE.canTransitTo(next)).isFalse();
+            assertThat(TradeStatus.CANCEL.canTransitTo(next)).isFalse();
+        }
+    }
+}
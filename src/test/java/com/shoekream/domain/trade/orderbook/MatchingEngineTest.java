@@ -0,0 +1,92 @@
+package com.shoekream.domain.trade.orderbook;
+
+import com.shoekream.common.exception.ShoeKreamException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.shoekream.common.exception.ErrorCode.MATCHING_ENGINE_BUSY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class MatchingEngineTest {
+
+    private static final long WAIT_TIMEOUT_MILLIS = 500L;
+
+    private MatchingEngine matchingEngine;
+    private CountDownLatch started;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        // 파티션 1개, 대기열 1건
+        matchingEngine = new MatchingEngine(mock(PlatformTransactionManager.class), 1, 1, WAIT_TIMEOUT_MILLIS, 5);
+        started = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        matchingEngine.destroy();
+    }
+
+    // 파티션 스레드를 점유하는 작업 실행
+    private CompletableFuture<String> occupyPartition() throws InterruptedException {
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> matchingEngine.execute(1L, 260.0, () -> {
+            started.countDown();
+            await(release);
+            return "done";
+        }));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        return running;
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 시작하지 못한 작업은 취소하고 거절")
+    void waitTimeout() throws Exception {
+        CompletableFuture<String> running = occupyPartition();
+        AtomicBoolean executed = new AtomicBoolean(false);
+
+        ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class,
+                () -> matchingEngine.execute(1L, 260.0, () -> executed.getAndSet(true)));
+        assertThat(shoeKreamException.getErrorCode()).isEqualTo(MATCHING_ENGINE_BUSY);
+
+        release.countDown();
+        assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo("done");
+        assertThat(matchingEngine.execute(1L, 260.0, () -> "next")).isEqualTo("next");
+        assertThat(executed).isFalse();
+    }
+
+    @Test
+    @DisplayName("파티션 대기열이 가득 차면 대기 없이 바로 거절")
+    void queueFull() throws Exception {
+        occupyPartition();
+        // 대기 시간이 지나 취소된 작업은 파티션 스레드가 꺼낼 때까지 대기열 자리를 차지
+        assertThrows(ShoeKreamException.class, () -> matchingEngine.execute(1L, 260.0, () -> "queued"));
+
+        long startedAt = System.nanoTime();
+        ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class,
+                () -> matchingEngine.execute(1L, 260.0, () -> "rejected"));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(shoeKreamException.getErrorCode()).isEqualTo(MATCHING_ENGINE_BUSY);
+        assertThat(elapsedMillis).isLessThan(WAIT_TIMEOUT_MILLIS);
+    }
+}
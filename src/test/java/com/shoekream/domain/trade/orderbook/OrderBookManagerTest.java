@@ -0,0 +1,252 @@
+package com.shoekream.domain.trade.orderbook;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shoekream.domain.product.Product;
+import com.shoekream.domain.trade.Trade;
+import com.shoekream.domain.trade.TradeRepository;
+import com.shoekream.domain.trade.TradeStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.stream.Stream;
+
+import static com.shoekream.common.util.constants.TradeConstants.ORDER_BOOK_CHANNEL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class OrderBookManagerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private OrderBookManager orderBookManager;
+    private TradeRepository tradeRepository;
+    private OrderBookEventPublisher eventPublisher;
+    private Trade saleBid;
+
+    @BeforeEach
+    void setUp() {
+        tradeRepository = mock(TradeRepository.class);
+        eventPublisher = mock(OrderBookEventPublisher.class);
+        when(eventPublisher.getOrigin()).thenReturn("node-a");
+        orderBookManager = new OrderBookManager(tradeRepository, eventPublisher, objectMapper);
+        saleBid = Trade.builder()
+                .id(1L)
+                .product(Product.builder().id(1L).build())
+                .status(TradeStatus.PRE_OFFER)
+                .price(230000L)
+                .productSize(260.0)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // 트랜잭션 종료 시점 흉내 - 커밋이면 afterCommit 까지, 롤백이면 afterCompletion 만 호출
+    private void completeTransaction(boolean commit) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (commit) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(commit ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    // 다른 노드가 보낸 호가창 변경 메세지 수신
+    private void receive(OrderBookEvent event) throws Exception {
+        orderBookManager.onMessage(new DefaultMessage(ORDER_BOOK_CHANNEL.getBytes(), objectMapper.writeValueAsBytes(event)), null);
+    }
+
+    private OpenBid openBid(Long id, Long price) {
+        return new OpenBid() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getProductId() {
+                return 1L;
+            }
+
+            @Override
+            public Double getProductSize() {
+                return 260.0;
+            }
+
+            @Override
+            public Long getPrice() {
+                return price;
+            }
+        };
+    }
+
+    @Nested
+    @DisplayName("트랜잭션 커밋 이후 호가창 반영")
+    class AfterCommit {
+
+        @Test
+        @DisplayName("커밋 전에는 반영하지 않고 커밋 이후 입찰 등록")
+        void registerAfterCommit() {
+            TransactionSynchronizationManager.initSynchronization();
+
+            orderBookManager.registerSaleBid(saleBid);
+            assertThat(orderBookManager.findOrderBook(1L, 260.0)).isEmpty();
+
+            completeTransaction(true);
+
+            assertThat(orderBookManager.getOrderBook(1L, 260.0).getLowestSalePrice()).hasValue(230000L);
+        }
+
+        @Test
+        @DisplayName("롤백되면 입찰을 등록하지 않음")
+        void rollback() {
+            TransactionSynchronizationManager.initSynchronization();
+
+            orderBookManager.registerSaleBid(saleBid);
+
+            completeTransaction(false);
+
+            assertThat(orderBookManager.findOrderBook(1L, 260.0)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("체결된 입찰은 커밋 이후 호가창에서 제거")
+        void removeAfterCommit() {
+            orderBookManager.getOrderBook(1L, 260.0).addSaleBid(1L, 230000L);
+            TransactionSynchronizationManager.initSynchronization();
+
+            orderBookManager.removeBid(1L, 260.0, 1L);
+            assertThat(orderBookManager.getOrderBook(1L, 260.0).getLowestSalePrice()).hasValue(230000L);
+
+            completeTransaction(true);
+
+            assertThat(orderBookManager.getOrderBook(1L, 260.0).getLowestSalePrice()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("커밋 이후에만 다른 노드로 변경 전파")
+        void publishAfterCommit() {
+            TransactionSynchronizationManager.initSynchronization();
+
+            orderBookManager.registerSaleBid(saleBid);
+            verify(eventPublisher, never()).publish(any());
+
+            completeTransaction(true);
+
+            verify(eventPublisher).publish(argThat(event -> event.getType() == OrderBookEvent.Type.SALE_BID
+                    && event.getTradeId() == 1L && event.getPrice() == 230000L && "node-a".equals(event.getOrigin())));
+        }
+
+        @Test
+        @DisplayName("롤백되면 다른 노드로 전파하지 않음")
+        void rollbackNotPublished() {
+            TransactionSynchronizationManager.initSynchronization();
+
+            orderBookManager.registerSaleBid(saleBid);
+
+            completeTransaction(false);
+
+            verify(eventPublisher, never()).publish(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("다른 노드 변경 반영")
+    class RemoteEvent {
+
+        @Test
+        @DisplayName("다른 노드에서 등록 · 체결된 입찰을 호가창에 반영")
+        void applyRemoteEvents() throws Exception {
+            receive(OrderBookEvent.purchaseBid("node-b", 1L, 260.0, 2L, 210000L));
+            receive(OrderBookEvent.saleBid("node-b", 1L, 260.0, 3L, 230000L));
+            assertThat(orderBookManager.getOrderBook(1L, 260.0).getHighestPurchasePrice()).hasValue(210000L);
+
+            receive(OrderBookEvent.remove("node-b", 1L, 260.0, 2L));
+
+            OrderBook orderBook = orderBookManager.getOrderBook(1L, 260.0);
+            assertThat(orderBook.getHighestPurchasePrice()).isEmpty();
+            assertThat(orderBook.getLowestSalePrice()).hasValue(230000L);
+        }
+
+        @Test
+        @DisplayName("자신이 보낸 메세지는 무시")
+        void ignoreOwnEvent() throws Exception {
+            receive(OrderBookEvent.saleBid("node-a", 1L, 260.0, 3L, 230000L));
+
+            assertThat(orderBookManager.findOrderBook(1L, 260.0)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("호가창 재구성")
+    class Rebuild {
+
+        @Test
+        @DisplayName("trade 테이블 기준으로 새로 만들어 교체 (반영되지 않은 변경 · 남아 있던 입찰 정리)")
+        void rebuildFromTrades() {
+            orderBookManager.getOrderBook(1L, 260.0).addSaleBid(9L, 200000L);
+            when(tradeRepository.findOpenPurchaseBids(TradeStatus.PRE_OFFER)).thenReturn(Stream.of(openBid(2L, 210000L)));
+            when(tradeRepository.findOpenSaleBids(TradeStatus.PRE_OFFER)).thenReturn(Stream.of(openBid(3L, 230000L)));
+
+            orderBookManager.rebuild();
+
+            OrderBook orderBook = orderBookManager.getOrderBook(1L, 260.0);
+            assertThat(orderBook.getHighestPurchasePrice()).hasValue(210000L);
+            assertThat(orderBook.getLowestSalePrice()).hasValue(230000L);
+        }
+
+        @Test
+        @DisplayName("재구성 중 반영된 변경은 교체한 호가창에도 적용")
+        void keepChangesDuringRebuild() {
+            // 구매 입찰 조회 중 다른 노드의 판매 입찰 등록 · 구매 입찰 체결이 들어옴
+            when(tradeRepository.findOpenPurchaseBids(TradeStatus.PRE_OFFER)).thenReturn(Stream.of(openBid(2L, 210000L), openBid(4L, 200000L))
+                    .peek(bid -> {
+                        if (bid.getId() == 4L) {
+                            applyRemote(OrderBookEvent.saleBid("node-b", 1L, 260.0, 5L, 240000L));
+                            applyRemote(OrderBookEvent.remove("node-b", 1L, 260.0, 2L));
+                        }
+                    }));
+            when(tradeRepository.findOpenSaleBids(TradeStatus.PRE_OFFER)).thenReturn(Stream.empty());
+
+            orderBookManager.rebuild();
+
+            OrderBook orderBook = orderBookManager.getOrderBook(1L, 260.0);
+            assertThat(orderBook.getHighestPurchasePrice()).hasValue(200000L);
+            assertThat(orderBook.getLowestSalePrice()).hasValue(240000L);
+        }
+
+        @Test
+        @DisplayName("재구성에 실패하면 기존 호가창 유지")
+        void keepBooksOnFailure() {
+            orderBookManager.getOrderBook(1L, 260.0).addSaleBid(9L, 200000L);
+            when(tradeRepository.findOpenPurchaseBids(TradeStatus.PRE_OFFER)).thenThrow(new IllegalStateException("db down"));
+
+            assertThatThrownBy(() -> orderBookManager.rebuild())
+                    .isInstanceOf(IllegalStateException.class);
+
+            assertThat(orderBookManager.getOrderBook(1L, 260.0).getLowestSalePrice()).hasValue(200000L);
+        }
+
+        private void applyRemote(OrderBookEvent event) {
+            try {
+                receive(event);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.shoekream.domain.trade.orderbook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class OrderBookTest {
+
+    private OrderBook orderBook;
+
+    @BeforeEach
+    void setUp() {
+        orderBook = new OrderBook();
+    }
+
+    @Nested
+    @DisplayName("최고 구매 입찰가 · 최저 판매 입찰가 조회")
+    class BestPrice {
+
+        @Test
+        @DisplayName("입찰이 없으면 빈 값 반환")
+        void emptyBook() {
+            assertThat(orderBook.getHighestPurchasePrice()).isEmpty();
+            assertThat(orderBook.getLowestSalePrice()).isEmpty();
+            assertThat(orderBook.isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("구매 입찰은 최고가, 판매 입찰은 최저가 반환")
+        void bestPrice() {
+            orderBook.addPurchaseBid(1L, 200000L);
+            orderBook.addPurchaseBid(2L, 210000L);
+            orderBook.addSaleBid(3L, 250000L);
+            orderBook.addSaleBid(4L, 230000L);
+
+            assertThat(orderBook.getHighestPurchasePrice()).hasValue(210000L);
+            assertThat(orderBook.getLowestSalePrice()).hasValue(230000L);
+        }
+
+        @Test
+        @DisplayName("같은 입찰이 중복 등록되어도 한 번만 반영")
+        void duplicatedBid() {
+            orderBook.addSaleBid(1L, 230000L);
+            orderBook.addSaleBid(1L, 230000L);
+
+            assertThat(orderBook.remove(1L)).isTrue();
+            assertThat(orderBook.getLowestSalePrice()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("입찰 제거")
+    class Remove {
+
+        @Test
+        @DisplayName("최고가 입찰 제거 시 다음 가격으로 갱신")
+        void removeBestPurchaseBid() {
+            orderBook.addPurchaseBid(1L, 200000L);
+            orderBook.addPurchaseBid(2L, 210000L);
+
+            orderBook.remove(2L);
+
+            assertThat(orderBook.getHighestPurchasePrice()).hasValue(200000L);
+        }
+
+        @Test
+        @DisplayName("같은 가격에 남은 입찰이 있으면 가격 유지")
+        void removeOneOfSamePrice() {
+            orderBook.addSaleBid(1L, 230000L);
+            orderBook.addSaleBid(2L, 230000L);
+
+            orderBook.remove(1L);
+
+            assertThat(orderBook.getLowestSalePrice()).hasValue(230000L);
+        }
+
+        @Test
+        @DisplayName("호가창에 없는 입찰 제거 시 false 반환")
+        void removeUnknownBid() {
+            assertThat(orderBook.remove(99L)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("가격 레벨 조회")
+    class Levels {
+
+        @Test
+        @DisplayName("구매 입찰은 높은 가격 순으로 cursor 다음 레벨부터 조회")
+        void purchaseLevelsAfterCursor() {
+            orderBook.addPurchaseBid(1L, 200000L);
+            orderBook.addPurchaseBid(2L, 210000L);
+            orderBook.addPurchaseBid(3L, 220000L);
+
+            assertThat(orderBook.getPurchaseLevels(220000L, 10))
+                    .extracting(PriceLevel::getPrice)
+                    .containsExactly(210000L, 200000L);
+        }
+
+        @Test
+        @DisplayName("최우선 호가는 같은 가격 중 먼저 등록된 입찰")
+        void bestBidIsOldestAtBestPrice() {
+            orderBook.addSaleBid(1L, 230000L);
+            orderBook.addSaleBid(2L, 220000L);
+            orderBook.addSaleBid(3L, 220000L);
+
+            assertThat(orderBook.getBestSaleBid()).hasValueSatisfying(bid -> {
+                assertThat(bid.getTradeId()).isEqualTo(2L);
+                assertThat(bid.getPrice()).isEqualTo(220000L);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("뎁스 차트")
+    class DepthChart {
+
+        @Test
+        @DisplayName("가격 레벨별 입찰 수와 누적 입찰 수, 전체 입찰 수 반환")
+        void depth() {
+            orderBook.addPurchaseBid(1L, 200000L);
+            orderBook.addPurchaseBid(2L, 200000L);
+            orderBook.addPurchaseBid(3L, 190000L);
+            orderBook.addSaleBid(4L, 210000L);
+            orderBook.remove(2L);
+
+            Depth depth = orderBook.getDepth(10);
+
+            assertThat(depth.getPurchaseLevels())
+                    .extracting(DepthLevel::getPrice, DepthLevel::getQuantity, DepthLevel::getCumulativeQuantity)
+                    .containsExactly(tuple(200000L, 1, 1), tuple(190000L, 1, 2));
+            assertThat(depth.getTotalPurchaseQuantity()).isEqualTo(2);
+            assertThat(depth.getTotalSaleQuantity()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("최대 레벨 수만큼만 반환하고 전체 입찰 수는 모든 레벨 기준")
+        void depthWithMaxLevels() {
+            orderBook.addSaleBid(1L, 210000L);
+            orderBook.addSaleBid(2L, 220000L);
+            orderBook.addSaleBid(3L, 230000L);
+
+            Depth depth = orderBook.getDepth(2);
+
+            assertThat(depth.getSaleLevels()).extracting(DepthLevel::getPrice).containsExactly(210000L, 220000L);
+            assertThat(depth.getTotalSaleQuantity()).isEqualTo(3);
+        }
+    }
+}
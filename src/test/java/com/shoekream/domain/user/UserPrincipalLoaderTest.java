@@ -0,0 +1,89 @@
+package com.shoekream.domain.user;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static com.shoekream.common.util.constants.CacheConstants.USER_PRINCIPALS_CACHE;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserPrincipalLoaderTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @InjectMocks
+    private UserPrincipalLoader userPrincipalLoader;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(cacheManager.getCache(USER_PRINCIPALS_CACHE)).thenReturn(cache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // 트랜잭션 종료 시점 흉내 - 커밋이면 afterCommit 까지, 롤백이면 afterCompletion 만 호출
+    private void completeTransaction(boolean commit) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (commit) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(commit ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("커밋 전에는 캐시를 비우지 않고 커밋 이후 비움")
+    void evictAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        userPrincipalLoader.evictAfterCommit("email");
+        verify(cache, never()).evict(any());
+
+        completeTransaction(true);
+
+        verify(cache).evict("email");
+    }
+
+    @Test
+    @DisplayName("롤백되면 캐시를 비우지 않음")
+    void rollback() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        userPrincipalLoader.evictAfterCommit("email");
+
+        completeTransaction(false);
+
+        verify(cache, never()).evict(any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 바로 캐시를 비움")
+    void evictWithoutTransaction() {
+        userPrincipalLoader.evictAfterCommit("email");
+
+        verify(cache).evict("email");
+    }
+}
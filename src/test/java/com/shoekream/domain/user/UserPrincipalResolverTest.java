@@ -0,0 +1,72 @@
+package com.shoekream.domain.user;
+
+import com.shoekream.common.exception.ShoeKreamException;
+import com.shoekream.domain.user.dto.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static com.shoekream.common.exception.ErrorCode.USER_NOT_FOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserPrincipalResolverTest {
+
+    @Mock
+    private UserPrincipalLoader userPrincipalLoader;
+
+    @InjectMocks
+    private UserPrincipalResolver userPrincipalResolver;
+
+    private final UserPrincipal principal = new UserPrincipal(1L, "email", UserRole.ROLE_USER);
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("같은 요청에서는 한 번만 조회")
+    void resolveOncePerRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        given(userPrincipalLoader.load("email"))
+                .willReturn(principal);
+
+        assertThat(userPrincipalResolver.resolve("email")).isSameAs(principal);
+        assertThat(userPrincipalResolver.resolve("email")).isSameAs(principal);
+
+        verify(userPrincipalLoader, times(1)).load("email");
+    }
+
+    @Test
+    @DisplayName("요청 밖에서는 매번 조회")
+    void resolveWithoutRequest() {
+        given(userPrincipalLoader.load("email"))
+                .willReturn(principal);
+
+        userPrincipalResolver.resolve("email");
+        userPrincipalResolver.resolve("email");
+
+        verify(userPrincipalLoader, times(2)).load("email");
+    }
+
+    @Test
+    @DisplayName("가입된 회원이 아니면 예외 발생")
+    void resolveNotFound() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        given(userPrincipalLoader.load("email"))
+                .willThrow(new ShoeKreamException(USER_NOT_FOUND));
+
+        assertThatThrownBy(() -> userPrincipalResolver.resolve("email"))
+                .isInstanceOf(ShoeKreamException.class);
+    }
+}
@@ -0,0 +1,336 @@
+package com.shoekream.service;
+
+import com.shoekream.common.exception.ShoeKreamException;
+import com.shoekream.domain.address.Address;
+import com.shoekream.domain.address.AddressRepository;
+import com.shoekream.domain.point.PointBalanceManager;
+import com.shoekream.domain.product.Product;
+import com.shoekream.domain.product.ProductRepository;
+import com.shoekream.domain.trade.BidCandidate;
+import com.shoekream.domain.trade.Trade;
+import com.shoekream.domain.trade.TradeRepository;
+import com.shoekream.domain.trade.TradeValidator;
+import com.shoekream.domain.trade.dto.BidCreateRequest;
+import com.shoekream.domain.trade.orderbook.MatchingEngine;
+import com.shoekream.domain.trade.orderbook.OrderBookManager;
+import com.shoekream.domain.user.User;
+import com.shoekream.domain.user.UserPrincipalResolver;
+import com.shoekream.domain.user.UserRepository;
+import com.shoekream.domain.user.UserRole;
+import com.shoekream.domain.user.dto.UserPrincipal;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static com.shoekream.common.exception.ErrorCode.*;
+import static com.shoekream.domain.point.PointDivision.*;
+import static com.shoekream.domain.trade.TradeStatus.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BidServiceTest {
+
+    @Mock
+    private TradeRepository tradeRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AddressRepository addressRepository;
+
+    @Mock
+    private UserPrincipalResolver userPrincipalResolver;
+
+    @Mock
+    private PointBalanceManager pointBalanceManager;
+
+    @Spy
+    private TradeValidator validator;
+
+    @Mock
+    private OrderBookManager orderBookManager;
+
+    @Mock
+    private MatchingEngine matchingEngine;
+
+    @InjectMocks
+    private BidService bidService;
+
+    @Mock
+    private User user;
+
+    String email;
+    Product product;
+    Address address;
+    Double productSize;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        email = "email";
+        lenient().when(user.getId()).thenReturn(1L);
+        product = Product.builder().id(1L).minSize(220.0).maxSize(300.0).build();
+        address = Address.builder().id(1L).build();
+        productSize = 260.0;
+
+        // 요청 회원은 가입된 회원, 체결 엔진은 호출 스레드에서 바로 작업 실행
+        given(userPrincipalResolver.resolve(email))
+                .willReturn(new UserPrincipal(1L, email, UserRole.ROLE_USER));
+        given(userRepository.getReferenceById(1L))
+                .willReturn(user);
+        given(matchingEngine.execute(anyLong(), anyDouble(), any()))
+                .willAnswer(invocation -> ((Supplier<Object>) invocation.getArgument(2)).get());
+        given(productRepository.findById(1L))
+                .willReturn(Optional.of(product));
+    }
+
+    // 요청 주소는 회원 본인의 주소
+    private void givenOwnAddress() {
+        given(addressRepository.findByIdAndUserId(1L, 1L))
+                .willReturn(Optional.of(address));
+    }
+
+    // 체결 대상 입찰 (입찰 id, 입찰 등록 회원 id)
+    private BidCandidate bid(Long id, Long userId) {
+        return new BidCandidate() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+        };
+    }
+
+    private BidCreateRequest bidRequest(Long price) {
+        return BidCreateRequest.builder()
+                .price(price)
+                .productSize(productSize)
+                .productId(1L)
+                .addressId(1L)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("판매 입찰 체결 테스트")
+    class SaleBidMatching {
+
+        @BeforeEach
+        void setUp() {
+            givenOwnAddress();
+        }
+
+        @Test
+        @DisplayName("다른 회원 구매 입찰 최고가 이하 가격이면 해당 구매 입찰과 체결")
+        void matchHighestPurchaseBid() {
+            given(tradeRepository.findHighestPurchaseBidPrice(1L, productSize, PRE_OFFER))
+                    .willReturn(Optional.of(210000L));
+            given(tradeRepository.findPurchaseBidsByPrice(1L, productSize, PRE_OFFER, 210000L, 0L, PageRequest.of(0, 1)))
+                    .willReturn(List.of(bid(10L, 2L)));
+            given(tradeRepository.claimPurchaseBid(10L, user, address))
+                    .willReturn(1);
+
+            assertDoesNotThrow(() -> bidService.createSaleBid(email, bidRequest(200000L)));
+
+            verify(orderBookManager).removeBid(1L, productSize, 10L);
+            verify(tradeRepository, never()).save(any());
+            verify(orderBookManager, never()).registerSaleBid(any());
+        }
+
+        @Test
+        @DisplayName("먼저 체결된 입찰이면 이미 시도한 입찰 이후의 다음 입찰로 재시도")
+        void retryWithNextCandidate() {
+            given(tradeRepository.findHighestPurchaseBidPrice(1L, productSize, PRE_OFFER))
+                    .willReturn(Optional.of(210000L));
+            given(tradeRepository.findPurchaseBidsByPrice(1L, productSize, PRE_OFFER, 210000L, 0L, PageRequest.of(0, 1)))
+                    .willReturn(List.of(bid(10L, 2L)));
+            given(tradeRepository.claimPurchaseBid(10L, user, address))
+                    .willReturn(0);
+            given(tradeRepository.findPurchaseBidsByPrice(1L, productSize, PRE_OFFER, 210000L, 10L, PageRequest.of(0, 1)))
+                    .willReturn(List.of(bid(11L, 2L)));
+            given(tradeRepository.claimPurchaseBid(11L, user, address))
+                    .willReturn(1);
+
+            assertDoesNotThrow(() -> bidService.createSaleBid(email, bidRequest(200000L)));
+
+            verify(orderBookManager).removeBid(1L, productSize, 11L);
+            verify(orderBookManager, never()).removeBid(1L, productSize, 10L);
+        }
+
+        @Test
+        @DisplayName("재시도 횟수 안에 체결하지 못하면 실패")
+        void matchingConflict() {
+            given(tradeRepository.findHighestPurchaseBidPrice(1L, productSize, PRE_OFFER))
+                    .willReturn(Optional.of(210000L));
+            given(tradeRepository.findPurchaseBidsByPrice(eq(1L), eq(productSize), eq(PRE_OFFER), eq(210000L), anyLong(), any()))
+                    .willAnswer(invocation -> List.of(bid((Long) invocation.getArgument(4) + 1, 2L)));
+            given(tradeRepository.claimPurchaseBid(anyLong(), eq(user), eq(address)))
+                    .willReturn(0);
+
+            ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class, () -> bidService.createSaleBid(email, bidRequest(200000L)));
+            assertThat(shoeKreamException.getErrorCode()).isEqualTo(BID_MATCHING_CONFLICT);
+
+            verify(tradeRepository).claimPurchaseBid(1L, user, address);
+            verify(tradeRepository).claimPurchaseBid(2L, user, address);
+            verify(tradeRepository).claimPurchaseBid(3L, user, address);
+            verify(orderBookManager, never()).removeBid(anyLong(), anyDouble(), anyLong());
+        }
+
+        @Test
+        @DisplayName("구매 입찰 최고가보다 높은 가격이면 판매 입찰로 등록 (커밋 이후 호가창 반영)")
+        void registerSaleBid() {
+            given(tradeRepository.findHighestPurchaseBidPrice(1L, productSize, PRE_OFFER))
+                    .willReturn(Optional.of(190000L));
+
+            assertDoesNotThrow(() -> bidService.createSaleBid(email, bidRequest(200000L)));
+
+            verify(tradeRepository).save(any(Trade.class));
+            verify(orderBookManager).registerSaleBid(any(Trade.class));
+            verify(tradeRepository, never()).claimPurchaseBid(anyLong(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("구매 입찰 체결 테스트")
+    class PurchaseBidMatching {
+
+        @BeforeEach
+        void setUp() {
+            givenOwnAddress();
+        }
+
+        @Test
+        @DisplayName("다른 회원 판매 입찰 최저가 이상 가격이면 판매 입찰가로 포인트 차감 후 체결")
+        void matchLowestSaleBid() {
+            given(tradeRepository.findLowestSaleBidPrice(1L, productSize, PRE_OFFER))
+                    .willReturn(Optional.of(230000L));
+            given(tradeRepository.findSaleBidsByPrice(1L, productSize, PRE_OFFER, 230000L, 0L, PageRequest.of(0, 1)))
+                    .willReturn(List.of(bid(20L, 2L)));
+            given(tradeRepository.claimSaleBid(20L, user, address))
+                    .willReturn(1);
+
+            assertDoesNotThrow(() -> bidService.createPurchaseBid(email, bidRequest(250000L)));
+
+            verify(pointBalanceManager).record(user, PURCHASE_DEDUCTION, 230000L);
+            verify(orderBookManager).removeBid(1L, productSize, 20L);
+            verify(tradeRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("판매 입찰 최저가보다 낮은 가격이면 입찰가로 포인트 차감 후 구매 입찰로 등록")
+        void registerPurchaseBid() {
+            given(tradeRepository.findLowestSaleBidPrice(1L, productSize, PRE_OFFER))
+                    .willReturn(Optional.empty());
+
+            assertDoesNotThrow(() -> bidService.createPurchaseBid(email, bidRequest(250000L)));
+
+            verify(pointBalanceManager).record(user, PURCHASE_DEDUCTION, 250000L);
+            verify(tradeRepository).save(any(Trade.class));
+            verify(orderBookManager).registerPurchaseBid(any(Trade.class));
+            verify(tradeRepository, never()).findSaleBidsByPrice(any(), any(), any(), any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("본인 입찰 체결 방지 테스트")
+    class SelfTrade {
+
+        @BeforeEach
+        void setUp() {
+            givenOwnAddress();
+        }
+
+        @Test
+        @DisplayName("체결 순서상 최고가 구매 입찰이 본인 입찰이면 판매 입찰 거절 (교차된 호가로 등록하지 않음)")
+        void saleBidCrossingOwnPurchaseBid() {
+            given(tradeRepository.findHighestPurchaseBidPrice(1L, productSize, PRE_OFFER))
+                    .willReturn(Optional.of(210000L));
+            given(tradeRepository.findPurchaseBidsByPrice(1L, productSize, PRE_OFFER, 210000L, 0L, PageRequest.of(0, 1)))
+                    .willReturn(List.of(bid(10L, 1L)));
+
+            ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class, () -> bidService.createSaleBid(email, bidRequest(200000L)));
+            assertThat(shoeKreamException.getErrorCode()).isEqualTo(SELF_TRADE_NOT_ALLOWED);
+
+            verify(tradeRepository, never()).claimPurchaseBid(anyLong(), any(), any());
+            verify(tradeRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("먼저 등록된 다른 회원 입찰이 체결되어 다음 순서가 본인 판매 입찰이면 구매 입찰 거절")
+        void purchaseBidCrossingOwnSaleBidOnRetry() {
+            given(tradeRepository.findLowestSaleBidPrice(1L, productSize, PRE_OFFER))
+                    .willReturn(Optional.of(230000L));
+            given(tradeRepository.findSaleBidsByPrice(1L, productSize, PRE_OFFER, 230000L, 0L, PageRequest.of(0, 1)))
+                    .willReturn(List.of(bid(20L, 2L)));
+            given(tradeRepository.claimSaleBid(20L, user, address))
+                    .willReturn(0);
+            given(tradeRepository.findSaleBidsByPrice(1L, productSize, PRE_OFFER, 230000L, 20L, PageRequest.of(0, 1)))
+                    .willReturn(List.of(bid(21L, 1L)));
+
+            ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class, () -> bidService.createPurchaseBid(email, bidRequest(250000L)));
+            assertThat(shoeKreamException.getErrorCode()).isEqualTo(SELF_TRADE_NOT_ALLOWED);
+
+            verify(tradeRepository, never()).claimSaleBid(eq(21L), any(), any());
+            verify(tradeRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("다른 회원 주소 사용 방지 테스트")
+    class OtherUserAddress {
+
+        // 2번 주소는 다른 회원의 주소 - 요청 회원의 주소록에서 조회되지 않음
+        @BeforeEach
+        void setUp() {
+            given(addressRepository.findByIdAndUserId(2L, 1L))
+                    .willReturn(Optional.empty());
+        }
+
+        private BidCreateRequest otherUserAddressBidRequest() {
+            return BidCreateRequest.builder()
+                    .price(200000L)
+                    .productSize(productSize)
+                    .productId(1L)
+                    .addressId(2L)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("다른 회원의 주소로 판매 입찰할 수 없음")
+        void saleBid() {
+            ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class, () -> bidService.createSaleBid(email, otherUserAddressBidRequest()));
+            assertThat(shoeKreamException.getErrorCode()).isEqualTo(ADDRESS_NOT_FOUND);
+
+            verify(tradeRepository, never()).claimPurchaseBid(anyLong(), any(), any());
+            verify(tradeRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("다른 회원의 주소로 구매 입찰할 수 없음")
+        void purchaseBid() {
+            ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class, () -> bidService.createPurchaseBid(email, otherUserAddressBidRequest()));
+            assertThat(shoeKreamException.getErrorCode()).isEqualTo(ADDRESS_NOT_FOUND);
+
+            verify(tradeRepository, never()).claimSaleBid(anyLong(), any(), any());
+            verify(tradeRepository, never()).save(any());
+            verify(pointBalanceManager, never()).record(any(), any(), anyLong());
+        }
+    }
+}
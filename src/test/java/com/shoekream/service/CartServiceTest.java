@@ -5,10 +5,11 @@ import com.shoekream.domain.brand.Brand;
 import com.shoekream.domain.cart.Cart;
 import com.shoekream.domain.cart.CartProduct;
 import com.shoekream.domain.cart.CartProductRepository;
+import com.shoekream.domain.cart.CartRepository;
 import com.shoekream.domain.cart.dto.CartProductRequest;
 import com.shoekream.domain.product.Product;
 import com.shoekream.domain.product.ProductRepository;
-import com.shoekream.domain.user.User;
+import com.shoekream.domain.user.UserCartView;
 import com.shoekream.domain.user.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,6 +20,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -39,11 +41,14 @@ class CartServiceTest {
     @Mock
     private CartProductRepository cartProductRepository;
 
+    @Mock
+    private CartRepository cartRepository;
+
     @InjectMocks
     private CartService cartService;
 
     @Mock
-    private User mockUser;
+    private UserCartView mockUser;
     @Mock
     private Product mockProduct;
     @Mock
@@ -65,6 +70,9 @@ class CartServiceTest {
         productId = 1L;
         cartProductId = 1L;
         cartProductRequest = new CartProductRequest(productId);
+
+        lenient().when(mockUser.getCartId()).thenReturn(1L);
+        lenient().when(mockProduct.getId()).thenReturn(productId);
     }
 
 
@@ -75,25 +83,25 @@ class CartServiceTest {
         @Test
         @DisplayName("장바구니 리스트 조회 성공")
         void success(){
-            given(userRepository.findByEmail(email))
+            given(userRepository.findCartViewByEmail(email))
                     .willReturn(Optional.of(mockUser));
 
             assertDoesNotThrow(() -> cartService.getWishList(email));
 
-            verify(userRepository, atLeastOnce()).findByEmail(email);
+            verify(userRepository, atLeastOnce()).findCartViewByEmail(email);
         }
 
         @Test
         @DisplayName("장바구니 리스트 조회 실패 (가입된 회원이 아닌 경우)")
         void error(){
-            when(userRepository.findByEmail(email))
+            when(userRepository.findCartViewByEmail(email))
                     .thenReturn(Optional.empty());
 
             ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class, () -> cartService.getWishList(email));
 
             assertThat(shoeKreamException.getErrorCode()).isEqualTo(USER_NOT_FOUND);
 
-            verify(userRepository, atLeastOnce()).findByEmail(email);
+            verify(userRepository, atLeastOnce()).findCartViewByEmail(email);
         }
     }
 
@@ -104,18 +112,18 @@ class CartServiceTest {
         @Test
         @DisplayName("장바구니 상품 등록 성공")
         void success(){
-            given(userRepository.findByEmail(email))
+            given(userRepository.findCartViewByEmail(email))
                     .willReturn(Optional.of(mockUser));
             given(productRepository.findById(productId))
                     .willReturn(Optional.of(mockProduct));
-            given(mockUser.getCart())
+            given(cartRepository.getReferenceById(1L))
                     .willReturn(mockCart);
             given(cartProductRepository.save(any(CartProduct.class)))
                     .willReturn(mockCartProduct);
 
             assertDoesNotThrow(() -> cartService.addWishProduct(email, cartProductRequest));
 
-            verify(userRepository, atLeastOnce()).findByEmail(email);
+            verify(userRepository, atLeastOnce()).findCartViewByEmail(email);
             verify(productRepository, atLeastOnce()).findById(productId);
             verify(cartProductRepository, atLeastOnce()).save(any(CartProduct.class));
         }
@@ -123,20 +131,20 @@ class CartServiceTest {
         @Test
         @DisplayName("장바구니 등록 실패 (가입된 회원이 아닌 경우)")
         void error(){
-            when(userRepository.findByEmail(email))
+            when(userRepository.findCartViewByEmail(email))
                     .thenReturn(Optional.empty());
 
             ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class, () -> cartService.addWishProduct(email, cartProductRequest));
 
             assertThat(shoeKreamException.getErrorCode()).isEqualTo(USER_NOT_FOUND);
 
-            verify(userRepository, atLeastOnce()).findByEmail(email);
+            verify(userRepository, atLeastOnce()).findCartViewByEmail(email);
         }
 
         @Test
         @DisplayName("장바구니 등록 실패 (상품이 존재하지 않는 경우)")
         void error2(){
-            given(userRepository.findByEmail(email))
+            given(userRepository.findCartViewByEmail(email))
                     .willReturn(Optional.of(mockUser));
 
             when(productRepository.findById(productId))
@@ -146,28 +154,25 @@ class CartServiceTest {
 
             assertThat(shoeKreamException.getErrorCode()).isEqualTo(PRODUCT_NOT_FOUND);
 
-            verify(userRepository, atLeastOnce()).findByEmail(email);
+            verify(userRepository, atLeastOnce()).findCartViewByEmail(email);
             verify(productRepository, atLeastOnce()).findById(productId);
         }
 
         @Test
         @DisplayName("장바구니 등록 실패 (이미 장바구니에 존재하는 상품을 등록하는 경우)")
         void error3(){
-            given(userRepository.findByEmail(email))
+            given(userRepository.findCartViewByEmail(email))
                     .willReturn(Optional.of(mockUser));
             given(productRepository.findById(productId))
                     .willReturn(Optional.of(mockProduct));
-            given(mockUser.getCart())
-                    .willReturn(mockCart);
-
-            doThrow(new ShoeKreamException(DUPLICATED_WISH_PRODUCT))
-                    .when(mockUser).checkWishProductDuplicate(any(Product.class));
+            given(cartProductRepository.existsByCartIdAndProductId(1L, productId))
+                    .willReturn(true);
 
             ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class, () -> cartService.addWishProduct(email, cartProductRequest));
 
             assertThat(shoeKreamException.getErrorCode()).isEqualTo(DUPLICATED_WISH_PRODUCT);
 
-            verify(userRepository, atLeastOnce()).findByEmail(email);
+            verify(userRepository, atLeastOnce()).findCartViewByEmail(email);
             verify(productRepository, atLeastOnce()).findById(productId);
         }
     }
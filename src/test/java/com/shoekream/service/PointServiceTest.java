@@ -2,18 +2,30 @@ package com.shoekream.service;
 
 import com.shoekream.common.exception.ShoeKreamException;
 import com.shoekream.domain.point.Point;
+import com.shoekream.domain.point.PointBalanceManager;
 import com.shoekream.domain.point.PointRepository;
+import com.shoekream.domain.point.dto.PointAuditResponse;
 import com.shoekream.domain.point.dto.PointChargeRequest;
+import com.shoekream.domain.point.dto.PointHistoryPageResponse;
+import com.shoekream.domain.point.dto.PointHistoryRequest;
+import com.shoekream.domain.point.dto.PointResponse;
 import com.shoekream.domain.point.dto.PointWithdrawalRequest;
 import com.shoekream.domain.user.User;
+import com.shoekream.domain.user.UserPointView;
+import com.shoekream.domain.user.UserPrincipalResolver;
 import com.shoekream.domain.user.UserRepository;
+import com.shoekream.domain.user.UserRole;
+import com.shoekream.domain.user.dto.UserPrincipal;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,9 +41,15 @@ class PointServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserPrincipalResolver userPrincipalResolver;
+
     @Mock
     private PointRepository pointRepository;
 
+    @Mock
+    private PointBalanceManager pointBalanceManager;
+
     @Mock
     private BCryptPasswordEncoder encoder;
 
@@ -44,7 +62,11 @@ class PointServiceTest {
     @Mock
     private Point mockPoint;
 
+    @Mock
+    private UserPointView mockPointView;
+
     String email;
+    UserPrincipal principal;
     Long amount;
     String password;
     PointChargeRequest pointChargeRequest;
@@ -52,6 +74,7 @@ class PointServiceTest {
     @BeforeEach
     void setUp(){
         email = "email";
+        principal = new UserPrincipal(1L, email, UserRole.ROLE_USER);
         amount = 1000L;
         password = "password";
 
@@ -71,50 +94,127 @@ class PointServiceTest {
         @Test
         @DisplayName("회원 포인트 조회 성공 테스트")
         public void getUserPointSuccess() {
-            given(userRepository.findByEmail(email))
-                    .willReturn(Optional.of(mockUser));
+            given(userPrincipalResolver.resolve(email))
+                    .willReturn(principal);
 
-            assertDoesNotThrow(() -> pointService.getUserPoint(email));
+            given(pointBalanceManager.getBalance(1L))
+                    .willReturn(amount);
 
-            verify(userRepository, atLeastOnce()).findByEmail(email);
+            assertThat(pointService.getUserPoint(email)).isEqualTo(amount);
+
+            verify(userRepository, never()).findPointById(1L);
+            verify(userRepository, never()).findByEmail(email);
         }
 
         @Test
         @DisplayName("회원 포인트 조회 실패 테스트 (가입된 회원이 아닌 경우)")
         public void getUserPointError() {
-            when(userRepository.findByEmail(email))
+            when(userPrincipalResolver.resolve(email))
                     .thenThrow(new ShoeKreamException(USER_NOT_FOUND));
 
             ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class, () -> pointService.getUserPoint(email));
             assertThat(shoeKreamException.getErrorCode()).isEqualTo(USER_NOT_FOUND);
 
-            verify(userRepository, atLeastOnce()).findByEmail(email);
+            verify(userPrincipalResolver, atLeastOnce()).resolve(email);
         }
 
         @Test
         @DisplayName("회원 분류별 포인트 리스트 조회 성공 테스트")
         public void getUserPointHistorySuccess() {
-            given(userRepository.findByEmail(email))
-                    .willReturn(Optional.of(mockUser));
-            given(pointRepository.findAllByUserAndDivisionOrderByCreatedDateDesc(mockUser, POINT_CHARGE))
+            given(userPrincipalResolver.resolve(email))
+                    .willReturn(principal);
+            given(userRepository.getReferenceById(1L))
+                    .willReturn(mockUser);
+            given(pointRepository.findHistoryByDivision(eq(mockUser), eq(POINT_CHARGE), any(), any(), any(), any()))
                     .willReturn(List.of(mockPoint));
 
-            assertDoesNotThrow(() -> pointService.getHistoryPointByDivision(email, POINT_CHARGE));
+            assertDoesNotThrow(() -> pointService.getHistoryPoint(email, POINT_CHARGE, new PointHistoryRequest()));
 
-            verify(userRepository, atLeastOnce()).findByEmail(email);
-            verify(pointRepository, atLeastOnce()).findAllByUserAndDivisionOrderByCreatedDateDesc(mockUser, POINT_CHARGE);
+            verify(userPrincipalResolver, atLeastOnce()).resolve(email);
+            verify(pointRepository, atLeastOnce()).findHistoryByDivision(eq(mockUser), eq(POINT_CHARGE), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("회원 포인트 리스트 페이지 조회 - 한 페이지가 가득 차면 마지막 내역을 다음 커서로 반환")
+        public void getUserPointHistoryPage() {
+            LocalDateTime createdDate = LocalDateTime.of(2023, 5, 1, 12, 0);
+            PointHistoryRequest request = PointHistoryRequest.builder()
+                    .from(LocalDate.of(2023, 5, 1))
+                    .to(LocalDate.of(2023, 5, 31))
+                    .size(1)
+                    .build();
+
+            given(userPrincipalResolver.resolve(email))
+                    .willReturn(principal);
+            given(userRepository.getReferenceById(1L))
+                    .willReturn(mockUser);
+            given(mockPoint.getId())
+                    .willReturn(12L);
+            given(mockPoint.getCreatedDate())
+                    .willReturn(createdDate);
+            given(pointRepository.findHistory(mockUser, LocalDateTime.of(2023, 5, 1, 0, 0), LocalDateTime.of(2023, 6, 1, 0, 0), 0L, PageRequest.of(0, 1)))
+                    .willReturn(List.of(mockPoint));
+
+            PointHistoryPageResponse response = pointService.getHistoryPoint(email, null, request);
+
+            assertThat(response.getHistories()).hasSize(1);
+            assertThat(response.getNextCursorDate()).isEqualTo(createdDate);
+            assertThat(response.getNextCursorId()).isEqualTo(12L);
         }
 
         @Test
         @DisplayName("회원 분류별 포인트 리스트 조회 실패 테스트 (가입된 회원이 아닌 경우)")
         public void getUserPointHistoryError() {
-            when(userRepository.findByEmail(email))
+            when(userPrincipalResolver.resolve(email))
                     .thenThrow(new ShoeKreamException(USER_NOT_FOUND));
 
-            ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class, () -> pointService.getHistoryPointByDivision(email, POINT_CHARGE));
+            ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class, () -> pointService.getHistoryPoint(email, POINT_CHARGE, new PointHistoryRequest()));
             assertThat(shoeKreamException.getErrorCode()).isEqualTo(USER_NOT_FOUND);
 
-            verify(userRepository, atLeastOnce()).findByEmail(email);
+            verify(userPrincipalResolver, atLeastOnce()).resolve(email);
+        }
+    }
+
+    @Nested
+    @DisplayName("포인트 잔액 검증 테스트")
+    class AuditPoint {
+
+        @Test
+        @DisplayName("보유 포인트와 원장 잔액이 일치하는 경우")
+        public void auditPointConsistent() {
+            given(userRepository.findPointViewById(1L))
+                    .willReturn(Optional.of(mockPointView));
+            given(mockPointView.getPoint())
+                    .willReturn(amount);
+            given(pointBalanceManager.getBalance(1L))
+                    .willReturn(amount);
+            given(mockPoint.getBalance())
+                    .willReturn(amount);
+            given(pointRepository.findTopByUserIdOrderByIdDesc(1L))
+                    .willReturn(Optional.of(mockPoint));
+
+            PointAuditResponse response = pointService.auditPoint(1L);
+
+            assertThat(response.isConsistent()).isTrue();
+            assertThat(response.getLedgerBalance()).isEqualTo(amount);
+        }
+
+        @Test
+        @DisplayName("보유 포인트와 원장 잔액이 다른 경우")
+        public void auditPointInconsistent() {
+            given(userRepository.findPointViewById(1L))
+                    .willReturn(Optional.of(mockPointView));
+            given(mockPointView.getPoint())
+                    .willReturn(amount);
+            given(pointBalanceManager.getBalance(1L))
+                    .willReturn(amount - 100L);
+            given(pointRepository.findTopByUserIdOrderByIdDesc(1L))
+                    .willReturn(Optional.empty());
+
+            PointAuditResponse response = pointService.auditPoint(1L);
+
+            assertThat(response.isConsistent()).isFalse();
+            assertThat(response.getUserPoint()).isEqualTo(amount);
         }
     }
 
@@ -126,24 +226,31 @@ class PointServiceTest {
         @Test
         @DisplayName("포인트 충전 성공 테스트")
         public void chargePointSuccess() {
-            given(userRepository.findByEmail(email))
-                    .willReturn(Optional.of(mockUser));
+            given(userPrincipalResolver.resolve(email))
+                    .willReturn(principal);
+            given(userRepository.getReferenceById(1L))
+                    .willReturn(mockUser);
 
-            assertDoesNotThrow(() -> pointService.chargePoint(email, pointChargeRequest));
+            given(pointBalanceManager.record(mockUser, POINT_CHARGE, amount))
+                    .willReturn(amount);
 
-            verify(userRepository, atLeastOnce()).findByEmail(email);
+            PointResponse response = pointService.chargePoint(email, pointChargeRequest);
+            assertThat(response.getRemainingPoint()).isEqualTo(amount);
+
+            verify(userRepository, never()).findByEmail(email);
+            verify(pointBalanceManager, atLeastOnce()).record(mockUser, POINT_CHARGE, amount);
         }
 
         @Test
         @DisplayName("포인트 충전 실패 테스트 (가입된 회원이 아닌 경우)")
         public void chargePointError() {
-            when(userRepository.findByEmail(email))
+            when(userPrincipalResolver.resolve(email))
                     .thenThrow(new ShoeKreamException(USER_NOT_FOUND));
 
             ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class, () -> pointService.chargePoint(email, pointChargeRequest));
             assertThat(shoeKreamException.getErrorCode()).isEqualTo(USER_NOT_FOUND);
 
-            verify(userRepository, atLeastOnce()).findByEmail(email);
+            verify(userPrincipalResolver, atLeastOnce()).resolve(email);
         }
     }
 
@@ -196,6 +303,18 @@ class PointServiceTest {
             verify(mockUser, atLeastOnce()).checkPassword(encoder, pointWithdrawalRequest.getPassword());
 
         }
+
+        @Test
+        @DisplayName("포인트 출금 실패 테스트 (잔액이 부족한 경우)")
+        public void withdrawalPointError() {
+            given(userRepository.findByEmail(email))
+                    .willReturn(Optional.of(mockUser));
+            given(pointBalanceManager.record(mockUser, POINT_WITHDRAW, amount))
+                    .willThrow(new ShoeKreamException(NOT_ALLOWED_WITHDRAWAL_POINT));
+
+            ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class, () -> pointService.withdrawalPoint(email, pointWithdrawalRequest));
+            assertThat(shoeKreamException.getErrorCode()).isEqualTo(NOT_ALLOWED_WITHDRAWAL_POINT);
+        }
     }
 
 }
\ No newline at end of file
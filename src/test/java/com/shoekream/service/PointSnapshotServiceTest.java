@@ -0,0 +1,173 @@
+package com.shoekream.service;
+
+import com.shoekream.domain.point.PointDivision;
+import com.shoekream.domain.point.PointRepository;
+import com.shoekream.domain.point.PointSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointSnapshotServiceTest {
+
+    private static final long COMMIT_LAG_SECONDS = 60L;
+    private static final int CHUNK_SIZE = 100;
+    private static final int MAX_CHUNKS_PER_RUN = 3;
+
+    @Mock
+    private PointRepository pointRepository;
+
+    @Mock
+    private PointSnapshotRepository pointSnapshotRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PointSnapshotService pointSnapshotService;
+
+    private final List<String> debits = PointDivision.debits().stream()
+            .map(PointDivision::name)
+            .toList();
+
+    @BeforeEach
+    void setUp() {
+        pointSnapshotService = new PointSnapshotService(pointRepository, pointSnapshotRepository, transactionManager,
+                COMMIT_LAG_SECONDS, CHUNK_SIZE, MAX_CHUNKS_PER_RUN);
+    }
+
+    @Nested
+    @DisplayName("원장 합산 스냅샷 테스트")
+    class FoldTail {
+
+        @BeforeEach
+        void setUp() {
+            given(pointSnapshotRepository.insertOpeningSnapshots(anyLong(), eq(debits), any(), eq(CHUNK_SIZE)))
+                    .willReturn(0);
+        }
+
+        @Test
+        @DisplayName("마지막 스냅샷 이후 원장을 chunk 단위로 합산해 새 스냅샷 저장 (커밋 지연 시간 이전 원장까지만)")
+        void foldTailIntoSnapshots() {
+            given(pointSnapshotRepository.findLastSnapshotPointId())
+                    .willReturn(100L);
+            given(pointRepository.findLastPointIdBefore(eq(100L), any()))
+                    .willReturn(250L);
+            given(pointSnapshotRepository.insertSnapshots(anyLong(), anyLong(), eq(debits), any()))
+                    .willReturn(2);
+
+            pointSnapshotService.takeSnapshots();
+
+            ArgumentCaptor<LocalDateTime> before = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(pointRepository).findLastPointIdBefore(eq(100L), before.capture());
+            assertThat(before.getValue()).isCloseTo(LocalDateTime.now().minusSeconds(COMMIT_LAG_SECONDS), within(5, ChronoUnit.SECONDS));
+
+            verify(pointSnapshotRepository).insertSnapshots(eq(100L), eq(200L), eq(debits), any());
+            verify(pointSnapshotRepository).insertSnapshots(eq(200L), eq(250L), eq(debits), any());
+            // chunk 마다 별도 트랜잭션으로 커밋 (시작 잔액 1번 + 합산 2번)
+            verify(transactionManager, times(3)).commit(any());
+        }
+
+        @Test
+        @DisplayName("한 번에 최대 chunk 수까지만 합산하고 나머지는 다음 실행에서 이어서 합산")
+        void maxChunksPerRun() {
+            given(pointSnapshotRepository.findLastSnapshotPointId())
+                    .willReturn(0L);
+            given(pointRepository.findLastPointIdBefore(eq(0L), any()))
+                    .willReturn(1000L);
+            given(pointSnapshotRepository.insertSnapshots(anyLong(), anyLong(), eq(debits), any()))
+                    .willReturn(1);
+
+            pointSnapshotService.takeSnapshots();
+
+            verify(pointSnapshotRepository, times(MAX_CHUNKS_PER_RUN)).insertSnapshots(anyLong(), anyLong(), any(), any());
+            verify(pointSnapshotRepository).insertSnapshots(eq(200L), eq(300L), eq(debits), any());
+        }
+
+        @Test
+        @DisplayName("다른 노드가 같은 구간 스냅샷을 먼저 저장했으면 중복 합산하지 않고 중단")
+        void duplicateRun() {
+            given(pointSnapshotRepository.findLastSnapshotPointId())
+                    .willReturn(100L);
+            given(pointRepository.findLastPointIdBefore(eq(100L), any()))
+                    .willReturn(350L);
+            given(pointSnapshotRepository.insertSnapshots(eq(100L), eq(200L), eq(debits), any()))
+                    .willThrow(new DuplicateKeyException("uk_point_snapshot_user_last_point"));
+
+            pointSnapshotService.takeSnapshots();
+
+            verify(pointSnapshotRepository, times(1)).insertSnapshots(anyLong(), anyLong(), any(), any());
+            verify(transactionManager).rollback(any());
+        }
+
+        @Test
+        @DisplayName("커밋 지연 시간이 지난 새 원장이 없으면 합산하지 않음")
+        void nothingToFold() {
+            given(pointSnapshotRepository.findLastSnapshotPointId())
+                    .willReturn(100L);
+            given(pointRepository.findLastPointIdBefore(eq(100L), any()))
+                    .willReturn(100L);
+
+            pointSnapshotService.takeSnapshots();
+
+            verify(pointSnapshotRepository, never()).insertSnapshots(anyLong(), anyLong(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("시작 잔액 스냅샷 테스트")
+    class OpeningSnapshot {
+
+        @BeforeEach
+        void setUp() {
+            given(pointSnapshotRepository.findLastSnapshotPointId())
+                    .willReturn(100L);
+        }
+
+        @Test
+        @DisplayName("스냅샷이 없는 회원은 현재 스냅샷 진행 위치 기준으로 chunk 단위 시작 잔액 스냅샷 저장 후 원장 합산")
+        void openingBeforeFold() {
+            given(pointSnapshotRepository.insertOpeningSnapshots(eq(100L), eq(debits), any(), eq(CHUNK_SIZE)))
+                    .willReturn(CHUNK_SIZE, 30);
+            given(pointRepository.findLastPointIdBefore(eq(100L), any()))
+                    .willReturn(150L);
+
+            pointSnapshotService.takeSnapshots();
+
+            InOrder inOrder = inOrder(pointSnapshotRepository);
+            inOrder.verify(pointSnapshotRepository, times(2)).insertOpeningSnapshots(eq(100L), eq(debits), any(), eq(CHUNK_SIZE));
+            inOrder.verify(pointSnapshotRepository).insertSnapshots(eq(100L), eq(150L), eq(debits), any());
+        }
+
+        @Test
+        @DisplayName("다른 노드가 같은 회원의 시작 잔액 스냅샷을 먼저 저장했으면 중단하고 원장 합산은 계속")
+        void concurrentOpening() {
+            given(pointSnapshotRepository.insertOpeningSnapshots(eq(100L), eq(debits), any(), eq(CHUNK_SIZE)))
+                    .willThrow(new DuplicateKeyException("uk_point_snapshot_user_last_point"));
+            given(pointRepository.findLastPointIdBefore(eq(100L), any()))
+                    .willReturn(150L);
+            given(pointSnapshotRepository.insertSnapshots(eq(100L), eq(150L), eq(debits), any()))
+                    .willReturn(1);
+
+            pointSnapshotService.takeSnapshots();
+
+            verify(pointSnapshotRepository, times(1)).insertOpeningSnapshots(anyLong(), any(), any(), anyInt());
+            verify(pointSnapshotRepository).insertSnapshots(eq(100L), eq(150L), eq(debits), any());
+        }
+    }
+}
@@ -7,11 +7,17 @@ import com.shoekream.common.util.FileUtil;
 import com.shoekream.domain.brand.Brand;
 import com.shoekream.domain.brand.BrandRepository;
 import com.shoekream.domain.product.Product;
+import com.shoekream.domain.product.ProductCatalog;
 import com.shoekream.domain.product.ProductRepository;
 import com.shoekream.domain.product.dto.ProductCreateRequest;
 import com.shoekream.domain.product.dto.ProductCreateResponse;
 import com.shoekream.domain.product.dto.ProductDeleteResponse;
+import com.shoekream.domain.product.dto.BidLadderResponse;
 import com.shoekream.domain.product.dto.ProductInfo;
+import com.shoekream.domain.trade.orderbook.BidSide;
+import com.shoekream.domain.trade.orderbook.OrderBook;
+import com.shoekream.domain.trade.orderbook.OrderBookManager;
+import com.shoekream.domain.trade.orderbook.PriceLevel;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -45,6 +51,12 @@ class ProductServiceTest {
     @Mock
     AwsS3Service awsS3Service;
 
+    @Mock
+    OrderBookManager orderBookManager;
+
+    @Mock
+    ProductCatalog productCatalog;
+
     @InjectMocks
     private ProductService productService;
 
@@ -80,21 +92,44 @@ class ProductServiceTest {
         @DisplayName("상품 조회 성공")
         void getProductInfoSuccess() {
 
-            given(productRepository.findById(anyLong())).willReturn(Optional.of(product));
+            given(productCatalog.getStaticInfo(anyLong())).willReturn(product.toProductStaticInfo());
 
             ProductInfo productInfo = productService.getProductInfo(product.getId());
 
             assertThat(productInfo.getId()).isEqualTo(1L);
             assertThat(productInfo.getName()).isEqualTo("name");
 
-            then(productRepository).should(times(1)).findById(anyLong());
+            then(productCatalog).should(times(1)).getStaticInfo(anyLong());
+        }
+
+        @Test
+        @DisplayName("상품 조회 성공 - 사이즈별 시세는 호가창에서 조회해 정적 정보와 합침")
+        void getProductInfoWithMarket() {
+
+            Product sizedProduct = Product.builder().id(1L).name("name").minSize(250.0).maxSize(260.0).sizeGap(5.0)
+                    .brand(brand).build();
+            OrderBook orderBook = new OrderBook();
+            orderBook.addSaleBid(10L, 200000L);
+            orderBook.addPurchaseBid(11L, 180000L);
+
+            given(productCatalog.getStaticInfo(anyLong())).willReturn(sizedProduct.toProductStaticInfo());
+            given(orderBookManager.findOrderBook(anyLong(), anyDouble())).willReturn(Optional.empty());
+            given(orderBookManager.findOrderBook(1L, 255.0)).willReturn(Optional.of(orderBook));
+
+            ProductInfo productInfo = productService.getProductInfo(1L);
+
+            assertThat(productInfo.getSalesBids()).hasSize(1);
+            assertThat(productInfo.getSalesBids().get(0).getProductSize()).isEqualTo(255.0);
+            assertThat(productInfo.getSalesBids().get(0).getPrice()).isEqualTo(200000L);
+            assertThat(productInfo.getPurchaseBids().get(0).getPrice()).isEqualTo(180000L);
+            then(orderBookManager).should(times(3)).findOrderBook(anyLong(), anyDouble());
         }
 
         @Test
         @DisplayName("상품 조회 실패 - 일치하는 상품 없음")
         void getProductInfoFail() {
 
-            given(productRepository.findById(anyLong())).willReturn(Optional.empty());
+            given(productCatalog.getStaticInfo(anyLong())).willThrow(new ShoeKreamException(ErrorCode.PRODUCT_NOT_FOUND));
 
             ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class,
                     () -> productService.getProductInfo(product.getId()));
@@ -102,7 +137,46 @@ class ProductServiceTest {
             assertThat(shoeKreamException.getErrorCode()).isEqualTo(ErrorCode.PRODUCT_NOT_FOUND);
             assertThat(shoeKreamException.getErrorCode().getMessage()).isEqualTo("해당 상품을 찾을 수 없습니다.");
 
-            then(productRepository).should(times(1)).findById(anyLong());
+            then(productCatalog).should(times(1)).getStaticInfo(anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("호가 조회")
+    class GetBidLadder {
+
+        Product sizedProduct = Product.builder().id(1L).name("name").minSize(220.0).maxSize(300.0).sizeGap(5.0).brand(brand).build();
+
+        @Test
+        @DisplayName("호가 조회 성공 - 조회한 레벨 수가 limit과 같으면 마지막 가격을 다음 cursor로 반환")
+        void getBidLadderSuccess() {
+
+            OrderBook orderBook = new OrderBook();
+            orderBook.addSaleBid(1L, 200000L);
+            orderBook.addSaleBid(2L, 200000L);
+            orderBook.addSaleBid(3L, 210000L);
+            orderBook.addSaleBid(4L, 220000L);
+
+            given(productRepository.findById(anyLong())).willReturn(Optional.of(sizedProduct));
+            given(orderBookManager.findOrderBook(1L, 260.0)).willReturn(Optional.of(orderBook));
+
+            BidLadderResponse response = productService.getBidLadder(1L, 260.0, BidSide.SALE, null, 2);
+
+            assertThat(response.getLevels()).extracting(PriceLevel::getPrice).containsExactly(200000L, 210000L);
+            assertThat(response.getLevels()).extracting(PriceLevel::getQuantity).containsExactly(2, 1);
+            assertThat(response.getNextCursor()).isEqualTo(210000L);
+        }
+
+        @Test
+        @DisplayName("호가 조회 실패 - 상품에 없는 사이즈")
+        void getBidLadderFail() {
+
+            given(productRepository.findById(anyLong())).willReturn(Optional.of(sizedProduct));
+
+            ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class,
+                    () -> productService.getBidLadder(1L, 310.0, BidSide.SALE, null, 20));
+
+            assertThat(shoeKreamException.getErrorCode()).isEqualTo(ErrorCode.NOT_ALLOWED_PRODUCT_SIZE);
         }
     }
 
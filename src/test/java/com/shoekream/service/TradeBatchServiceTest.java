@@ -0,0 +1,102 @@
+package com.shoekream.service;
+
+import com.shoekream.domain.trade.TradeRepository;
+import com.shoekream.domain.trade.TradeStatus;
+import com.shoekream.domain.trade.TradeStatusView;
+import com.shoekream.domain.trade.dto.TradeBatchResponse;
+import com.shoekream.domain.trade.dto.TradeTransitionResult;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static com.shoekream.common.exception.ErrorCode.*;
+import static com.shoekream.domain.trade.TradeStatus.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TradeBatchServiceTest {
+
+    @Mock
+    private TradeRepository tradeRepository;
+
+    @InjectMocks
+    private TradeBatchService tradeBatchService;
+
+    private TradeStatusView view(Long id, TradeStatus status) {
+        return new TradeStatusView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public TradeStatus getStatus() {
+                return status;
+            }
+        };
+    }
+
+    @Nested
+    @DisplayName("일괄 상태 변경 테스트")
+    class TransitStatuses {
+
+        @Test
+        @DisplayName("거래별로 없는 거래 · 상태가 다른 거래 · 동시에 변경된 거래를 구분해 결과 반환")
+        void mixedResults() {
+            List<Long> ids = List.of(1L, 2L, 3L, 4L);
+            given(tradeRepository.findStatusesByIdIn(ids))
+                    .willReturn(List.of(view(1L, PRE_WAREHOUSING), view(3L, PRE_INSPECTION), view(4L, PRE_WAREHOUSING)))
+                    .willReturn(List.of(view(1L, PRE_INSPECTION), view(3L, PRE_INSPECTION), view(4L, CANCEL)));
+            // 조회 이후 4번 거래가 먼저 취소되어 한 건만 변경됨
+            given(tradeRepository.updateStatusByIdIn(ids, PRE_WAREHOUSING, PRE_INSPECTION))
+                    .willReturn(1);
+
+            TradeBatchResponse response = tradeBatchService.confirmWarehousings(List.of(1L, 2L, 3L, 4L, 1L));
+
+            assertThat(response.getStatus()).isEqualTo(PRE_INSPECTION);
+            assertThat(response.getRequestCount()).isEqualTo(4);
+            assertThat(response.getSuccessCount()).isEqualTo(1);
+            assertThat(response.getResults())
+                    .extracting(TradeTransitionResult::getTradeId, TradeTransitionResult::isSuccess, TradeTransitionResult::getStatus, TradeTransitionResult::getFailReason)
+                    .containsExactly(
+                            tuple(1L, true, PRE_INSPECTION, null),
+                            tuple(2L, false, null, TRADE_NOT_FOUND.getMessage()),
+                            tuple(3L, false, PRE_INSPECTION, NOT_ALLOWED_TRADE_STATUS.getMessage()),
+                            tuple(4L, false, CANCEL, NOT_ALLOWED_TRADE_STATUS.getMessage()));
+        }
+
+        @Test
+        @DisplayName("모두 예상한 만큼 변경되면 상태를 다시 조회하지 않음")
+        void allUpdated() {
+            List<Long> ids = List.of(1L, 2L);
+            given(tradeRepository.findStatusesByIdIn(ids))
+                    .willReturn(List.of(view(1L, PRE_INSPECTION), view(2L, PRE_INSPECTION)));
+            given(tradeRepository.updateStatusByIdIn(ids, PRE_INSPECTION, PRE_SHIPMENT))
+                    .willReturn(2);
+
+            TradeBatchResponse response = tradeBatchService.confirmInspections(ids);
+
+            assertThat(response.getSuccessCount()).isEqualTo(2);
+            verify(tradeRepository, times(1)).findStatusesByIdIn(ids);
+        }
+
+        @Test
+        @DisplayName("변경할 수 있는 거래가 없으면 UPDATE 하지 않음")
+        void nothingToUpdate() {
+            List<Long> ids = List.of(1L);
+            given(tradeRepository.findStatusesByIdIn(ids))
+                    .willReturn(List.of(view(1L, PRE_SHIPMENT)));
+
+            TradeBatchResponse response = tradeBatchService.confirmWarehousings(ids);
+
+            assertThat(response.getSuccessCount()).isZero();
+            verify(tradeRepository, never()).updateStatusByIdIn(any(), any(), any());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.shoekream.service;
+
+import com.shoekream.domain.trade.ExpiredTrade;
+import com.shoekream.domain.trade.TradeExpiryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TradeExpiryServiceTest {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final LocalDateTime INITIAL_CURSOR_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Mock
+    private TradeExpiryRepository tradeExpiryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TradeExpiryService tradeExpiryService;
+
+    LocalDateTime modifiedDate;
+
+    @BeforeEach
+    void setUp() {
+        tradeExpiryService = new TradeExpiryService(tradeExpiryRepository, transactionManager, 72, CHUNK_SIZE, 200);
+        modifiedDate = LocalDateTime.of(2023, 5, 1, 12, 0);
+    }
+
+    private List<ExpiredTrade> chunk(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> new ExpiredTrade(id, 1L, 1000L, modifiedDate.plusSeconds(id)))
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("판매자 미발송 거래 자동 취소 테스트")
+    class ExpireOverdueTrades {
+
+        @Test
+        @DisplayName("기한이 지난 거래를 취소하고 구매자가 있는 거래만 환불")
+        void cancelAndRefund() {
+            ExpiredTrade first = new ExpiredTrade(1L, 1L, 300L, modifiedDate);
+            ExpiredTrade second = new ExpiredTrade(2L, 1L, 500L, modifiedDate);
+            ExpiredTrade withoutBuyer = new ExpiredTrade(3L, null, 200L, modifiedDate);
+            ExpiredTrade third = new ExpiredTrade(4L, 1L, 100L, modifiedDate.plusSeconds(1));
+            List<ExpiredTrade> expired = List.of(first, second, withoutBuyer, third);
+            given(tradeExpiryRepository.findOverdueForUpdate(any(), eq(INITIAL_CURSOR_DATE), eq(0L), eq(CHUNK_SIZE)))
+                    .willReturn(expired);
+
+            tradeExpiryService.expireOverdueTrades();
+
+            verify(tradeExpiryRepository).cancel(eq(expired), anyString(), any());
+            verify(tradeExpiryRepository).refund(eq(List.of(first, second, third)), any());
+            // chunk 크기보다 적게 조회되면 다음 chunk 를 조회하지 않음
+            verify(tradeExpiryRepository, times(1)).findOverdueForUpdate(any(), any(), any(), anyInt());
+            verify(transactionManager, times(1)).commit(any());
+        }
+
+        @Test
+        @DisplayName("chunk 가 가득 차면 마지막 거래의 (lastModifiedDate, id) 다음부터 이어서 조회")
+        void cursorMovesPastFullChunk() {
+            List<ExpiredTrade> firstChunk = chunk(1L, CHUNK_SIZE);
+            List<ExpiredTrade> secondChunk = chunk(CHUNK_SIZE + 1L, CHUNK_SIZE + 3L);
+            ExpiredTrade last = firstChunk.get(CHUNK_SIZE - 1);
+            given(tradeExpiryRepository.findOverdueForUpdate(any(), eq(INITIAL_CURSOR_DATE), eq(0L), eq(CHUNK_SIZE)))
+                    .willReturn(firstChunk);
+            given(tradeExpiryRepository.findOverdueForUpdate(any(), eq(last.getLastModifiedDate()), eq(last.getId()), eq(CHUNK_SIZE)))
+                    .willReturn(secondChunk);
+
+            tradeExpiryService.expireOverdueTrades();
+
+            verify(tradeExpiryRepository).cancel(eq(firstChunk), anyString(), any());
+            verify(tradeExpiryRepository).cancel(eq(secondChunk), anyString(), any());
+            verify(tradeExpiryRepository, times(2)).findOverdueForUpdate(any(), any(), any(), anyInt());
+            // chunk 마다 별도 트랜잭션으로 커밋
+            verify(transactionManager, times(2)).commit(any());
+        }
+
+        @Test
+        @DisplayName("기한이 지난 거래가 없으면 취소 · 환불하지 않음")
+        void nothingToExpire() {
+            given(tradeExpiryRepository.findOverdueForUpdate(any(), eq(INITIAL_CURSOR_DATE), eq(0L), eq(CHUNK_SIZE)))
+                    .willReturn(List.of());
+
+            tradeExpiryService.expireOverdueTrades();
+
+            verify(tradeExpiryRepository, never()).cancel(any(), any(), any());
+            verify(tradeExpiryRepository, never()).refund(any(), any());
+        }
+    }
+}
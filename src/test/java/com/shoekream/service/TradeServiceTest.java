@@ -0,0 +1,568 @@
+package com.shoekream.service;
+
+import com.shoekream.common.exception.ShoeKreamException;
+import com.shoekream.dao.TradeClaimDao;
+import com.shoekream.domain.address.Address;
+import com.shoekream.domain.address.AddressRepository;
+import com.shoekream.domain.brand.Brand;
+import com.shoekream.domain.point.PointBalanceManager;
+import com.shoekream.domain.product.Product;
+import com.shoekream.domain.product.ProductRepository;
+import com.shoekream.domain.product.dto.ProductInfoFromTrade;
+import com.shoekream.domain.trade.Trade;
+import com.shoekream.domain.trade.TradeRepository;
+import com.shoekream.domain.trade.TradeStatus;
+import com.shoekream.domain.trade.TradeValidator;
+import com.shoekream.domain.trade.dto.ImmediatePurchaseRequest;
+import com.shoekream.domain.trade.dto.ImmediatePurchaseResponse;
+import com.shoekream.domain.trade.dto.ImmediateSaleRequest;
+import com.shoekream.domain.trade.dto.ReasonRequest;
+import com.shoekream.domain.trade.dto.SendingProductRequest;
+import com.shoekream.domain.trade.dto.TradeInfos;
+import com.shoekream.domain.trade.orderbook.OrderBook;
+import com.shoekream.domain.trade.orderbook.OrderBookManager;
+import com.shoekream.domain.user.User;
+import com.shoekream.domain.user.UserPrincipalResolver;
+import com.shoekream.domain.user.UserRepository;
+import com.shoekream.domain.user.UserRole;
+import com.shoekream.domain.user.dto.UserPrincipal;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static com.shoekream.common.exception.ErrorCode.*;
+import static com.shoekream.domain.point.PointDivision.*;
+import static com.shoekream.domain.trade.TradeStatus.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TradeServiceTest {
+
+    @Mock
+    private TradeRepository tradeRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AddressRepository addressRepository;
+
+    @Mock
+    private UserPrincipalResolver userPrincipalResolver;
+
+    @Mock
+    private PointBalanceManager pointBalanceManager;
+
+    @Spy
+    private TradeValidator validator;
+
+    @Mock
+    private OrderBookManager orderBookManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TradeClaimDao tradeClaimDao;
+
+    @InjectMocks
+    private TradeService tradeService;
+
+    @Mock
+    private User user;
+
+    @Mock
+    private User otherUser;
+
+    String email;
+    Product product;
+    Address address;
+    Double productSize;
+
+    @BeforeEach
+    void setUp() {
+        email = "email";
+        lenient().when(user.getId()).thenReturn(1L);
+        lenient().when(otherUser.getId()).thenReturn(2L);
+        product = Product.builder().id(1L).minSize(220.0).maxSize(300.0).build();
+        address = Address.builder().id(1L).build();
+        productSize = 260.0;
+    }
+
+    // 요청 회원 · 주소 확인 (가입된 회원의 본인 주소)
+    private void givenUserAndAddress() {
+        given(userPrincipalResolver.resolve(email))
+                .willReturn(new UserPrincipal(1L, email, UserRole.ROLE_USER));
+        given(userRepository.getReferenceById(1L))
+                .willReturn(user);
+        given(addressRepository.findByIdAndUserId(1L, 1L))
+                .willReturn(Optional.of(address));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenTransactionTemplate() {
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        lenient().doAnswer(invocation -> {
+            ((Consumer<Object>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Nested
+    @DisplayName("입찰 화면 정보 조회 테스트")
+    class GetTradeInfosForBid {
+
+        @BeforeEach
+        void setUp() {
+            product = Product.builder().id(1L).name("name").minSize(220.0).maxSize(300.0)
+                    .brand(Brand.builder().name("brand").build()).build();
+            given(userRepository.findWithAddressListByEmail(email))
+                    .willReturn(Optional.of(user));
+            given(productRepository.findById(1L))
+                    .willReturn(Optional.of(product));
+        }
+
+        @Test
+        @DisplayName("즉시 판매가는 호가창 최고 구매 입찰, 즉시 구매가는 최저 판매 입찰")
+        void immediatePricesFromOrderBook() {
+            OrderBook orderBook = new OrderBook();
+            orderBook.addPurchaseBid(10L, 200000L);
+            orderBook.addPurchaseBid(11L, 210000L);
+            orderBook.addSaleBid(20L, 250000L);
+            orderBook.addSaleBid(21L, 230000L);
+            given(orderBookManager.findOrderBook(1L, productSize))
+                    .willReturn(Optional.of(orderBook));
+
+            TradeInfos tradeInfos = tradeService.getTradeInfosForBid(1L, email, productSize);
+
+            ProductInfoFromTrade productInfo = tradeInfos.getProductInfoFromTrade();
+            assertThat(productInfo.getImmediateSale().getTradeId()).isEqualTo(11L);
+            assertThat(productInfo.getImmediateSale().getPrice()).isEqualTo(210000L);
+            assertThat(productInfo.getImmediatePurchase().getTradeId()).isEqualTo(21L);
+            assertThat(productInfo.getImmediatePurchase().getPrice()).isEqualTo(230000L);
+            verify(tradeRepository, never()).findHighestPurchaseBidPrice(any(), any(), any());
+            verify(tradeRepository, never()).findLowestSaleBidPrice(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("호가창이 없으면 즉시 판매가 · 즉시 구매가 없음")
+        void emptyOrderBook() {
+            given(orderBookManager.findOrderBook(1L, productSize))
+                    .willReturn(Optional.empty());
+
+            TradeInfos tradeInfos = tradeService.getTradeInfosForBid(1L, email, productSize);
+
+            assertThat(tradeInfos.getProductInfoFromTrade().getImmediateSale()).isNull();
+            assertThat(tradeInfos.getProductInfoFromTrade().getImmediatePurchase()).isNull();
+        }
+
+        @Test
+        @DisplayName("입찰이 모두 빠진 빈 호가창이면 즉시 판매가 · 즉시 구매가 없음")
+        void drainedOrderBook() {
+            OrderBook orderBook = new OrderBook();
+            orderBook.addSaleBid(20L, 230000L);
+            orderBook.remove(20L);
+            given(orderBookManager.findOrderBook(1L, productSize))
+                    .willReturn(Optional.of(orderBook));
+
+            TradeInfos tradeInfos = tradeService.getTradeInfosForBid(1L, email, productSize);
+
+            assertThat(tradeInfos.getProductInfoFromTrade().getImmediateSale()).isNull();
+            assertThat(tradeInfos.getProductInfoFromTrade().getImmediatePurchase()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("즉시 구매 버전 충돌 재시도 테스트")
+    class ImmediatePurchaseRetry {
+
+        Trade saleBid;
+        ImmediatePurchaseRequest request;
+
+        @BeforeEach
+        void setUp() {
+            saleBid = Trade.builder().id(30L).seller(otherUser).product(product).status(PRE_OFFER).price(230000L).version(3L).build();
+            request = ImmediatePurchaseRequest.builder().tradeId(30L).addressId(1L).build();
+
+            givenTransactionTemplate();
+            givenUserAndAddress();
+            given(tradeRepository.findById(30L))
+                    .willReturn(Optional.of(saleBid));
+            given(tradeClaimDao.claim(30L))
+                    .willReturn(Optional.of("token"));
+        }
+
+        @Test
+        @DisplayName("조회한 버전으로 구매자를 지정하면 포인트 차감 후 체결")
+        void purchaseSuccess() {
+            given(tradeRepository.claimSaleBid(30L, 3L, user, address))
+                    .willReturn(1);
+
+            ImmediatePurchaseResponse response = tradeService.immediatePurchase(email, request);
+
+            assertThat(response.isEligible()).isTrue();
+            verify(orderBookManager).removeBid(saleBid);
+            verify(pointBalanceManager).record(user, PURCHASE_DEDUCTION, 230000L);
+        }
+
+        @Test
+        @DisplayName("버전이 바뀌어 지정하지 못하면 다시 조회해 재시도")
+        void retryOnVersionConflict() {
+            given(tradeRepository.claimSaleBid(30L, 3L, user, address))
+                    .willReturn(0)
+                    .willReturn(1);
+
+            ImmediatePurchaseResponse response = tradeService.immediatePurchase(email, request);
+
+            assertThat(response.isEligible()).isTrue();
+            verify(transactionTemplate, times(2)).execute(any());
+            verify(tradeRepository, times(2)).findById(30L);
+            verify(pointBalanceManager, times(1)).record(user, PURCHASE_DEDUCTION, 230000L);
+        }
+
+        @Test
+        @DisplayName("재시도 횟수를 모두 충돌하면 실패 응답 반환")
+        void failAfterMaxAttempts() {
+            given(tradeRepository.claimSaleBid(30L, 3L, user, address))
+                    .willReturn(0);
+
+            ImmediatePurchaseResponse response = tradeService.immediatePurchase(email, request);
+
+            assertThat(response.isEligible()).isFalse();
+            assertThat(response.getRejectReason()).isEqualTo("구매 요청이 몰려 처리하지 못했습니다. 다시 시도해주세요.");
+            verify(tradeRepository, times(3)).claimSaleBid(30L, 3L, user, address);
+            verify(pointBalanceManager, never()).record(any(), any(), any());
+            verify(orderBookManager, never()).removeBid(any(Trade.class));
+            verify(tradeClaimDao).release(30L, "token");
+        }
+    }
+
+    @Nested
+    @DisplayName("즉시 거래 선점 테스트")
+    class TradeClaim {
+
+        @Test
+        @DisplayName("다른 요청이 선점한 거래는 트랜잭션 없이 즉시 구매 실패 응답")
+        void immediatePurchaseClaimMiss() {
+            given(tradeClaimDao.claim(30L))
+                    .willReturn(Optional.empty());
+
+            ImmediatePurchaseRequest request = ImmediatePurchaseRequest.builder().tradeId(30L).addressId(1L).build();
+            ImmediatePurchaseResponse response = tradeService.immediatePurchase(email, request);
+
+            assertThat(response.isEligible()).isFalse();
+            verify(transactionTemplate, never()).execute(any());
+            verify(tradeClaimDao, never()).release(anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("다른 요청이 선점한 거래는 트랜잭션 없이 즉시 판매 실패")
+        void immediateSaleClaimMiss() {
+            given(tradeClaimDao.claim(31L))
+                    .willReturn(Optional.empty());
+
+            ImmediateSaleRequest request = ImmediateSaleRequest.builder().tradeId(31L).addressId(1L).build();
+
+            ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class, () -> tradeService.immediateSale(email, request));
+            assertThat(shoeKreamException.getErrorCode()).isEqualTo(TRADE_ALREADY_CLAIMED);
+
+            verify(transactionTemplate, never()).executeWithoutResult(any());
+            verify(tradeClaimDao, never()).release(anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("즉시 판매 중 예외가 발생해도 선점 해제")
+        void immediateSaleReleaseOnException() {
+            givenTransactionTemplate();
+            given(tradeClaimDao.claim(31L))
+                    .willReturn(Optional.of("token"));
+            given(userPrincipalResolver.resolve(email))
+                    .willReturn(new UserPrincipal(1L, email, UserRole.ROLE_USER));
+            given(userRepository.getReferenceById(1L))
+                    .willReturn(user);
+            given(tradeRepository.findById(31L))
+                    .willReturn(Optional.empty());
+
+            ImmediateSaleRequest request = ImmediateSaleRequest.builder().tradeId(31L).addressId(1L).build();
+
+            ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class, () -> tradeService.immediateSale(email, request));
+            assertThat(shoeKreamException.getErrorCode()).isEqualTo(TRADE_NOT_FOUND);
+
+            verify(tradeClaimDao).release(31L, "token");
+        }
+
+        @Test
+        @DisplayName("이미 판매자가 지정된 구매 입찰이면 즉시 판매 실패 후 선점 해제")
+        void immediateSaleAlreadyClaimed() {
+            givenTransactionTemplate();
+            givenUserAndAddress();
+            given(tradeClaimDao.claim(31L))
+                    .willReturn(Optional.of("token"));
+            Trade purchaseBid = Trade.builder().id(31L).buyer(otherUser).product(product).status(PRE_OFFER).price(210000L).version(0L).build();
+            given(tradeRepository.findById(31L))
+                    .willReturn(Optional.of(purchaseBid));
+            given(tradeRepository.claimPurchaseBid(31L, user, address))
+                    .willReturn(0);
+
+            ImmediateSaleRequest request = ImmediateSaleRequest.builder().tradeId(31L).addressId(1L).build();
+
+            ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class, () -> tradeService.immediateSale(email, request));
+            assertThat(shoeKreamException.getErrorCode()).isEqualTo(TRADE_ALREADY_CLAIMED);
+
+            verify(orderBookManager, never()).removeBid(any(Trade.class));
+            verify(tradeClaimDao).release(31L, "token");
+        }
+
+        @Test
+        @DisplayName("즉시 구매 중 예외가 발생해도 선점 해제")
+        void immediatePurchaseReleaseOnException() {
+            givenTransactionTemplate();
+            givenUserAndAddress();
+            given(tradeClaimDao.claim(30L))
+                    .willReturn(Optional.of("token"));
+            Trade saleBid = Trade.builder().id(30L).seller(otherUser).product(product).status(PRE_OFFER).price(230000L).version(0L).build();
+            given(tradeRepository.findById(30L))
+                    .willReturn(Optional.of(saleBid));
+            given(tradeRepository.claimSaleBid(30L, 0L, user, address))
+                    .willReturn(1);
+            willThrow(new ShoeKreamException(NOT_ALLOWED_WITHDRAWAL_POINT))
+                    .given(pointBalanceManager).record(user, PURCHASE_DEDUCTION, 230000L);
+
+            ImmediatePurchaseRequest request = ImmediatePurchaseRequest.builder().tradeId(30L).addressId(1L).build();
+
+            ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class, () -> tradeService.immediatePurchase(email, request));
+            assertThat(shoeKreamException.getErrorCode()).isEqualTo(NOT_ALLOWED_WITHDRAWAL_POINT);
+
+            verify(tradeClaimDao).release(30L, "token");
+        }
+    }
+
+    @Nested
+    @DisplayName("본인 입찰 체결 방지 테스트")
+    class SelfTrade {
+
+        @Test
+        @DisplayName("본인의 판매 입찰은 즉시 구매할 수 없음")
+        void immediatePurchaseOwnSaleBid() {
+            givenTransactionTemplate();
+            given(userPrincipalResolver.resolve(email))
+                    .willReturn(new UserPrincipal(1L, email, UserRole.ROLE_USER));
+            given(userRepository.getReferenceById(1L))
+                    .willReturn(user);
+            Trade trade = Trade.builder().id(30L).seller(user).product(product).status(PRE_OFFER).price(230000L).version(0L).build();
+            given(tradeRepository.findById(30L))
+                    .willReturn(Optional.of(trade));
+            given(tradeClaimDao.claim(30L))
+                    .willReturn(Optional.of("token"));
+
+            ImmediatePurchaseRequest request = ImmediatePurchaseRequest.builder().tradeId(30L).addressId(1L).build();
+
+            ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class, () -> tradeService.immediatePurchase(email, request));
+            assertThat(shoeKreamException.getErrorCode()).isEqualTo(SELF_TRADE_NOT_ALLOWED);
+
+            verify(tradeRepository, never()).claimSaleBid(anyLong(), anyLong(), any(), any());
+            verify(tradeClaimDao).release(30L, "token");
+        }
+
+        @Test
+        @DisplayName("본인의 구매 입찰에는 즉시 판매할 수 없음")
+        void immediateSaleOwnPurchaseBid() {
+            givenTransactionTemplate();
+            given(userPrincipalResolver.resolve(email))
+                    .willReturn(new UserPrincipal(1L, email, UserRole.ROLE_USER));
+            given(userRepository.getReferenceById(1L))
+                    .willReturn(user);
+            Trade trade = Trade.builder().id(31L).buyer(user).product(product).status(PRE_OFFER).price(210000L).version(0L).build();
+            given(tradeRepository.findById(31L))
+                    .willReturn(Optional.of(trade));
+            given(tradeClaimDao.claim(31L))
+                    .willReturn(Optional.of("token"));
+
+            ImmediateSaleRequest request = ImmediateSaleRequest.builder().tradeId(31L).addressId(1L).build();
+
+            ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class, () -> tradeService.immediateSale(email, request));
+            assertThat(shoeKreamException.getErrorCode()).isEqualTo(SELF_TRADE_NOT_ALLOWED);
+
+            verify(tradeRepository, never()).claimPurchaseBid(anyLong(), any(), any());
+            verify(tradeClaimDao).release(31L, "token");
+        }
+    }
+
+    @Nested
+    @DisplayName("다른 회원 주소 사용 방지 테스트")
+    class OtherUserAddress {
+
+        // 2번 주소는 다른 회원의 주소 - 요청 회원의 주소록에서 조회되지 않음
+        @BeforeEach
+        void setUp() {
+            given(userPrincipalResolver.resolve(email))
+                    .willReturn(new UserPrincipal(1L, email, UserRole.ROLE_USER));
+            given(userRepository.getReferenceById(1L))
+                    .willReturn(user);
+            given(addressRepository.findByIdAndUserId(2L, 1L))
+                    .willReturn(Optional.empty());
+        }
+
+        @Test
+        @DisplayName("다른 회원의 주소로 즉시 구매할 수 없음")
+        void immediatePurchase() {
+            givenTransactionTemplate();
+            Trade saleBid = Trade.builder().id(30L).seller(otherUser).product(product).status(PRE_OFFER).price(230000L).version(0L).build();
+            given(tradeRepository.findById(30L))
+                    .willReturn(Optional.of(saleBid));
+            given(tradeClaimDao.claim(30L))
+                    .willReturn(Optional.of("token"));
+
+            ImmediatePurchaseRequest request = ImmediatePurchaseRequest.builder().tradeId(30L).addressId(2L).build();
+
+            ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class, () -> tradeService.immediatePurchase(email, request));
+            assertThat(shoeKreamException.getErrorCode()).isEqualTo(ADDRESS_NOT_FOUND);
+
+            verify(tradeRepository, never()).claimSaleBid(anyLong(), anyLong(), any(), any());
+            verify(pointBalanceManager, never()).record(any(), any(), anyLong());
+            verify(tradeClaimDao).release(30L, "token");
+        }
+
+        @Test
+        @DisplayName("다른 회원의 주소로 즉시 판매할 수 없음")
+        void immediateSale() {
+            givenTransactionTemplate();
+            Trade purchaseBid = Trade.builder().id(31L).buyer(otherUser).product(product).status(PRE_OFFER).price(210000L).version(0L).build();
+            given(tradeRepository.findById(31L))
+                    .willReturn(Optional.of(purchaseBid));
+            given(tradeClaimDao.claim(31L))
+                    .willReturn(Optional.of("token"));
+
+            ImmediateSaleRequest request = ImmediateSaleRequest.builder().tradeId(31L).addressId(2L).build();
+
+            ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class, () -> tradeService.immediateSale(email, request));
+            assertThat(shoeKreamException.getErrorCode()).isEqualTo(ADDRESS_NOT_FOUND);
+
+            verify(tradeRepository, never()).claimPurchaseBid(anyLong(), any(), any());
+            verify(tradeClaimDao).release(31L, "token");
+        }
+    }
+
+    @Nested
+    @DisplayName("단건 상태 변경 테스트")
+    class SingleTransition {
+
+        private Trade trade(Long id, TradeStatus status) {
+            Trade trade = Trade.builder().id(id).seller(otherUser).buyer(user).product(product).status(status).price(230000L).build();
+            given(tradeRepository.findById(id))
+                    .willReturn(Optional.of(trade));
+            return trade;
+        }
+
+        @Test
+        @DisplayName("입고 대기 상태면 검수 대기로 변경")
+        void confirmWarehousing() {
+            Trade trade = trade(40L, PRE_WAREHOUSING);
+
+            tradeService.confirmWarehousing(40L);
+
+            assertThat(trade.getStatus()).isEqualTo(PRE_INSPECTION);
+        }
+
+        @Test
+        @DisplayName("입고 대기 상태가 아니면 입고 확인 실패")
+        void confirmWarehousingNotPreWarehousing() {
+            Trade trade = trade(40L, PRE_INSPECTION);
+
+            ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class, () -> tradeService.confirmWarehousing(40L));
+            assertThat(shoeKreamException.getErrorCode()).isEqualTo(IS_NOT_PRE_WAREHOUSING);
+            assertThat(trade.getStatus()).isEqualTo(PRE_INSPECTION);
+        }
+
+        @Test
+        @DisplayName("검수 대기 상태가 아니면 검수 확인 실패")
+        void confirmInspectionNotPreInspection() {
+            trade(41L, PRE_SHIPMENT);
+
+            ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class, () -> tradeService.confirmInspection(41L));
+            assertThat(shoeKreamException.getErrorCode()).isEqualTo(IS_NOT_PRE_INSPECTION);
+        }
+
+        @Test
+        @DisplayName("판매자 발송 대기 상태는 취소 가능한 상태여도 검수 실패 처리 불가 (포인트 환불 없음)")
+        void inspectionFailedBeforeInspection() {
+            Trade trade = trade(42L, PRE_SELLER_SHIPMENT);
+
+            ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class,
+                    () -> tradeService.inspectionFailed(42L, ReasonRequest.builder().cancelReason("reason").build()));
+            assertThat(shoeKreamException.getErrorCode()).isEqualTo(IS_NOT_PRE_INSPECTION);
+            assertThat(trade.getStatus()).isEqualTo(PRE_SELLER_SHIPMENT);
+            verify(pointBalanceManager, never()).record(any(), any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("검수 대기 상태면 검수 실패 처리 후 구매자 포인트 환불")
+        void inspectionFailed() {
+            Trade trade = trade(42L, PRE_INSPECTION);
+
+            tradeService.inspectionFailed(42L, ReasonRequest.builder().cancelReason("reason").build());
+
+            assertThat(trade.getStatus()).isEqualTo(CANCEL);
+            verify(pointBalanceManager).record(user, PURCHASE_RETURN, 230000L);
+        }
+
+        @Test
+        @DisplayName("구매자 발송 대기 상태가 아니면 구매자 운송장 등록 실패")
+        void companyToBuyerNotPreShipment() {
+            trade(43L, PRE_INSPECTION);
+
+            ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class,
+                    () -> tradeService.updateCompanyToBuyerTrackingNumber(43L, SendingProductRequest.builder().trackingNumber("1234").build()));
+            assertThat(shoeKreamException.getErrorCode()).isEqualTo(IS_NOT_PRE_SHIPMENT);
+        }
+
+        @Test
+        @DisplayName("판매자 발송 대기 상태가 아니면 판매자 운송장 등록 실패")
+        void sellerToCompanyNotPreSellerShipment() {
+            given(userPrincipalResolver.resolve(email))
+                    .willReturn(new UserPrincipal(2L, email, UserRole.ROLE_USER));
+            trade(44L, PRE_WAREHOUSING);
+
+            ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class,
+                    () -> tradeService.updateSellerToCompanyTrackingNumber(email, 44L, SendingProductRequest.builder().trackingNumber("1234").build()));
+            assertThat(shoeKreamException.getErrorCode()).isEqualTo(NOT_ALLOWED_TRADE_STATUS);
+        }
+
+        @Test
+        @DisplayName("배송중 상태면 구매 확정 후 판매자에게 판매 대금 지급")
+        void confirmPurchase() {
+            given(user.getEmail()).willReturn(email);
+            Trade trade = trade(45L, SHIPPING);
+
+            tradeService.confirmPurchase(email, 45L);
+
+            assertThat(trade.getStatus()).isEqualTo(TRADE_COMPLETE);
+            verify(pointBalanceManager).record(otherUser, POINT_REVENUE, 230000L);
+        }
+
+        @Test
+        @DisplayName("이미 구매 확정된 거래는 다시 확정할 수 없음 (판매 대금 중복 지급 없음)")
+        void confirmPurchaseTwice() {
+            given(user.getEmail()).willReturn(email);
+            trade(45L, TRADE_COMPLETE);
+
+            ShoeKreamException shoeKreamException = assertThrows(ShoeKreamException.class, () -> tradeService.confirmPurchase(email, 45L));
+            assertThat(shoeKreamException.getErrorCode()).isEqualTo(NOT_ALLOWED_TRADE_STATUS);
+            verify(pointBalanceManager, never()).record(any(), any(), anyLong());
+        }
+    }
+}
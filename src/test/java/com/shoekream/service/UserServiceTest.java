@@ -4,6 +4,7 @@ import com.shoekream.common.exception.ShoeKreamException;
 import com.shoekream.domain.cart.Cart;
 import com.shoekream.domain.cart.CartRepository;
 import com.shoekream.domain.user.User;
+import com.shoekream.domain.user.UserPrincipalLoader;
 import com.shoekream.domain.user.UserRepository;
 import com.shoekream.domain.user.dto.*;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,6 +38,9 @@ class UserServiceTest {
     @Mock
     private BCryptPasswordEncoder encoder;
 
+    @Mock
+    private UserPrincipalLoader userPrincipalLoader;
+
     @Mock
     private User mockUser;
     @Mock
@@ -309,6 +313,7 @@ class UserServiceTest {
             assertDoesNotThrow(() -> userService.withdrawUser(userWithdrawRequest, email));
 
             verify(userRepository, atLeastOnce()).findByEmail(email);
+            verify(userPrincipalLoader).evictAfterCommit(email);
         }
 
         @Test
@@ -359,6 +364,7 @@ class UserServiceTest {
 
             verify(userRepository, atLeastOnce()).findByEmail(email);
             verify(mockUser, atLeastOnce()).checkPassword(encoder, userWithdrawRequest.getPassword());
+            verify(userPrincipalLoader, never()).evictAfterCommit(email);
 
         }
     }